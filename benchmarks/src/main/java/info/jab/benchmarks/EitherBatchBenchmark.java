@@ -0,0 +1,62 @@
+package info.jab.benchmarks;
+
+import info.jab.util.either.Either;
+import info.jab.util.either.EitherBatch;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mapping the Right values of a large group of outcomes, stored as {@code List<Either>} vs {@link EitherBatch}.
+ *
+ * The list variant allocates a new Right per row; the batch variant allocates one array for the Right values
+ * and shares the bitmap and the Left values.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+@State(Scope.Benchmark)
+public class EitherBatchBenchmark {
+
+    @Param({ "100000", "1000000" })
+    private int size;
+
+    private List<Either<String, Integer>> list;
+    private EitherBatch<String, Integer> batch;
+
+    @Setup
+    public void setup() {
+        list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(i % 10 == 0 ? Either.left("invalid") : Either.right(i));
+        }
+        batch = EitherBatch.of(list);
+    }
+
+    @Benchmark
+    public List<Either<String, Integer>> mapList() {
+        List<Either<String, Integer>> mapped = new ArrayList<>(list.size());
+        for (Either<String, Integer> either : list) {
+            mapped.add(either.map(value -> value + 1));
+        }
+        return mapped;
+    }
+
+    @Benchmark
+    public EitherBatch<String, Integer> mapBatch() {
+        return batch.map(value -> value + 1);
+    }
+}
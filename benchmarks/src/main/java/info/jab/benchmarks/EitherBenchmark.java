@@ -0,0 +1,78 @@
+package info.jab.benchmarks;
+
+import info.jab.util.either.Either;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Happy path (Right) versus error path (Left) cost of the core {@link Either} operations.
+ *
+ * Run with {@code -prof gc} to get {@code gc.alloc.rate.norm} (bytes allocated per operation).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+@State(Scope.Benchmark)
+public class EitherBenchmark {
+
+    private static final Function<Integer, Integer> INCREMENT = value -> value + 1;
+    private static final Function<Integer, Either<String, Integer>> HALF = value -> Either.right(value / 2);
+    private static final Function<String, Integer> ON_LEFT = String::length;
+    private static final Function<Integer, Integer> ON_RIGHT = Function.identity();
+    private static final Supplier<Integer> DEFAULT_VALUE = () -> -1;
+
+    private final Either<String, Integer> right = Either.right(42);
+    private final Either<String, Integer> left = Either.left("error");
+
+    @Benchmark
+    public Either<String, Integer> mapRight() {
+        return right.map(INCREMENT);
+    }
+
+    @Benchmark
+    public Either<String, Integer> mapLeft() {
+        return left.map(INCREMENT);
+    }
+
+    @Benchmark
+    public Either<String, Integer> flatMapRight() {
+        return right.flatMap(HALF);
+    }
+
+    @Benchmark
+    public Either<String, Integer> flatMapLeft() {
+        return left.flatMap(HALF);
+    }
+
+    @Benchmark
+    public Integer foldRight() {
+        return right.fold(ON_LEFT, ON_RIGHT);
+    }
+
+    @Benchmark
+    public Integer foldLeft() {
+        return left.fold(ON_LEFT, ON_RIGHT);
+    }
+
+    @Benchmark
+    public Integer getOrElseRight() {
+        return right.getOrElse(DEFAULT_VALUE);
+    }
+
+    @Benchmark
+    public Integer getOrElseLeft() {
+        return left.getOrElse(DEFAULT_VALUE);
+    }
+}
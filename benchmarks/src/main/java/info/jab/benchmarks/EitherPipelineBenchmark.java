@@ -0,0 +1,69 @@
+package info.jab.benchmarks;
+
+import info.jab.util.either.Either;
+import info.jab.util.either.EitherPipeline;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The email validation chain of EmailValidatorTest, rebuilt as a flatMap chain on every call vs an {@link EitherPipeline} built once.
+ *
+ * In an application, {@code Either.flatMap} and {@code EitherPipeline.apply} are called with many different functions.
+ * The setup runs other chains and pipelines first, so that neither call site is profiled with the benchmarked functions only,
+ * which would let the JIT inline the whole chain in a way it cannot in real code.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+@State(Scope.Benchmark)
+public class EitherPipelineBenchmark {
+
+    // @formatter:off
+    private static final EitherPipeline<String, String, String> PIPELINE = EitherPipeline.<String, String>of()
+        .filterOrElse(email -> email.indexOf('@') >= 5, email -> "Username must be at least 5 characters")
+        .filterOrElse(email -> email.indexOf('.', email.indexOf('@')) > 0, email -> "Invalid domain format")
+        .filterOrElse(email -> email.length() - email.lastIndexOf('.') == 4, email -> "Invalid top-level domain");
+    // @formatter:on
+
+    private final String email = "john.doe@example.com";
+
+    @Setup
+    public void pollute() {
+        List<Function<String, Either<String, String>>> steps = List.of(
+            s -> Either.right(s.trim()), s -> Either.right(s.strip()), s -> Either.right(s.toLowerCase()), s -> Either.left(s));
+        for (int i = 0; i < 20_000; i++) {
+            for (Function<String, Either<String, String>> step : steps) {
+                Either.<String, String>right(email).flatMap(step).flatMap(step);
+                EitherPipeline.<String, String>of().flatMap(step).map(String::length).filterOrElse(n -> n > 3, n -> "short").apply(email);
+            }
+        }
+    }
+
+    @Benchmark
+    public Either<String, String> chain() {
+        // @formatter:off
+        return Either.<String, String>right(email)
+            .flatMap(e -> e.indexOf('@') >= 5 ? Either.right(e) : Either.left("Username must be at least 5 characters"))
+            .flatMap(e -> e.indexOf('.', e.indexOf('@')) > 0 ? Either.right(e) : Either.left("Invalid domain format"))
+            .flatMap(e -> e.length() - e.lastIndexOf('.') == 4 ? Either.right(e) : Either.left("Invalid top-level domain"));
+        // @formatter:on
+    }
+
+    @Benchmark
+    public Either<String, String> pipeline() {
+        return PIPELINE.apply(email);
+    }
+}
@@ -0,0 +1,78 @@
+package info.jab.benchmarks;
+
+import info.jab.util.either.Either;
+import info.jab.util.result.Result;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A 20 stage map/flatMap pipeline applied to an existing Left/Failure.
+ *
+ * With {@code -prof gc}, the error benchmarks are expected to report {@code gc.alloc.rate.norm} ≈ 0 B/op:
+ * the failed value is passed through every stage as the same instance.
+ * The Right/Success variants are the reference for a pipeline that allocates at every stage.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+@State(Scope.Benchmark)
+public class ErrorPropagationBenchmark {
+
+    private static final int STAGES = 20;
+
+    private static final Function<Integer, Integer> INCREMENT = value -> value + 1;
+    private static final Function<Integer, Either<String, Integer>> EITHER_STEP = value -> Either.right(value + 1);
+    private static final Function<Integer, Result<Integer>> RESULT_STEP = value -> Result.success(value + 1);
+
+    private final Either<String, Integer> right = Either.right(0);
+    private final Either<String, Integer> left = Either.left("rejected");
+    private final Result<Integer> success = Result.success(0);
+    private final Result<Integer> failure = Result.failure(new IllegalArgumentException("rejected"));
+
+    @Benchmark
+    public Either<String, Integer> eitherChainLeft() {
+        return eitherChain(left);
+    }
+
+    @Benchmark
+    public Either<String, Integer> eitherChainRight() {
+        return eitherChain(right);
+    }
+
+    @Benchmark
+    public Result<Integer> resultChainFailure() {
+        return resultChain(failure);
+    }
+
+    @Benchmark
+    public Result<Integer> resultChainSuccess() {
+        return resultChain(success);
+    }
+
+    private static Either<String, Integer> eitherChain(Either<String, Integer> start) {
+        Either<String, Integer> current = start;
+        for (int i = 0; i < STAGES; i += 2) {
+            current = current.map(INCREMENT).flatMap(EITHER_STEP);
+        }
+        return current;
+    }
+
+    private static Result<Integer> resultChain(Result<Integer> start) {
+        Result<Integer> current = start;
+        for (int i = 0; i < STAGES; i += 2) {
+            current = current.map(INCREMENT).flatMap(RESULT_STEP);
+        }
+        return current;
+    }
+}
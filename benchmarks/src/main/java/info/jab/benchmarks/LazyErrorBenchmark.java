@@ -0,0 +1,55 @@
+package info.jab.benchmarks;
+
+import info.jab.util.either.Either;
+import info.jab.util.either.ErrorDetail;
+import info.jab.util.result.Result;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * An error whose message is discarded by getOrElse: formatted eagerly (with an exception for Result)
+ * vs kept as an {@link ErrorDetail} template.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+@State(Scope.Benchmark)
+public class LazyErrorBenchmark {
+
+    private final String address = "https://example.com/items/42";
+    private final int status = 503;
+
+    @Benchmark
+    public String eagerLeft() {
+        Either<String, String> result = Either.left(String.format("Cannot fetch %s: status %d", address, status));
+        return result.getOrElse(() -> "");
+    }
+
+    @Benchmark
+    public String lazyLeft() {
+        Either<ErrorDetail, String> result = Either.left(ErrorDetail.format("Cannot fetch {}: status {}", address, status));
+        return result.getOrElse(() -> "");
+    }
+
+    @Benchmark
+    public String eagerFailure() {
+        Result<String> result = Result.failure(new RuntimeException(String.format("Cannot fetch %s: status %d", address, status)));
+        return result.getOrElse(() -> "");
+    }
+
+    @Benchmark
+    public String lazyFailure() {
+        Result<String> result = Result.failure("Cannot fetch {}: status {}", address, status);
+        return result.getOrElse(() -> "");
+    }
+}
@@ -0,0 +1,90 @@
+package info.jab.benchmarks;
+
+import info.jab.util.either.Either;
+import info.jab.util.result.Result;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The parseInt scenarios from {@code MethodSignatureTest}, side by side:
+ * sentinel value vs exception vs Optional vs Either vs Result.
+ *
+ * The logging of the original examples is left out on purpose, so only the error handling style is measured.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+@State(Scope.Benchmark)
+public class ParseIntStylesBenchmark {
+
+    enum ConversionIssue {
+        BAD_STRING,
+    }
+
+    /**
+     * Valid number, ASCII letter, symbol and a value out of the Integer range.
+     */
+    @Param({ "42", "A", "%", "2147483648" })
+    public String input;
+
+    @Benchmark
+    public int sentinel() {
+        try {
+            return Integer.parseInt(input);
+        } catch (NumberFormatException ex) {
+            return -99;
+        }
+    }
+
+    @Benchmark
+    public int exception() {
+        try {
+            return parseOrThrow(input);
+        } catch (RuntimeException ex) {
+            return -99;
+        }
+    }
+
+    @Benchmark
+    public Optional<Integer> optional() {
+        try {
+            return Optional.of(Integer.parseInt(input));
+        } catch (NumberFormatException ex) {
+            return Optional.empty();
+        }
+    }
+
+    @Benchmark
+    public Either<ConversionIssue, Integer> either() {
+        try {
+            return Either.right(Integer.parseInt(input));
+        } catch (NumberFormatException ex) {
+            return Either.left(ConversionIssue.BAD_STRING);
+        }
+    }
+
+    @Benchmark
+    public Result<Integer> result() {
+        return Result.runCatching(() -> Integer.parseInt(input));
+    }
+
+    private static int parseOrThrow(String param) {
+        try {
+            return Integer.parseInt(param);
+        } catch (NumberFormatException ex) {
+            throw new RuntimeException("Katakroker", ex);
+        }
+    }
+}
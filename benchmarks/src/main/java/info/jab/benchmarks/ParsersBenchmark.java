@@ -0,0 +1,119 @@
+package info.jab.benchmarks;
+
+import info.jab.util.either.Either;
+import info.jab.util.either.IntEither;
+import info.jab.util.parse.ParseError;
+import info.jab.util.parse.Parsers;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Integer.parseInt and new URI(String) turned into an Either with a try/catch, as in MethodSignatureTest and Solution9,
+ * vs {@link Parsers}, for a growing share of invalid inputs.
+ *
+ * Each invocation parses the same shuffled batch of {@value #BATCH} inputs, so the branch predictor cannot learn the order.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+@State(Scope.Benchmark)
+public class ParsersBenchmark {
+
+    private static final int BATCH = 1024;
+
+    enum ConversionIssue {
+        BAD_STRING,
+    }
+
+    /**
+     * Percentage of invalid inputs in the batch.
+     */
+    @Param({ "0", "10", "50" })
+    public int invalidRate;
+
+    private final String[] numbers = new String[BATCH];
+    private final String[] uris = new String[BATCH];
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < BATCH; i++) {
+            boolean invalid = random.nextInt(100) < invalidRate;
+            int number = random.nextInt(-1_000_000, 1_000_000);
+            numbers[i] = invalid ? number + "x" : String.valueOf(number);
+            uris[i] = invalid ? "https://example.com/item " + number : "https://example.com/item/" + number + "?page=1";
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void parseIntTryCatch(Blackhole blackhole) {
+        for (String number : numbers) {
+            Either<ConversionIssue, Integer> result;
+            try {
+                result = Either.right(Integer.parseInt(number));
+            } catch (NumberFormatException ex) {
+                result = Either.left(ConversionIssue.BAD_STRING);
+            }
+            blackhole.consume(result);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void parseInt(Blackhole blackhole) {
+        for (String number : numbers) {
+            Either<ParseError, Integer> result = Parsers.parseInt(number);
+            blackhole.consume(result);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void parseIntEither(Blackhole blackhole) {
+        for (String number : numbers) {
+            IntEither<ParseError> result = Parsers.parseIntEither(number);
+            blackhole.consume(result);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void parseUriTryCatch(Blackhole blackhole) {
+        for (String uri : uris) {
+            Either<ConversionIssue, URI> result;
+            try {
+                result = Either.right(new URI(uri));
+            } catch (URISyntaxException ex) {
+                result = Either.left(ConversionIssue.BAD_STRING);
+            }
+            blackhole.consume(result);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void parseUri(Blackhole blackhole) {
+        for (String uri : uris) {
+            Either<ParseError, URI> result = Parsers.parseUri(uri);
+            blackhole.consume(result);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package info.jab.benchmarks;
+
+import info.jab.util.either.Either;
+import info.jab.util.raise.Raise;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Per call cost of {@link Raise#fold} and {@link Raise#bind}, on the happy path and on the error path.
+ *
+ * Run with {@code -prof gc} to get {@code gc.alloc.rate.norm} (bytes allocated per operation).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+@State(Scope.Benchmark)
+public class RaiseBenchmark {
+
+    private static final Function<Throwable, Integer> ON_THROWABLE = ex -> -2;
+    private static final Function<String, Integer> ON_ERROR = String::length;
+    private static final Function<Integer, Integer> ON_VALUE = Function.identity();
+
+    private final Either<String, Integer> right = Either.right(42);
+    private final Either<String, Integer> left = Either.left("error");
+
+    @Benchmark
+    public Integer foldValue() {
+        return Raise.<String, Integer, Integer>fold(raise -> 42, ON_THROWABLE, ON_ERROR, ON_VALUE);
+    }
+
+    @Benchmark
+    public Integer foldRaise() {
+        return Raise.<String, Integer, Integer>fold(raise -> raise.raise("error"), ON_THROWABLE, ON_ERROR, ON_VALUE);
+    }
+
+    @Benchmark
+    public Either<String, Integer> bindRight() {
+        return Either.either(raise -> raise.bind(right) + 1);
+    }
+
+    @Benchmark
+    public Either<String, Integer> bindLeft() {
+        return Either.either(raise -> raise.bind(left) + 1);
+    }
+}
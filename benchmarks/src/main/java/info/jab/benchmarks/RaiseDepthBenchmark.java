@@ -0,0 +1,64 @@
+package info.jab.benchmarks;
+
+import info.jab.util.either.Either;
+import info.jab.util.raise.Raise;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Error path cost of {@link Either#either} as the call depth between the block and the raise grows.
+ *
+ * The raised {@code NoTrace} does not capture a stack trace, so {@code raiseAtDepth} only pays for unwinding the frames,
+ * while {@code exceptionAtDepth} (a regular exception thrown and caught at the same depth) also pays
+ * for capturing every frame of the stack.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+@State(Scope.Benchmark)
+public class RaiseDepthBenchmark {
+
+    @Param({ "0", "10", "50", "200" })
+    public int depth;
+
+    private final Either<String, Integer> left = Either.left("error");
+
+    @Benchmark
+    public Either<String, Integer> raiseAtDepth() {
+        return Either.either(raise -> bindAtDepth(raise, depth));
+    }
+
+    @Benchmark
+    public int exceptionAtDepth() {
+        try {
+            return throwAtDepth(depth);
+        } catch (IllegalStateException ex) {
+            return -1;
+        }
+    }
+
+    private int bindAtDepth(Raise<? super String> raise, int remaining) {
+        if (remaining == 0) {
+            return raise.bind(left);
+        }
+        return bindAtDepth(raise, remaining - 1) + 1;
+    }
+
+    private int throwAtDepth(int remaining) {
+        if (remaining == 0) {
+            throw new IllegalStateException("error");
+        }
+        return throwAtDepth(remaining - 1) + 1;
+    }
+}
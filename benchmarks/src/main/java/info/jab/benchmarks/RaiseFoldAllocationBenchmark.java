@@ -0,0 +1,44 @@
+package info.jab.benchmarks;
+
+import info.jab.util.either.Either;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Allocation of {@link Either#either} on the happy and error paths.
+ *
+ * With {@code -prof gc}, the happy path is expected to allocate the raise context and the resulting Right,
+ * and the error path the raise context, its stackless {@code NoTrace} and the resulting Left.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+@State(Scope.Benchmark)
+public class RaiseFoldAllocationBenchmark {
+
+    private final Either<String, Integer> right = Either.right(42);
+    private final Either<String, Integer> left = Either.left("error");
+
+    // Defeat constant folding of the block result
+    private int offset = 1;
+
+    @Benchmark
+    public Either<String, Integer> right() {
+        return Either.either(raise -> raise.bind(right) + offset);
+    }
+
+    @Benchmark
+    public Either<String, Integer> left() {
+        return Either.either(raise -> raise.bind(left) + offset);
+    }
+}
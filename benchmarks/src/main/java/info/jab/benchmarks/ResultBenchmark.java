@@ -0,0 +1,78 @@
+package info.jab.benchmarks;
+
+import info.jab.util.result.Result;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Happy path (Success) versus error path (Failure) cost of the core {@link Result} operations.
+ *
+ * Run with {@code -prof gc} to get {@code gc.alloc.rate.norm} (bytes allocated per operation).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+@State(Scope.Benchmark)
+public class ResultBenchmark {
+
+    private static final Function<Integer, Integer> INCREMENT = value -> value + 1;
+    private static final Function<Integer, Result<Integer>> HALF = value -> Result.success(value / 2);
+    private static final Function<Throwable, Integer> RECOVER = ex -> -1;
+
+    private final Result<Integer> success = Result.success(42);
+    private final Result<Integer> failure = Result.failure(new IllegalStateException("error"));
+
+    private String validInput = "42";
+    private String invalidInput = "forty-two";
+
+    @Benchmark
+    public Result<Integer> mapSuccess() {
+        return success.map(INCREMENT);
+    }
+
+    @Benchmark
+    public Result<Integer> mapFailure() {
+        return failure.map(INCREMENT);
+    }
+
+    @Benchmark
+    public Result<Integer> flatMapSuccess() {
+        return success.flatMap(HALF);
+    }
+
+    @Benchmark
+    public Result<Integer> flatMapFailure() {
+        return failure.flatMap(HALF);
+    }
+
+    @Benchmark
+    public Result<Integer> recoverSuccess() {
+        return success.recover(RECOVER);
+    }
+
+    @Benchmark
+    public Result<Integer> recoverFailure() {
+        return failure.recover(RECOVER);
+    }
+
+    @Benchmark
+    public Result<Integer> runCatchingSuccess() {
+        return Result.runCatching(() -> Integer.parseInt(validInput));
+    }
+
+    @Benchmark
+    public Result<Integer> runCatchingFailure() {
+        return Result.runCatching(() -> Integer.parseInt(invalidInput));
+    }
+}
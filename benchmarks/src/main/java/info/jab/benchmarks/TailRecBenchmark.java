@@ -0,0 +1,72 @@
+package info.jab.benchmarks;
+
+import info.jab.util.either.Either;
+import info.jab.util.result.Result;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A counting loop of {@code steps} iterations written three ways:
+ * a plain loop calling flatMap, a flatMap that recurses into itself, and {@link Either#tailRecM} / {@link Result#loop}.
+ *
+ * The recursive variant is limited to depths that fit in the default stack; tailRecM and loop run in constant stack space.
+ * flatMap itself is unchanged, so the plain loop is the baseline: tailRecM and loop pay for the extra Left/Right that
+ * encodes "continue" or "done" at every step, not for the trampoline.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+@State(Scope.Benchmark)
+public class TailRecBenchmark {
+
+    @Param({ "10", "1000" })
+    private int steps;
+
+    @Benchmark
+    public Either<String, Integer> eitherFlatMapLoop() {
+        Either<String, Integer> current = Either.right(0);
+        for (int i = 0; i < steps; i++) {
+            current = current.flatMap(value -> Either.right(value + 1));
+        }
+        return current;
+    }
+
+    @Benchmark
+    public Either<String, Integer> eitherRecursiveFlatMap() {
+        return countUp(0);
+    }
+
+    @Benchmark
+    public Either<String, Integer> eitherTailRecM() {
+        return Either.tailRecM(0, value -> Either.right(value < steps ? Either.left(value + 1) : Either.right(value)));
+    }
+
+    @Benchmark
+    public Result<Integer> resultFlatMapLoop() {
+        Result<Integer> current = Result.success(0);
+        for (int i = 0; i < steps; i++) {
+            current = current.flatMap(value -> Result.success(value + 1));
+        }
+        return current;
+    }
+
+    @Benchmark
+    public Result<Integer> resultLoop() {
+        return Result.loop(0, value -> Result.success(value < steps ? Either.left(value + 1) : Either.right(value)));
+    }
+
+    private Either<String, Integer> countUp(int value) {
+        return value < steps ? Either.<String, Integer>right(value + 1).flatMap(this::countUp) : Either.right(value);
+    }
+}
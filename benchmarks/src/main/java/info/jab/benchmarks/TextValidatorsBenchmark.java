@@ -0,0 +1,54 @@
+package info.jab.benchmarks;
+
+import info.jab.util.either.Either;
+import info.jab.util.parse.EmailError;
+import info.jab.util.parse.TextValidators;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The substring based email checks of EmailValidatorTest vs {@link TextValidators#email(CharSequence)},
+ * on a valid and an invalid address. Run with {@code -prof gc} to compare the allocation rates.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+@State(Scope.Benchmark)
+public class TextValidatorsBenchmark {
+
+    @Param({"john.doe@example.com", "john.doe@localhost"})
+    private String email;
+
+    @Benchmark
+    public Either<String, String> substring() {
+        String username = email.substring(0, email.indexOf('@'));
+        if (username.length() < 5) {
+            return Either.left("Username must be at least 5 characters");
+        }
+        String domain = email.substring(email.indexOf('@') + 1);
+        if (!domain.contains(".")) {
+            return Either.left("Invalid domain format");
+        }
+        String tld = email.substring(email.lastIndexOf('.') + 1);
+        if (tld.length() != 3) {
+            return Either.left("Invalid top-level domain");
+        }
+        return Either.right(email);
+    }
+
+    @Benchmark
+    public Either<EmailError, CharSequence> textValidators() {
+        return TextValidators.email(email);
+    }
+}
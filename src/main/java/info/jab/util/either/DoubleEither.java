@@ -0,0 +1,245 @@
+package info.jab.util.either;
+
+import jakarta.annotation.Nonnull;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+
+/**
+ * A specialization of {@link Either} whose Right value is a primitive {@code double}, so it is never boxed.
+ *
+ * @param <L> the type of the Left value
+ */
+public sealed interface DoubleEither<L> permits DoubleEither.Left, DoubleEither.Right {
+    /**
+     * Creates an instance of Left.
+     *
+     * @param value the value to be wrapped in Left
+     * @param <L> the type of the Left value
+     * @return a Left containing the given value
+     */
+    static <L> DoubleEither<L> left(@Nonnull L value) {
+        return new Left<>(value);
+    }
+
+    /**
+     * Creates an instance of Right.
+     *
+     * @param value the value to be wrapped in Right
+     * @param <L> the type of the Left value
+     * @return a Right containing the given value
+     */
+    static <L> DoubleEither<L> right(double value) {
+        return new Right<>(value);
+    }
+
+    /**
+     * Checks if this is an instance of Left.
+     *
+     * @return true if this is a Left, false otherwise
+     */
+    boolean isLeft();
+
+    /**
+     * Checks if this is an instance of Right.
+     *
+     * @return true if this is a Right, false otherwise
+     */
+    boolean isRight();
+
+    /**
+     * Applies either the leftMapper function to the value if this is a Left, or the rightMapper function if this is a Right.
+     *
+     * @param leftMapper the function to apply if this is a Left
+     * @param rightMapper the function to apply if this is a Right
+     * @param <T> the type of the result
+     * @return the result of applying the appropriate function
+     */
+    <T> T fold(Function<? super L, ? extends T> leftMapper, DoubleFunction<? extends T> rightMapper);
+
+    /**
+     * Transforms the value in Right using the given operator if this is a Right, otherwise returns the current Left.
+     *
+     * @param mapper the operator to apply to the Right value
+     * @return a new DoubleEither instance, or this Left
+     */
+    DoubleEither<L> map(DoubleUnaryOperator mapper);
+
+    /**
+     * Transforms the value in Right into an object if this is a Right, otherwise returns the Left value as an {@link Either}.
+     *
+     * @param mapper the function to apply to the Right value
+     * @param <U> the type of the new Right value
+     * @return a new Either instance
+     */
+    <U> Either<L, U> mapToObj(DoubleFunction<? extends U> mapper);
+
+    /**
+     * Transforms the value in Right using the given function that returns another DoubleEither, if this is a Right.
+     * Otherwise, returns the current Left.
+     *
+     * @param mapper the function to apply to the Right value
+     * @return the DoubleEither returned by the mapper, or this Left
+     */
+    DoubleEither<L> flatMap(DoubleFunction<? extends DoubleEither<L>> mapper);
+
+    /**
+     * Returns the Right value if this is a Right, otherwise returns the result of the given supplier.
+     *
+     * @param other a supplier whose result is returned if this is a Left
+     * @return the Right value or the result of the supplier
+     */
+    double getOrElse(DoubleSupplier other);
+
+    /**
+     * Returns the value if this is a Right, otherwise throws an exception.
+     *
+     * @return the Right value
+     * @throws NoSuchElementException if this is a Left
+     */
+    double get();
+
+    /**
+     * Converts this DoubleEither to an OptionalDouble, empty if this is a Left.
+     *
+     * @return an OptionalDouble containing the Right value if present
+     */
+    OptionalDouble toOptional();
+
+    /**
+     * Converts this DoubleEither to an {@link Either} with a boxed Right value.
+     *
+     * @return an equivalent Either
+     */
+    Either<L, Double> boxed();
+
+    /**
+     * A record representing the Left variant of an DoubleEither.
+     *
+     * @param <L> the type of the Left value
+     * @param value the value
+     */
+    record Left<L>(@Nonnull L value) implements DoubleEither<L> {
+        /**
+         * Constructs a new {@code Left} with the given value.
+         *
+         * @param value the value to be contained in this {@code Left}
+         * @throws NullPointerException if {@code value} is {@code null}
+         */
+        public Left {
+            Objects.requireNonNull(value, "Left value cannot be null");
+        }
+
+        @Override
+        public boolean isLeft() {
+            return true;
+        }
+
+        @Override
+        public boolean isRight() {
+            return false;
+        }
+
+        @Override
+        public <T> T fold(Function<? super L, ? extends T> leftMapper, DoubleFunction<? extends T> rightMapper) {
+            return leftMapper.apply(value);
+        }
+
+        @Override
+        public DoubleEither<L> map(DoubleUnaryOperator mapper) {
+            return this;
+        }
+
+        @Override
+        public <U> Either<L, U> mapToObj(DoubleFunction<? extends U> mapper) {
+            return Either.left(value);
+        }
+
+        @Override
+        public DoubleEither<L> flatMap(DoubleFunction<? extends DoubleEither<L>> mapper) {
+            return this;
+        }
+
+        @Override
+        public double getOrElse(DoubleSupplier other) {
+            return other.getAsDouble();
+        }
+
+        @Override
+        public double get() {
+            throw new NoSuchElementException("No value present in Left");
+        }
+
+        @Override
+        public OptionalDouble toOptional() {
+            return OptionalDouble.empty();
+        }
+
+        @Override
+        public Either<L, Double> boxed() {
+            return Either.left(value);
+        }
+    }
+
+    /**
+     * A record representing the Right variant of an DoubleEither.
+     *
+     * @param <L> the type of the Left value
+     * @param value the value
+     */
+    record Right<L>(double value) implements DoubleEither<L> {
+        @Override
+        public boolean isLeft() {
+            return false;
+        }
+
+        @Override
+        public boolean isRight() {
+            return true;
+        }
+
+        @Override
+        public <T> T fold(Function<? super L, ? extends T> leftMapper, DoubleFunction<? extends T> rightMapper) {
+            return rightMapper.apply(value);
+        }
+
+        @Override
+        public DoubleEither<L> map(DoubleUnaryOperator mapper) {
+            return new Right<>(mapper.applyAsDouble(value));
+        }
+
+        @Override
+        public <U> Either<L, U> mapToObj(DoubleFunction<? extends U> mapper) {
+            return Either.right(mapper.apply(value));
+        }
+
+        @Override
+        public DoubleEither<L> flatMap(DoubleFunction<? extends DoubleEither<L>> mapper) {
+            return mapper.apply(value);
+        }
+
+        @Override
+        public double getOrElse(DoubleSupplier other) {
+            return value;
+        }
+
+        @Override
+        public double get() {
+            return value;
+        }
+
+        @Override
+        public OptionalDouble toOptional() {
+            return OptionalDouble.of(value);
+        }
+
+        @Override
+        public Either<L, Double> boxed() {
+            return Either.right(value);
+        }
+    }
+}
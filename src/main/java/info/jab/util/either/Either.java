@@ -1,13 +1,28 @@
 package info.jab.util.either;
 
+import info.jab.util.internal.ParallelReduction;
+import info.jab.util.internal.ParallelTraversal;
 import info.jab.util.raise.Raise;
 import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * A generic sealed interface representing a value of one of two possible types (a disjoint union).
@@ -48,6 +63,8 @@ public sealed interface Either<L, R> permits Left, Right {
 
     /**
      * Creates an instance of Left.
+     * An enum constant, a {@code Boolean} or an {@code Integer} from -128 to 127 is wrapped in a shared instance,
+     * so the usual validation errors (an enum of problems) do not allocate.
      *
      * @param value the value to be wrapped in Left
      * @param <L> the type of the Left value
@@ -56,11 +73,13 @@ public sealed interface Either<L, R> permits Left, Right {
      */
     static <L, R> Either<L, R> left(@Nonnull L value) {
         Objects.requireNonNull(value, "Left value cannot be null");
-        return new Left<>(value);
+        return Left.of(value);
     }
 
     /**
      * Creates an instance of Right.
+     * Like {@link #left(Object)}, a constant value ({@link Unit}, an enum constant, a {@code Boolean}
+     * or a small {@code Integer}) is wrapped in a shared instance.
      *
      * @param value the value to be wrapped in Right
      * @param <L> the type of the Left value
@@ -69,11 +88,22 @@ public sealed interface Either<L, R> permits Left, Right {
      */
     static <L, R> Either<L, R> right(@Nonnull R value) {
         Objects.requireNonNull(value, "Right value cannot be null");
-        return new Right<>(value);
+        return Right.of(value);
+    }
+
+    /**
+     * Returns the shared Right holding {@link Unit#INSTANCE}, for a computation which succeeds without a value.
+     *
+     * @param <L> the type of the Left value
+     * @return a Right containing {@code Unit.INSTANCE}
+     */
+    static <L> Either<L, Unit> unit() {
+        return Right.of(Unit.INSTANCE);
     }
 
     /**
      * Transforms the value in Right using the given function if this is a Right, otherwise returns the current Left.
+     * A Left is returned as the same instance, so failed chains do not allocate.
      *
      * @param mapper the function to apply to the Right value
      * @param <U> the type of the new Right value
@@ -83,13 +113,13 @@ public sealed interface Either<L, R> permits Left, Right {
         if (isRight()) {
             return Either.right(mapper.apply(((Right<L, R>) this).value()));
         } else {
-            return Either.left(((Left<L, R>) this).value());
+            return propagateLeft();
         }
     }
 
     /**
      * Transforms the value in Right using the given function that returns another Either, if this is a Right.
-     * Otherwise, returns the current Left.
+     * Otherwise, returns the current Left (the same instance, without allocating).
      *
      * @param mapper the function to apply to the Right value
      * @param <U> the type of the new Right value
@@ -99,7 +129,54 @@ public sealed interface Either<L, R> permits Left, Right {
         if (isRight()) {
             return mapper.apply(((Right<L, R>) this).value());
         } else {
-            return Either.left(((Left<L, R>) this).value());
+            return propagateLeft();
+        }
+    }
+
+    /**
+     * Returns this Left viewed with a different Right type.
+     * A Left never holds a Right value, so the unchecked cast is safe.
+     *
+     * @param <U> the type of the new Right value
+     * @return this instance
+     */
+    @SuppressWarnings("unchecked")
+    private <U> Either<L, U> propagateLeft() {
+        return (Either<L, U>) this;
+    }
+
+    /**
+     * Runs a recursive computation as a loop, in constant stack space.
+     * The step returns a Left to stop with an error, a Right holding a Left to continue with a new state,
+     * or a Right holding a Right to stop with a result.
+     *
+     * <pre>{@code
+     * Either<String, Integer> pages = Either.tailRecM(0, page -> fetch(page).map(response ->
+     *     response.hasNext() ? Either.left(page + 1) : Either.right(page + 1)));
+     * }</pre>
+     *
+     * @param seed the initial state
+     * @param step the function computing the next state or the result from the current state
+     * @param <A> the type of the state
+     * @param <L> the type of the Left value
+     * @param <R> the type of the result
+     * @return the first Left returned by the step, or a Right with the result
+     */
+    @SuppressWarnings("unchecked")
+    static <A, L, R> Either<L, R> tailRecM(A seed, @Nonnull Function<? super A, ? extends Either<L, ? extends Either<A, R>>> step) {
+        Objects.requireNonNull(step, "step cannot be null");
+        A state = seed;
+        while (true) {
+            Either<L, ? extends Either<A, R>> next = step.apply(state);
+            if (!(next instanceof Right<L, ? extends Either<A, R>> right)) {
+                return (Either<L, R>) next;
+            }
+            Either<A, R> inner = right.value();
+            if (inner instanceof Left<A, R> loop) {
+                state = loop.value();
+            } else {
+                return (Either<L, R>) (Either<?, ?>) inner;
+            }
         }
     }
 
@@ -162,6 +239,55 @@ public sealed interface Either<L, R> permits Left, Right {
         }
     }
 
+    /**
+     * Combines a list of Either values in parallel on the common fork-join pool.
+     *
+     * @param eithers the Either values
+     * @param combiner an associative function to combine the Right values
+     * @param <L> the type of the Left value
+     * @param <R> the type of the Right value
+     * @return the combined Either, or an empty Optional if the list is empty
+     * @see #parCombineAll(List, BinaryOperator, ForkJoinPool)
+     */
+    static <L, R> Optional<Either<L, R>> parCombineAll(@Nonnull List<? extends Either<L, R>> eithers, @Nonnull BinaryOperator<R> combiner) {
+        return parCombineAll(eithers, combiner, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Combines a list of Either values in parallel on the given fork-join pool, as a tree reduction of {@link #combine}.
+     * The result is the same as combining the values from left to right: the Right values combined in order,
+     * or the last Left if there is no Right.
+     *
+     * @param eithers the Either values
+     * @param combiner an associative function to combine the Right values
+     * @param pool the pool running the reduction
+     * @param <L> the type of the Left value
+     * @param <R> the type of the Right value
+     * @return the combined Either, or an empty Optional if the list is empty
+     */
+    static <L, R> Optional<Either<L, R>> parCombineAll(@Nonnull List<? extends Either<L, R>> eithers, @Nonnull BinaryOperator<R> combiner,
+                                                       @Nonnull ForkJoinPool pool) {
+        Objects.requireNonNull(eithers, "eithers cannot be null");
+        Objects.requireNonNull(combiner, "combiner cannot be null");
+        if (eithers.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(ParallelReduction.<Either<L, R>>reduce(eithers, (first, second) -> first.combine(second, combiner), pool));
+    }
+
+    /**
+     * Returns a collector that combines Either values with {@link #combine}. With a parallel stream, the values are tree-reduced.
+     *
+     * @param combiner an associative function to combine the Right values
+     * @param <L> the type of the Left value
+     * @param <R> the type of the Right value
+     * @return a collector producing the combined Either, or an empty Optional if there are no values
+     */
+    static <L, R> Collector<Either<L, R>, ?, Optional<Either<L, R>>> combining(@Nonnull BinaryOperator<R> combiner) {
+        Objects.requireNonNull(combiner, "combiner cannot be null");
+        return Collectors.reducing((first, second) -> first.combine(second, combiner));
+    }
+
     /**
      * Converts this Either to an Optional.
      * If this is a Right, the Optional will contain the value.
@@ -197,4 +323,167 @@ public sealed interface Either<L, R> permits Left, Right {
     static <E, A> Either<E, A> either(Function<Raise<? super E>, ? extends A> block) {
         return Raise.foldOrThrow(block, Either::left, Either::right);
     }
+
+    /**
+     * Turns a group of Either values into an Either of a list, stopping at the first Left.
+     * Elements after the first Left are not pulled from the iterable.
+     *
+     * @param eithers the Either values
+     * @param <L> the type of the Left value
+     * @param <R> the type of the Right values
+     * @return the first Left found, or a Right with an unmodifiable list of all the Right values in order
+     */
+    static <L, R> Either<L, List<R>> sequence(@Nonnull Iterable<? extends Either<? extends L, ? extends R>> eithers) {
+        return traverse(eithers, Function.identity());
+    }
+
+    /**
+     * Turns a stream of Either values into an Either of a list, stopping at the first Left.
+     * Elements after the first Left are not pulled from the stream.
+     *
+     * @param eithers the Either values
+     * @param <L> the type of the Left value
+     * @param <R> the type of the Right values
+     * @return the first Left found, or a Right with an unmodifiable list of all the Right values in order
+     */
+    static <L, R> Either<L, List<R>> sequence(@Nonnull Stream<? extends Either<? extends L, ? extends R>> eithers) {
+        return traverse(eithers, Function.identity());
+    }
+
+    /**
+     * Applies a function returning an Either to each element, stopping at the first Left.
+     * Elements after the first Left are neither pulled from the iterable nor mapped.
+     *
+     * @param values the values to map
+     * @param mapper the function to apply to each value
+     * @param <A> the type of the values
+     * @param <L> the type of the Left value
+     * @param <R> the type of the Right values
+     * @return the first Left returned by the mapper, or a Right with an unmodifiable list of the mapped values in order
+     */
+    static <A, L, R> Either<L, List<R>> traverse(@Nonnull Iterable<? extends A> values,
+                                                 @Nonnull Function<? super A, ? extends Either<? extends L, ? extends R>> mapper) {
+        Objects.requireNonNull(values, "values cannot be null");
+        int capacity = values instanceof Collection<?> collection ? collection.size() : 10;
+        return traverseIterator(values.iterator(), capacity, mapper);
+    }
+
+    /**
+     * Applies a function returning an Either to each element of a stream, stopping at the first Left.
+     * Elements after the first Left are neither pulled from the stream nor mapped.
+     *
+     * @param values the values to map
+     * @param mapper the function to apply to each value
+     * @param <A> the type of the values
+     * @param <L> the type of the Left value
+     * @param <R> the type of the Right values
+     * @return the first Left returned by the mapper, or a Right with an unmodifiable list of the mapped values in order
+     */
+    static <A, L, R> Either<L, List<R>> traverse(@Nonnull Stream<? extends A> values,
+                                                 @Nonnull Function<? super A, ? extends Either<? extends L, ? extends R>> mapper) {
+        Objects.requireNonNull(values, "values cannot be null");
+        Spliterator<? extends A> spliterator = values.spliterator();
+        long exactSize = spliterator.getExactSizeIfKnown();
+        int capacity = exactSize >= 0 && exactSize < Integer.MAX_VALUE - 8 ? (int) exactSize : 10;
+        return traverseIterator(Spliterators.iterator(spliterator), capacity, mapper);
+    }
+
+    /**
+     * Checks a list of Either values in parallel on the common fork-join pool, stopping at the first Left.
+     *
+     * @param eithers the Either values
+     * @param <L> the type of the Left value
+     * @param <R> the type of the Right values
+     * @return the leftmost Left, or a Right with an unmodifiable list of all the Right values in order
+     * @see #parTraverse(List, Function, ForkJoinPool)
+     */
+    static <L, R> Either<L, List<R>> parSequence(@Nonnull List<? extends Either<? extends L, ? extends R>> eithers) {
+        return parTraverse(eithers, Function.identity(), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Applies a function returning an Either to each element in parallel on the common fork-join pool, stopping at the first Left.
+     *
+     * @param values the values to map
+     * @param mapper the function to apply to each value
+     * @param <A> the type of the values
+     * @param <L> the type of the Left value
+     * @param <R> the type of the Right values
+     * @return the leftmost Left returned by the mapper, or a Right with an unmodifiable list of the mapped values in order
+     * @see #parTraverse(List, Function, ForkJoinPool)
+     */
+    static <A, L, R> Either<L, List<R>> parTraverse(@Nonnull List<? extends A> values,
+                                                    @Nonnull Function<? super A, ? extends Either<? extends L, ? extends R>> mapper) {
+        return parTraverse(values, mapper, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Applies a function returning an Either to each element in parallel on the given fork-join pool, stopping at the first Left.
+     * The list is split in chunks; once an element maps to a Left, the chunks to its right stop mapping,
+     * while the chunks to its left complete so that the returned Left is the same one a sequential traverse would return.
+     * An exception thrown by the mapper is rethrown to the caller.
+     *
+     * @param values the values to map
+     * @param mapper the function to apply to each value
+     * @param pool the pool running the chunks
+     * @param <A> the type of the values
+     * @param <L> the type of the Left value
+     * @param <R> the type of the Right values
+     * @return the leftmost Left returned by the mapper, or a Right with an unmodifiable list of the mapped values in order
+     */
+    @SuppressWarnings("unchecked")
+    static <A, L, R> Either<L, List<R>> parTraverse(@Nonnull List<? extends A> values,
+                                                    @Nonnull Function<? super A, ? extends Either<? extends L, ? extends R>> mapper,
+                                                    @Nonnull ForkJoinPool pool) {
+        Objects.requireNonNull(values, "values cannot be null");
+        Object[] outputs = new Object[values.size()];
+        int failure = ParallelTraversal.traverse(values, outputs, mapper, Either::isLeft, Either::get, pool);
+        if (failure >= 0) {
+            return (Either<L, List<R>>) outputs[failure];
+        }
+        return Either.right(Collections.unmodifiableList(Arrays.asList((R[]) outputs)));
+    }
+
+    /**
+     * Returns a collector that splits Either values into their Left and Right values in a single pass.
+     * The collector can be used with parallel streams; encounter order is kept.
+     *
+     * @param <L> the type of the Left values
+     * @param <R> the type of the Right values
+     * @return a collector producing a {@link Partition}
+     */
+    static <L, R> Collector<Either<? extends L, ? extends R>, ?, Partition<L, R>> partitioning() {
+        // @formatter:off
+        return Collector.<Either<? extends L, ? extends R>, Partition<L, R>, Partition<L, R>>of(
+            () -> new Partition<>(new ArrayList<>(), new ArrayList<>()),
+            (partition, either) -> {
+                switch (either) {
+                    case Left<? extends L, ? extends R> left -> partition.lefts().add(left.value());
+                    case Right<? extends L, ? extends R> right -> partition.rights().add(right.value());
+                }
+            },
+            (first, second) -> {
+                first.lefts().addAll(second.lefts());
+                first.rights().addAll(second.rights());
+                return first;
+            },
+            partition -> new Partition<>(Collections.unmodifiableList(partition.lefts()), Collections.unmodifiableList(partition.rights())));
+        // @formatter:on
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <A, L, R> Either<L, List<R>> traverseIterator(Iterator<? extends A> iterator, int capacity,
+                                                                 Function<? super A, ? extends Either<? extends L, ? extends R>> mapper) {
+        Objects.requireNonNull(mapper, "mapper cannot be null");
+        List<R> rights = new ArrayList<>(capacity);
+        while (iterator.hasNext()) {
+            Either<? extends L, ? extends R> either = mapper.apply(iterator.next());
+            if (either instanceof Right<? extends L, ? extends R> right) {
+                rights.add(right.value());
+            } else {
+                return (Either<L, List<R>>) either;
+            }
+        }
+        return Either.right(Collections.unmodifiableList(rights));
+    }
 }
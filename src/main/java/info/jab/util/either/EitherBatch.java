@@ -0,0 +1,427 @@
+package info.jab.util.either;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collector;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * An immutable batch of N Either outcomes stored as a struct of arrays.
+ *
+ * <p>Instead of N {@link Left}/{@link Right} instances, a batch keeps a bitmap telling which rows are Right,
+ * a dense array with the Right values and a dense array with the Left values, both in row order.
+ * Bulk operations only touch the side they transform: {@link #map(Function)} rewrites the Right values and
+ * shares the bitmap and the Left values with the original batch.</p>
+ *
+ * @param <L> the type of the Left values
+ * @param <R> the type of the Right values
+ */
+public final class EitherBatch<L, R> {
+
+    private static final Object[] EMPTY = new Object[0];
+
+    private final int size;
+    private final long[] rightBits;
+    private final int[] rightsBefore;
+    private final Object[] rights;
+    private final Object[] lefts;
+
+    private EitherBatch(int size, long[] rightBits, Object[] rights, Object[] lefts) {
+        this.size = size;
+        this.rightBits = rightBits;
+        this.rights = rights;
+        this.lefts = lefts;
+        this.rightsBefore = new int[rightBits.length];
+        int count = 0;
+        for (int word = 0; word < rightBits.length; word++) {
+            rightsBefore[word] = count;
+            count += Long.bitCount(rightBits[word]);
+        }
+    }
+
+    private EitherBatch(EitherBatch<?, ?> layout, Object[] rights, Object[] lefts) {
+        this.size = layout.size;
+        this.rightBits = layout.rightBits;
+        this.rightsBefore = layout.rightsBefore;
+        this.rights = rights;
+        this.lefts = lefts;
+    }
+
+    /**
+     * Creates a batch from a list of Either outcomes.
+     *
+     * @param eithers the outcomes, in row order
+     * @param <L> the type of the Left values
+     * @param <R> the type of the Right values
+     * @return a new batch
+     */
+    public static <L, R> EitherBatch<L, R> of(@Nonnull List<? extends Either<? extends L, ? extends R>> eithers) {
+        Builder<L, R> builder = builder(eithers.size());
+        for (Either<? extends L, ? extends R> either : eithers) {
+            builder.add(either);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Creates a batch from a stream of Either outcomes.
+     *
+     * @param eithers the outcomes, in encounter order
+     * @param <L> the type of the Left values
+     * @param <R> the type of the Right values
+     * @return a new batch
+     */
+    public static <L, R> EitherBatch<L, R> of(@Nonnull Stream<? extends Either<? extends L, ? extends R>> eithers) {
+        return eithers.collect(toBatch());
+    }
+
+    /**
+     * Returns a collector that gathers Either outcomes into a batch. It can be used with parallel streams.
+     *
+     * @param <L> the type of the Left values
+     * @param <R> the type of the Right values
+     * @return a collector producing an {@code EitherBatch}
+     */
+    public static <L, R> Collector<Either<? extends L, ? extends R>, ?, EitherBatch<L, R>> toBatch() {
+        return Collector.of(() -> new Builder<L, R>(16), Builder::add, Builder::addAll, Builder::build);
+    }
+
+    /**
+     * Creates a builder for a batch.
+     *
+     * @param expectedSize the expected number of rows, used to pre-size the arrays
+     * @param <L> the type of the Left values
+     * @param <R> the type of the Right values
+     * @return a new builder
+     */
+    public static <L, R> Builder<L, R> builder(int expectedSize) {
+        return new Builder<>(expectedSize);
+    }
+
+    /**
+     * Returns the number of rows.
+     *
+     * @return the number of outcomes in this batch
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of Right rows.
+     *
+     * @return the number of Right values
+     */
+    public int rightCount() {
+        return rights.length;
+    }
+
+    /**
+     * Returns the number of Left rows.
+     *
+     * @return the number of Left values
+     */
+    public int leftCount() {
+        return lefts.length;
+    }
+
+    /**
+     * Checks if the given row is a Right.
+     *
+     * @param row the row index
+     * @return true if the row is a Right, false if it is a Left
+     * @throws IndexOutOfBoundsException if the row is out of bounds
+     */
+    public boolean isRight(int row) {
+        Objects.checkIndex(row, size);
+        return (rightBits[row >>> 6] & (1L << row)) != 0;
+    }
+
+    /**
+     * Returns the outcome of the given row as an Either. This allocates the Either instance.
+     *
+     * @param row the row index
+     * @return the outcome of the row
+     * @throws IndexOutOfBoundsException if the row is out of bounds
+     */
+    @SuppressWarnings("unchecked")
+    public Either<L, R> get(int row) {
+        int rightIndex = rightIndex(row);
+        if (isRight(row)) {
+            return Either.right((R) rights[rightIndex]);
+        }
+        return Either.left((L) lefts[row - rightIndex]);
+    }
+
+    /**
+     * Transforms the Right values. The bitmap and the Left values are shared with this batch.
+     *
+     * @param mapper the function to apply to each Right value
+     * @param <U> the type of the new Right values
+     * @return a new batch
+     */
+    public <U> EitherBatch<L, U> map(@Nonnull Function<? super R, ? extends U> mapper) {
+        return new EitherBatch<>(this, mapArray(rights, mapper), lefts);
+    }
+
+    /**
+     * Transforms the Left values. The bitmap and the Right values are shared with this batch.
+     *
+     * @param mapper the function to apply to each Left value
+     * @param <M> the type of the new Left values
+     * @return a new batch
+     */
+    public <M> EitherBatch<M, R> mapLeft(@Nonnull Function<? super L, ? extends M> mapper) {
+        return new EitherBatch<>(this, rights, mapArray(lefts, mapper));
+    }
+
+    /**
+     * Transforms each Right value with a function that returns another Either. Left rows are kept as they are.
+     *
+     * @param mapper the function to apply to each Right value
+     * @param <U> the type of the new Right values
+     * @return a new batch
+     */
+    @SuppressWarnings("unchecked")
+    public <U> EitherBatch<L, U> flatMap(@Nonnull Function<? super R, ? extends Either<? extends L, ? extends U>> mapper) {
+        Builder<L, U> builder = new Builder<>(size);
+        int rightIndex = 0;
+        int leftIndex = 0;
+        for (int row = 0; row < size; row++) {
+            if ((rightBits[row >>> 6] & (1L << row)) != 0) {
+                builder.add(mapper.apply((R) rights[rightIndex++]));
+            } else {
+                builder.addLeft((L) lefts[leftIndex++]);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Keeps the Right values matching the predicate, turning the others into Left values.
+     *
+     * @param predicate the condition a Right value has to meet
+     * @param leftMapper the function producing the Left value for a rejected Right value
+     * @return a new batch, or this batch if every Right value matches
+     */
+    @SuppressWarnings("unchecked")
+    public EitherBatch<L, R> filterOrElse(@Nonnull Predicate<? super R> predicate, @Nonnull Function<? super R, ? extends L> leftMapper) {
+        int firstRejected = -1;
+        for (int i = 0; i < rights.length; i++) {
+            if (!predicate.test((R) rights[i])) {
+                firstRejected = i;
+                break;
+            }
+        }
+        if (firstRejected < 0) {
+            return this;
+        }
+        Builder<L, R> builder = new Builder<>(size);
+        int rightIndex = 0;
+        int leftIndex = 0;
+        for (int row = 0; row < size; row++) {
+            if ((rightBits[row >>> 6] & (1L << row)) != 0) {
+                R value = (R) rights[rightIndex];
+                if (rightIndex < firstRejected || (rightIndex > firstRejected && predicate.test(value))) {
+                    builder.addRight(value);
+                } else {
+                    builder.addLeft(leftMapper.apply(value));
+                }
+                rightIndex++;
+            } else {
+                builder.addLeft((L) lefts[leftIndex++]);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns the Left values, in row order, without copying them.
+     *
+     * @return an unmodifiable list of the Left values
+     */
+    @SuppressWarnings("unchecked")
+    public List<L> lefts() {
+        return Collections.unmodifiableList(Arrays.asList((L[]) lefts));
+    }
+
+    /**
+     * Returns the Right values, in row order, without copying them.
+     *
+     * @return an unmodifiable list of the Right values
+     */
+    @SuppressWarnings("unchecked")
+    public List<R> rights() {
+        return Collections.unmodifiableList(Arrays.asList((R[]) rights));
+    }
+
+    /**
+     * Splits the batch into its Left values and its Right values, without copying them.
+     *
+     * @return the Left and Right values of this batch
+     */
+    public Partition<L, R> partition() {
+        return new Partition<>(lefts(), rights());
+    }
+
+    /**
+     * Converts the batch into a list of Either outcomes, in row order. This allocates one Either per row.
+     *
+     * @return a new list
+     */
+    public List<Either<L, R>> toList() {
+        List<Either<L, R>> list = new ArrayList<>(size);
+        for (int row = 0; row < size; row++) {
+            list.add(get(row));
+        }
+        return list;
+    }
+
+    /**
+     * Returns a sequential stream of the outcomes, in row order. Each element is allocated as it is consumed.
+     *
+     * @return a stream of Either outcomes
+     */
+    public Stream<Either<L, R>> stream() {
+        return IntStream.range(0, size).mapToObj(this::get);
+    }
+
+    @Override
+    public String toString() {
+        return "EitherBatch[size=" + size + ", rights=" + rights.length + ", lefts=" + lefts.length + "]";
+    }
+
+    private int rightIndex(int row) {
+        Objects.checkIndex(row, size);
+        int word = row >>> 6;
+        long before = rightBits[word] & ((1L << row) - 1);
+        return rightsBefore[word] + Long.bitCount(before);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, U> Object[] mapArray(Object[] values, Function<? super T, ? extends U> mapper) {
+        Object[] mapped = new Object[values.length];
+        for (int i = 0; i < values.length; i++) {
+            mapped[i] = Objects.requireNonNull(mapper.apply((T) values[i]), "Mapped value cannot be null");
+        }
+        return mapped;
+    }
+
+    /**
+     * A mutable builder appending outcomes row by row.
+     *
+     * @param <L> the type of the Left values
+     * @param <R> the type of the Right values
+     */
+    public static final class Builder<L, R> {
+
+        private int size;
+        private long[] rightBits;
+        private Object[] rights;
+        private int rightCount;
+        private Object[] lefts;
+        private int leftCount;
+
+        private Builder(int expectedSize) {
+            int capacity = Math.max(expectedSize, 1);
+            this.rightBits = new long[(capacity + 63) >>> 6];
+            this.rights = new Object[capacity];
+            this.lefts = EMPTY;
+        }
+
+        /**
+         * Appends a Left row.
+         *
+         * @param value the Left value
+         * @return this builder
+         */
+        public Builder<L, R> addLeft(@Nonnull L value) {
+            Objects.requireNonNull(value, "Left value cannot be null");
+            if (leftCount == lefts.length) {
+                lefts = Arrays.copyOf(lefts, Math.max(8, leftCount * 2));
+            }
+            lefts[leftCount++] = value;
+            // Keep the bitmap sized to the rows, as addAll reads it for every row
+            ensureBits(size);
+            nextRow();
+            return this;
+        }
+
+        /**
+         * Appends a Right row.
+         *
+         * @param value the Right value
+         * @return this builder
+         */
+        public Builder<L, R> addRight(@Nonnull R value) {
+            Objects.requireNonNull(value, "Right value cannot be null");
+            if (rightCount == rights.length) {
+                rights = Arrays.copyOf(rights, Math.max(8, rightCount * 2));
+            }
+            rights[rightCount++] = value;
+            ensureBits(size);
+            rightBits[size >>> 6] |= 1L << size;
+            nextRow();
+            return this;
+        }
+
+        /**
+         * Appends a row with the given outcome.
+         *
+         * @param either the outcome
+         * @return this builder
+         */
+        public Builder<L, R> add(@Nonnull Either<? extends L, ? extends R> either) {
+            return switch (either) {
+                case Left<? extends L, ? extends R> left -> addLeft(left.value());
+                case Right<? extends L, ? extends R> right -> addRight(right.value());
+            };
+        }
+
+        /**
+         * Builds the batch. The builder must not be used afterwards.
+         *
+         * @return a new batch
+         */
+        public EitherBatch<L, R> build() {
+            ensureBits(size);
+            long[] bits = Arrays.copyOf(rightBits, (size + 63) >>> 6);
+            return new EitherBatch<>(size, bits, Arrays.copyOf(rights, rightCount), leftCount == 0 ? EMPTY : Arrays.copyOf(lefts, leftCount));
+        }
+
+        @SuppressWarnings("unchecked")
+        private Builder<L, R> addAll(Builder<L, R> other) {
+            int rightIndex = 0;
+            int leftIndex = 0;
+            for (int row = 0; row < other.size; row++) {
+                if ((other.rightBits[row >>> 6] & (1L << row)) != 0) {
+                    addRight((R) other.rights[rightIndex++]);
+                } else {
+                    addLeft((L) other.lefts[leftIndex++]);
+                }
+            }
+            return this;
+        }
+
+        private void ensureBits(int row) {
+            int words = (row >>> 6) + 1;
+            if (words > rightBits.length) {
+                rightBits = Arrays.copyOf(rightBits, Math.max(words, rightBits.length * 2));
+            }
+        }
+
+        private void nextRow() {
+            if (size == Integer.MAX_VALUE) {
+                throw new IllegalStateException("EitherBatch is full");
+            }
+            size++;
+        }
+    }
+}
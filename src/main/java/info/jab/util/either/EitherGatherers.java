@@ -0,0 +1,176 @@
+package info.jab.util.either;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Gatherer;
+import java.util.stream.Gatherers;
+
+/**
+ * Stream gatherers for streams of Either values.
+ *
+ * <pre>{@code
+ * Either<String, List<Integer>> firstBatch = inputs.stream()
+ *     .gather(EitherGatherers.mapConcurrent(8, this::load, Throwable::getMessage))
+ *     .gather(EitherGatherers.windows(100))
+ *     .findFirst()
+ *     .orElseThrow();
+ * }</pre>
+ */
+public final class EitherGatherers {
+
+    private EitherGatherers() {
+        // Utility class
+    }
+
+    /**
+     * Passes Right values through and stops at the first Left. The Left is emitted and no further element is pulled.
+     *
+     * @param <L> the type of the Left value
+     * @param <R> the type of the Right value
+     * @return a gatherer emitting the elements up to and including the first Left
+     */
+    public static <L, R> Gatherer<Either<L, R>, ?, Either<L, R>> failFast() {
+        return Gatherer.<Either<L, R>, Either<L, R>>ofSequential((state, either, downstream) -> downstream.push(either) && either.isRight());
+    }
+
+    /**
+     * Emits the Right values and drops the Left values. It replaces {@code filter(Either::isRight).map(Either::get)}.
+     *
+     * @param <L> the type of the Left value
+     * @param <R> the type of the Right value
+     * @return a gatherer emitting the Right values
+     */
+    public static <L, R> Gatherer<Either<L, R>, ?, R> rights() {
+        return Gatherer.<Either<L, R>, R>of(Gatherer.Integrator.ofGreedy(
+            (state, either, downstream) -> !(either instanceof Right<L, R> right) || downstream.push(right.value())));
+    }
+
+    /**
+     * Emits the Left values and drops the Right values.
+     *
+     * @param <L> the type of the Left value
+     * @param <R> the type of the Right value
+     * @return a gatherer emitting the Left values
+     */
+    public static <L, R> Gatherer<Either<L, R>, ?, L> lefts() {
+        return Gatherer.<Either<L, R>, L>of(Gatherer.Integrator.ofGreedy(
+            (state, either, downstream) -> !(either instanceof Left<L, R> left) || downstream.push(left.value())));
+    }
+
+    /**
+     * Accumulates the whole stream into a single Either, keeping at most {@code maxErrors} Left values.
+     * Once the bound is reached, no further element is pulled.
+     *
+     * @param maxErrors the maximum number of Left values to keep
+     * @param <L> the type of the Left value
+     * @param <R> the type of the Right value
+     * @return a gatherer emitting a Left with the errors found, or a Right with all the values if there are no errors
+     * @throws IllegalArgumentException if {@code maxErrors} is less than 1
+     */
+    public static <L, R> Gatherer<Either<L, R>, ?, Either<List<L>, List<R>>> accumulate(int maxErrors) {
+        if (maxErrors < 1) {
+            throw new IllegalArgumentException("maxErrors must be greater than 0");
+        }
+        // @formatter:off
+        return Gatherer.<Either<L, R>, Partition<L, R>, Either<List<L>, List<R>>>ofSequential(
+            () -> new Partition<>(new ArrayList<>(), new ArrayList<>()),
+            (partition, either, downstream) -> switch (either) {
+                case Left<L, R> left -> partition.lefts().add(left.value()) && partition.lefts().size() < maxErrors;
+                case Right<L, R> right -> partition.rights().add(right.value());
+            },
+            (partition, downstream) -> downstream.push(partition.lefts().isEmpty()
+                ? Either.right(Collections.unmodifiableList(partition.rights()))
+                : Either.left(Collections.unmodifiableList(partition.lefts()))));
+        // @formatter:on
+    }
+
+    /**
+     * Validates the stream in fixed-size windows. Each window is emitted as its first Left, or as a Right with the window values.
+     * The last window may be smaller.
+     *
+     * @param windowSize the number of elements in each window
+     * @param <L> the type of the Left value
+     * @param <R> the type of the Right value
+     * @return a gatherer emitting one Either per window
+     * @throws IllegalArgumentException if {@code windowSize} is less than 1
+     */
+    public static <L, R> Gatherer<Either<L, R>, ?, Either<L, List<R>>> windows(int windowSize) {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("windowSize must be greater than 0");
+        }
+        // @formatter:off
+        return Gatherer.<Either<L, R>, Window<L, R>, Either<L, List<R>>>ofSequential(
+            () -> new Window<>(windowSize),
+            Gatherer.Integrator.ofGreedy((window, either, downstream) -> window.add(either) || downstream.push(window.close())),
+            (window, downstream) -> {
+                if (window.count > 0) {
+                    downstream.push(window.close());
+                }
+            });
+        // @formatter:on
+    }
+
+    /**
+     * Maps each element on a virtual thread, with at most {@code maxConcurrency} mappings in flight, keeping encounter order.
+     * An exception thrown by the mapper is turned into a Left with the exception mapper, instead of failing the stream.
+     *
+     * @param maxConcurrency the maximum number of concurrent mappings
+     * @param mapper the function returning an Either for each element
+     * @param exceptionMapper the function turning an exception thrown by the mapper into a Left value
+     * @param <A> the type of the elements
+     * @param <L> the type of the Left value
+     * @param <R> the type of the Right value
+     * @return a gatherer emitting one Either per element
+     */
+    public static <A, L, R> Gatherer<A, ?, Either<L, R>> mapConcurrent(int maxConcurrency,
+                                                                        @Nonnull Function<? super A, ? extends Either<L, R>> mapper,
+                                                                        @Nonnull Function<? super Throwable, ? extends L> exceptionMapper) {
+        Objects.requireNonNull(mapper, "mapper cannot be null");
+        Objects.requireNonNull(exceptionMapper, "exceptionMapper cannot be null");
+        return Gatherers.<A, Either<L, R>>mapConcurrent(maxConcurrency, value -> {
+            try {
+                return mapper.apply(value);
+            } catch (RuntimeException e) {
+                return Either.left(exceptionMapper.apply(e));
+            }
+        });
+    }
+
+    /**
+     * The state of a window: the Right values, or the first Left value.
+     */
+    private static final class Window<L, R> {
+
+        private final int size;
+        private List<R> rights;
+        private L firstLeft;
+        private int count;
+
+        private Window(int size) {
+            this.size = size;
+            this.rights = new ArrayList<>(size);
+        }
+
+        private boolean add(Either<L, R> either) {
+            if (firstLeft == null) {
+                switch (either) {
+                    case Left<L, R> left -> firstLeft = left.value();
+                    case Right<L, R> right -> rights.add(right.value());
+                }
+            }
+            return ++count < size;
+        }
+
+        private Either<L, List<R>> close() {
+            Either<L, List<R>> result = firstLeft == null ? Either.right(Collections.unmodifiableList(rights)) : Either.left(firstLeft);
+            rights = new ArrayList<>(size);
+            firstLeft = null;
+            count = 0;
+            return result;
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package info.jab.util.either;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import org.slf4j.helpers.MessageFormatter;
+
+/**
+ * An error payload for a Left (or, through {@code DeferredException}, a failed {@code Result}) whose message, context
+ * and cause are computed only when someone reads them.
+ *
+ * <p>Error paths often format a message which is then discarded by {@code getOrElse} or {@code orElse}.
+ * With an {@code ErrorDetail}, {@code Either.left(ErrorDetail.format("Cannot fetch {}: {}", uri, status))} only keeps
+ * the template and its arguments; the message is built the first time {@link #message()} is called.
+ * <ul>
+ *   <li>Each part is computed at most once, even when read from several threads, and the supplier is released after.</li>
+ *   <li>The details are immutable: {@link #with(String, Object)} and {@link #causedBy(Throwable)} return a new instance
+ *       sharing the parts already declared, computed or not.</li>
+ *   <li>The arguments are read when the message is built, so they should not be modified in between.</li>
+ * </ul>
+ *
+ * <p>Two details are equal only if they are the same instance, so that comparing two Lefts never builds a message.
+ */
+public final class ErrorDetail {
+
+    private final Memo<String> message;
+    private final Entry context;
+    private final Memo<? extends Throwable> cause;
+    private volatile Map<String, Object> contextMap;
+
+    private ErrorDetail(Memo<String> message, Entry context, Memo<? extends Throwable> cause) {
+        this.message = message;
+        this.context = context;
+        this.cause = cause;
+    }
+
+    /**
+     * Creates a detail with a message which is already known.
+     *
+     * @param message the message
+     * @return a new ErrorDetail
+     * @throws NullPointerException if {@code message} is {@code null}
+     */
+    public static ErrorDetail of(@Nonnull String message) {
+        Objects.requireNonNull(message, "message cannot be null");
+        return new ErrorDetail(Memo.of(message), null, null);
+    }
+
+    /**
+     * Creates a detail whose message is computed by {@code message} the first time it is read.
+     *
+     * @param message the supplier of the message
+     * @return a new ErrorDetail
+     * @throws NullPointerException if {@code message} is {@code null}
+     */
+    public static ErrorDetail lazy(@Nonnull Supplier<String> message) {
+        Objects.requireNonNull(message, "message cannot be null");
+        return new ErrorDetail(Memo.lazy(message), null, null);
+    }
+
+    /**
+     * Creates a detail whose message is formatted the first time it is read, with the {@code {}} placeholders of SLF4J.
+     *
+     * @param template the message template, such as {@code "User {} not found"}
+     * @param args the values replacing the placeholders, in order
+     * @return a new ErrorDetail
+     * @throws NullPointerException if {@code template} is {@code null}
+     */
+    public static ErrorDetail format(@Nonnull String template, Object... args) {
+        Objects.requireNonNull(template, "template cannot be null");
+        return new ErrorDetail(Memo.lazy(() -> MessageFormatter.basicArrayFormat(template, args)), null, null);
+    }
+
+    /**
+     * Returns a copy of this detail with one more context entry. A later entry replaces an earlier one with the same key.
+     *
+     * @param key the key of the entry
+     * @param value the value of the entry
+     * @return a new ErrorDetail
+     * @throws NullPointerException if {@code key} or {@code value} is {@code null}
+     */
+    public ErrorDetail with(@Nonnull String key, @Nonnull Object value) {
+        Objects.requireNonNull(key, "key cannot be null");
+        Objects.requireNonNull(value, "value cannot be null");
+        return new ErrorDetail(message, new Entry(key, Memo.of(value), context), cause);
+    }
+
+    /**
+     * Returns a copy of this detail with one more context entry, whose value is computed the first time the context is read.
+     *
+     * @param key the key of the entry
+     * @param value the supplier of the value of the entry, which must not return {@code null}
+     * @return a new ErrorDetail
+     * @throws NullPointerException if {@code key} or {@code value} is {@code null}
+     */
+    public ErrorDetail withLazy(@Nonnull String key, @Nonnull Supplier<?> value) {
+        Objects.requireNonNull(key, "key cannot be null");
+        Objects.requireNonNull(value, "value cannot be null");
+        return new ErrorDetail(message, new Entry(key, Memo.lazy(value), context), cause);
+    }
+
+    /**
+     * Returns a copy of this detail with the given cause.
+     *
+     * @param cause the cause
+     * @return a new ErrorDetail
+     * @throws NullPointerException if {@code cause} is {@code null}
+     */
+    public ErrorDetail causedBy(@Nonnull Throwable cause) {
+        Objects.requireNonNull(cause, "cause cannot be null");
+        return new ErrorDetail(message, context, Memo.of(cause));
+    }
+
+    /**
+     * Returns a copy of this detail whose cause is created the first time it is read,
+     * so that the cost of building an exception and filling its stack trace is only paid when needed.
+     *
+     * @param cause the supplier of the cause, which must not return {@code null}
+     * @return a new ErrorDetail
+     * @throws NullPointerException if {@code cause} is {@code null}
+     */
+    public ErrorDetail causedBy(@Nonnull Supplier<? extends Throwable> cause) {
+        Objects.requireNonNull(cause, "cause cannot be null");
+        return new ErrorDetail(message, context, Memo.lazy(cause));
+    }
+
+    /**
+     * Returns the message, computing it on the first call.
+     *
+     * @return the message
+     * @throws NullPointerException if the message supplier returns {@code null}
+     */
+    public String message() {
+        return message.get();
+    }
+
+    /**
+     * Returns the context entries in insertion order, computing the lazy values on the first call.
+     *
+     * @return an unmodifiable map of the context entries
+     * @throws NullPointerException if a value supplier returns {@code null}
+     */
+    public Map<String, Object> context() {
+        Map<String, Object> map = contextMap;
+        if (map == null) {
+            // Computing the map twice on a race is harmless: the values themselves are computed once.
+            List<Entry> entries = new ArrayList<>();
+            for (Entry entry = context; entry != null; entry = entry.previous()) {
+                entries.add(entry);
+            }
+            Map<String, Object> values = new LinkedHashMap<>();
+            for (int i = entries.size() - 1; i >= 0; i--) {
+                values.remove(entries.get(i).key());
+                values.put(entries.get(i).key(), entries.get(i).value().get());
+            }
+            map = Collections.unmodifiableMap(values);
+            contextMap = map;
+        }
+        return map;
+    }
+
+    /**
+     * Returns the cause, creating it on the first call.
+     *
+     * @return the cause, or an empty Optional if none was given
+     * @throws NullPointerException if the cause supplier returns {@code null}
+     */
+    public Optional<Throwable> cause() {
+        return cause == null ? Optional.empty() : Optional.of(cause.get());
+    }
+
+    /**
+     * Returns the message, followed by the context when it is not empty.
+     *
+     * @return the materialized detail
+     */
+    @Override
+    public String toString() {
+        return context == null ? message() : message() + " " + context();
+    }
+
+    private record Entry(String key, Memo<?> value, Entry previous) {}
+
+    /**
+     * A value computed at most once, with double-checked locking. The supplier is released once the value is known.
+     * The lock is a {@link ReentrantLock} rather than a monitor, so that a virtual thread running the supplier does not
+     * pin its carrier thread.
+     */
+    private static final class Memo<T> implements Supplier<T> {
+
+        private final ReentrantLock lock;
+        private Supplier<? extends T> supplier;
+        private volatile T value;
+
+        private Memo(ReentrantLock lock) {
+            this.lock = lock;
+        }
+
+        static <T> Memo<T> of(T value) {
+            Memo<T> memo = new Memo<>(null);
+            memo.value = value;
+            return memo;
+        }
+
+        static <T> Memo<T> lazy(Supplier<? extends T> supplier) {
+            Memo<T> memo = new Memo<>(new ReentrantLock());
+            memo.supplier = supplier;
+            return memo;
+        }
+
+        @Override
+        public T get() {
+            T result = value;
+            if (result == null) {
+                lock.lock();
+                try {
+                    result = value;
+                    if (result == null) {
+                        result = Objects.requireNonNull(supplier.get(), "supplier returned null");
+                        value = result;
+                        supplier = null;
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            }
+            return result;
+        }
+    }
+}
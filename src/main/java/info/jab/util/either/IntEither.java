@@ -0,0 +1,245 @@
+package info.jab.util.either;
+
+import jakarta.annotation.Nonnull;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.IntSupplier;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * A specialization of {@link Either} whose Right value is a primitive {@code int}, so it is never boxed.
+ *
+ * @param <L> the type of the Left value
+ */
+public sealed interface IntEither<L> permits IntEither.Left, IntEither.Right {
+    /**
+     * Creates an instance of Left.
+     *
+     * @param value the value to be wrapped in Left
+     * @param <L> the type of the Left value
+     * @return a Left containing the given value
+     */
+    static <L> IntEither<L> left(@Nonnull L value) {
+        return new Left<>(value);
+    }
+
+    /**
+     * Creates an instance of Right.
+     *
+     * @param value the value to be wrapped in Right
+     * @param <L> the type of the Left value
+     * @return a Right containing the given value
+     */
+    static <L> IntEither<L> right(int value) {
+        return new Right<>(value);
+    }
+
+    /**
+     * Checks if this is an instance of Left.
+     *
+     * @return true if this is a Left, false otherwise
+     */
+    boolean isLeft();
+
+    /**
+     * Checks if this is an instance of Right.
+     *
+     * @return true if this is a Right, false otherwise
+     */
+    boolean isRight();
+
+    /**
+     * Applies either the leftMapper function to the value if this is a Left, or the rightMapper function if this is a Right.
+     *
+     * @param leftMapper the function to apply if this is a Left
+     * @param rightMapper the function to apply if this is a Right
+     * @param <T> the type of the result
+     * @return the result of applying the appropriate function
+     */
+    <T> T fold(Function<? super L, ? extends T> leftMapper, IntFunction<? extends T> rightMapper);
+
+    /**
+     * Transforms the value in Right using the given operator if this is a Right, otherwise returns the current Left.
+     *
+     * @param mapper the operator to apply to the Right value
+     * @return a new IntEither instance, or this Left
+     */
+    IntEither<L> map(IntUnaryOperator mapper);
+
+    /**
+     * Transforms the value in Right into an object if this is a Right, otherwise returns the Left value as an {@link Either}.
+     *
+     * @param mapper the function to apply to the Right value
+     * @param <U> the type of the new Right value
+     * @return a new Either instance
+     */
+    <U> Either<L, U> mapToObj(IntFunction<? extends U> mapper);
+
+    /**
+     * Transforms the value in Right using the given function that returns another IntEither, if this is a Right.
+     * Otherwise, returns the current Left.
+     *
+     * @param mapper the function to apply to the Right value
+     * @return the IntEither returned by the mapper, or this Left
+     */
+    IntEither<L> flatMap(IntFunction<? extends IntEither<L>> mapper);
+
+    /**
+     * Returns the Right value if this is a Right, otherwise returns the result of the given supplier.
+     *
+     * @param other a supplier whose result is returned if this is a Left
+     * @return the Right value or the result of the supplier
+     */
+    int getOrElse(IntSupplier other);
+
+    /**
+     * Returns the value if this is a Right, otherwise throws an exception.
+     *
+     * @return the Right value
+     * @throws NoSuchElementException if this is a Left
+     */
+    int get();
+
+    /**
+     * Converts this IntEither to an OptionalInt, empty if this is a Left.
+     *
+     * @return an OptionalInt containing the Right value if present
+     */
+    OptionalInt toOptional();
+
+    /**
+     * Converts this IntEither to an {@link Either} with a boxed Right value.
+     *
+     * @return an equivalent Either
+     */
+    Either<L, Integer> boxed();
+
+    /**
+     * A record representing the Left variant of an IntEither.
+     *
+     * @param <L> the type of the Left value
+     * @param value the value
+     */
+    record Left<L>(@Nonnull L value) implements IntEither<L> {
+        /**
+         * Constructs a new {@code Left} with the given value.
+         *
+         * @param value the value to be contained in this {@code Left}
+         * @throws NullPointerException if {@code value} is {@code null}
+         */
+        public Left {
+            Objects.requireNonNull(value, "Left value cannot be null");
+        }
+
+        @Override
+        public boolean isLeft() {
+            return true;
+        }
+
+        @Override
+        public boolean isRight() {
+            return false;
+        }
+
+        @Override
+        public <T> T fold(Function<? super L, ? extends T> leftMapper, IntFunction<? extends T> rightMapper) {
+            return leftMapper.apply(value);
+        }
+
+        @Override
+        public IntEither<L> map(IntUnaryOperator mapper) {
+            return this;
+        }
+
+        @Override
+        public <U> Either<L, U> mapToObj(IntFunction<? extends U> mapper) {
+            return Either.left(value);
+        }
+
+        @Override
+        public IntEither<L> flatMap(IntFunction<? extends IntEither<L>> mapper) {
+            return this;
+        }
+
+        @Override
+        public int getOrElse(IntSupplier other) {
+            return other.getAsInt();
+        }
+
+        @Override
+        public int get() {
+            throw new NoSuchElementException("No value present in Left");
+        }
+
+        @Override
+        public OptionalInt toOptional() {
+            return OptionalInt.empty();
+        }
+
+        @Override
+        public Either<L, Integer> boxed() {
+            return Either.left(value);
+        }
+    }
+
+    /**
+     * A record representing the Right variant of an IntEither.
+     *
+     * @param <L> the type of the Left value
+     * @param value the value
+     */
+    record Right<L>(int value) implements IntEither<L> {
+        @Override
+        public boolean isLeft() {
+            return false;
+        }
+
+        @Override
+        public boolean isRight() {
+            return true;
+        }
+
+        @Override
+        public <T> T fold(Function<? super L, ? extends T> leftMapper, IntFunction<? extends T> rightMapper) {
+            return rightMapper.apply(value);
+        }
+
+        @Override
+        public IntEither<L> map(IntUnaryOperator mapper) {
+            return new Right<>(mapper.applyAsInt(value));
+        }
+
+        @Override
+        public <U> Either<L, U> mapToObj(IntFunction<? extends U> mapper) {
+            return Either.right(mapper.apply(value));
+        }
+
+        @Override
+        public IntEither<L> flatMap(IntFunction<? extends IntEither<L>> mapper) {
+            return mapper.apply(value);
+        }
+
+        @Override
+        public int getOrElse(IntSupplier other) {
+            return value;
+        }
+
+        @Override
+        public int get() {
+            return value;
+        }
+
+        @Override
+        public OptionalInt toOptional() {
+            return OptionalInt.of(value);
+        }
+
+        @Override
+        public Either<L, Integer> boxed() {
+            return Either.right(value);
+        }
+    }
+}
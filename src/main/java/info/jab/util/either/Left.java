@@ -1,5 +1,6 @@
 package info.jab.util.either;
 
+import info.jab.util.internal.CanonicalInstances;
 import jakarta.annotation.Nonnull;
 import java.util.NoSuchElementException;
 import java.util.Objects;
@@ -13,6 +14,9 @@ import java.util.function.Function;
  * @param value the value
  */
 public record Left<L, R>(@Nonnull L value) implements Either<L, R> {
+
+    private static final CanonicalInstances<Left<?, ?>> SHARED = new CanonicalInstances<>(Left::new);
+
     /**
      * Constructs a new {@code Left} with the given value.
      *
@@ -23,6 +27,16 @@ public record Left<L, R>(@Nonnull L value) implements Either<L, R> {
         Objects.requireNonNull(value, "Left value cannot be null");
     }
 
+    /**
+     * Returns the shared {@code Left} for a constant value (an enum constant, a {@code Boolean} or a small {@code Integer}),
+     * or a new one for any other value.
+     */
+    @SuppressWarnings("unchecked")
+    static <L, R> Left<L, R> of(L value) {
+        Left<?, ?> shared = SHARED.lookup(value);
+        return shared != null ? (Left<L, R>) shared : new Left<>(value);
+    }
+
     @Override
     public <T> T fold(Function<? super L, ? extends T> leftMapper, Function<? super R, ? extends T> rightMapper) {
         return leftMapper.apply(value);
@@ -0,0 +1,245 @@
+package info.jab.util.either;
+
+import jakarta.annotation.Nonnull;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.LongSupplier;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * A specialization of {@link Either} whose Right value is a primitive {@code long}, so it is never boxed.
+ *
+ * @param <L> the type of the Left value
+ */
+public sealed interface LongEither<L> permits LongEither.Left, LongEither.Right {
+    /**
+     * Creates an instance of Left.
+     *
+     * @param value the value to be wrapped in Left
+     * @param <L> the type of the Left value
+     * @return a Left containing the given value
+     */
+    static <L> LongEither<L> left(@Nonnull L value) {
+        return new Left<>(value);
+    }
+
+    /**
+     * Creates an instance of Right.
+     *
+     * @param value the value to be wrapped in Right
+     * @param <L> the type of the Left value
+     * @return a Right containing the given value
+     */
+    static <L> LongEither<L> right(long value) {
+        return new Right<>(value);
+    }
+
+    /**
+     * Checks if this is an instance of Left.
+     *
+     * @return true if this is a Left, false otherwise
+     */
+    boolean isLeft();
+
+    /**
+     * Checks if this is an instance of Right.
+     *
+     * @return true if this is a Right, false otherwise
+     */
+    boolean isRight();
+
+    /**
+     * Applies either the leftMapper function to the value if this is a Left, or the rightMapper function if this is a Right.
+     *
+     * @param leftMapper the function to apply if this is a Left
+     * @param rightMapper the function to apply if this is a Right
+     * @param <T> the type of the result
+     * @return the result of applying the appropriate function
+     */
+    <T> T fold(Function<? super L, ? extends T> leftMapper, LongFunction<? extends T> rightMapper);
+
+    /**
+     * Transforms the value in Right using the given operator if this is a Right, otherwise returns the current Left.
+     *
+     * @param mapper the operator to apply to the Right value
+     * @return a new LongEither instance, or this Left
+     */
+    LongEither<L> map(LongUnaryOperator mapper);
+
+    /**
+     * Transforms the value in Right into an object if this is a Right, otherwise returns the Left value as an {@link Either}.
+     *
+     * @param mapper the function to apply to the Right value
+     * @param <U> the type of the new Right value
+     * @return a new Either instance
+     */
+    <U> Either<L, U> mapToObj(LongFunction<? extends U> mapper);
+
+    /**
+     * Transforms the value in Right using the given function that returns another LongEither, if this is a Right.
+     * Otherwise, returns the current Left.
+     *
+     * @param mapper the function to apply to the Right value
+     * @return the LongEither returned by the mapper, or this Left
+     */
+    LongEither<L> flatMap(LongFunction<? extends LongEither<L>> mapper);
+
+    /**
+     * Returns the Right value if this is a Right, otherwise returns the result of the given supplier.
+     *
+     * @param other a supplier whose result is returned if this is a Left
+     * @return the Right value or the result of the supplier
+     */
+    long getOrElse(LongSupplier other);
+
+    /**
+     * Returns the value if this is a Right, otherwise throws an exception.
+     *
+     * @return the Right value
+     * @throws NoSuchElementException if this is a Left
+     */
+    long get();
+
+    /**
+     * Converts this LongEither to an OptionalLong, empty if this is a Left.
+     *
+     * @return an OptionalLong containing the Right value if present
+     */
+    OptionalLong toOptional();
+
+    /**
+     * Converts this LongEither to an {@link Either} with a boxed Right value.
+     *
+     * @return an equivalent Either
+     */
+    Either<L, Long> boxed();
+
+    /**
+     * A record representing the Left variant of an LongEither.
+     *
+     * @param <L> the type of the Left value
+     * @param value the value
+     */
+    record Left<L>(@Nonnull L value) implements LongEither<L> {
+        /**
+         * Constructs a new {@code Left} with the given value.
+         *
+         * @param value the value to be contained in this {@code Left}
+         * @throws NullPointerException if {@code value} is {@code null}
+         */
+        public Left {
+            Objects.requireNonNull(value, "Left value cannot be null");
+        }
+
+        @Override
+        public boolean isLeft() {
+            return true;
+        }
+
+        @Override
+        public boolean isRight() {
+            return false;
+        }
+
+        @Override
+        public <T> T fold(Function<? super L, ? extends T> leftMapper, LongFunction<? extends T> rightMapper) {
+            return leftMapper.apply(value);
+        }
+
+        @Override
+        public LongEither<L> map(LongUnaryOperator mapper) {
+            return this;
+        }
+
+        @Override
+        public <U> Either<L, U> mapToObj(LongFunction<? extends U> mapper) {
+            return Either.left(value);
+        }
+
+        @Override
+        public LongEither<L> flatMap(LongFunction<? extends LongEither<L>> mapper) {
+            return this;
+        }
+
+        @Override
+        public long getOrElse(LongSupplier other) {
+            return other.getAsLong();
+        }
+
+        @Override
+        public long get() {
+            throw new NoSuchElementException("No value present in Left");
+        }
+
+        @Override
+        public OptionalLong toOptional() {
+            return OptionalLong.empty();
+        }
+
+        @Override
+        public Either<L, Long> boxed() {
+            return Either.left(value);
+        }
+    }
+
+    /**
+     * A record representing the Right variant of an LongEither.
+     *
+     * @param <L> the type of the Left value
+     * @param value the value
+     */
+    record Right<L>(long value) implements LongEither<L> {
+        @Override
+        public boolean isLeft() {
+            return false;
+        }
+
+        @Override
+        public boolean isRight() {
+            return true;
+        }
+
+        @Override
+        public <T> T fold(Function<? super L, ? extends T> leftMapper, LongFunction<? extends T> rightMapper) {
+            return rightMapper.apply(value);
+        }
+
+        @Override
+        public LongEither<L> map(LongUnaryOperator mapper) {
+            return new Right<>(mapper.applyAsLong(value));
+        }
+
+        @Override
+        public <U> Either<L, U> mapToObj(LongFunction<? extends U> mapper) {
+            return Either.right(mapper.apply(value));
+        }
+
+        @Override
+        public LongEither<L> flatMap(LongFunction<? extends LongEither<L>> mapper) {
+            return mapper.apply(value);
+        }
+
+        @Override
+        public long getOrElse(LongSupplier other) {
+            return value;
+        }
+
+        @Override
+        public long get() {
+            return value;
+        }
+
+        @Override
+        public OptionalLong toOptional() {
+            return OptionalLong.of(value);
+        }
+
+        @Override
+        public Either<L, Long> boxed() {
+            return Either.right(value);
+        }
+    }
+}
@@ -0,0 +1,359 @@
+package info.jab.util.either;
+
+import jakarta.annotation.Nonnull;
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.channels.FileChannel;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * A column of {@code long} Either outcomes stored off-heap in a {@link MemorySegment}.
+ *
+ * <p>Each row holds either a Right {@code long} value or a Left {@code int} error code.
+ * The segment is laid out as a header followed by three regions, so that it can be written to a file and memory-mapped again:</p>
+ * <pre>
+ * [magic:int][version:int][size:long] [values:long * size] [error codes:int * size] [tags:byte * size]
+ * </pre>
+ *
+ * <p>Bulk operations work directly on the segment and never copy the rows to the heap.
+ * The lifetime of the memory is controlled by the {@link Arena} passed when the column is created.
+ * A column is mutable and, like the segment behind it, is not thread safe unless its arena is shared and writes are coordinated by the caller.</p>
+ */
+public final class LongEitherColumn {
+
+    private static final int MAGIC = 0x4C454331;
+    private static final int VERSION = 1;
+    private static final long HEADER_SIZE = 16;
+
+    private static final byte LEFT = 0;
+    private static final byte RIGHT = 1;
+
+    private final MemorySegment segment;
+    private final long size;
+    private final long codesOffset;
+    private final long tagsOffset;
+
+    private LongEitherColumn(MemorySegment segment, long size) {
+        this.segment = segment;
+        this.size = size;
+        this.codesOffset = HEADER_SIZE + size * Long.BYTES;
+        this.tagsOffset = codesOffset + size * Integer.BYTES;
+    }
+
+    /**
+     * Allocates a column in the given arena. All rows start as Left with error code {@code 0}.
+     *
+     * @param arena the arena owning the memory
+     * @param size the number of rows
+     * @return a new column
+     */
+    public static LongEitherColumn allocate(@Nonnull Arena arena, long size) {
+        Objects.requireNonNull(arena, "arena cannot be null");
+        MemorySegment segment = arena.allocate(byteSize(size), Long.BYTES);
+        segment.fill((byte) 0);
+        return initialize(segment, size);
+    }
+
+    /**
+     * Creates, or truncates, a file holding a column and maps it into memory. Writes to the column are written to the file.
+     *
+     * @param file the file backing the column
+     * @param size the number of rows
+     * @param arena the arena controlling the lifetime of the mapping
+     * @return a new column
+     * @throws IOException if the file cannot be created or mapped
+     */
+    public static LongEitherColumn create(@Nonnull Path file, long size, @Nonnull Arena arena) throws IOException {
+        Objects.requireNonNull(file, "file cannot be null");
+        Objects.requireNonNull(arena, "arena cannot be null");
+        long byteSize = byteSize(size);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MemorySegment segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, byteSize, arena);
+            segment.fill((byte) 0);
+            return initialize(segment, size);
+        }
+    }
+
+    /**
+     * Maps an existing column file into memory, for re-processing. Writes to the column are written to the file.
+     *
+     * @param file the file written by {@link #create(Path, long, Arena)}
+     * @param arena the arena controlling the lifetime of the mapping
+     * @return the column stored in the file
+     * @throws IOException if the file cannot be opened for writing or mapped
+     * @throws IllegalArgumentException if the file does not contain a column
+     */
+    public static LongEitherColumn open(@Nonnull Path file, @Nonnull Arena arena) throws IOException {
+        return open(file, FileChannel.MapMode.READ_WRITE, arena);
+    }
+
+    /**
+     * Maps an existing column file into memory with the given mode.
+     * With {@link FileChannel.MapMode#READ_ONLY}, the file only needs to be readable, so that a column on a read-only
+     * file or file system can be re-processed; the setters and the bulk operations writing to the column then throw an
+     * {@link UnsupportedOperationException}. With {@link FileChannel.MapMode#PRIVATE}, writes stay in memory.
+     *
+     * @param file the file written by {@link #create(Path, long, Arena)}
+     * @param mode the mapping mode
+     * @param arena the arena controlling the lifetime of the mapping
+     * @return the column stored in the file
+     * @throws IOException if the file cannot be opened or mapped
+     * @throws IllegalArgumentException if the file does not contain a column
+     */
+    public static LongEitherColumn open(@Nonnull Path file, @Nonnull FileChannel.MapMode mode, @Nonnull Arena arena) throws IOException {
+        Objects.requireNonNull(file, "file cannot be null");
+        Objects.requireNonNull(mode, "mode cannot be null");
+        Objects.requireNonNull(arena, "arena cannot be null");
+        OpenOption[] options = mode == FileChannel.MapMode.READ_WRITE
+            ? new OpenOption[] { StandardOpenOption.READ, StandardOpenOption.WRITE }
+            : new OpenOption[] { StandardOpenOption.READ };
+        try (FileChannel channel = FileChannel.open(file, options)) {
+            long fileSize = channel.size();
+            if (fileSize < HEADER_SIZE) {
+                throw new IllegalArgumentException("Not a LongEitherColumn file: " + file);
+            }
+            MemorySegment segment = channel.map(mode, 0, fileSize, arena);
+            if (segment.get(ValueLayout.JAVA_INT, 0) != MAGIC || segment.get(ValueLayout.JAVA_INT, 4) != VERSION) {
+                throw new IllegalArgumentException("Not a LongEitherColumn file: " + file);
+            }
+            long size = segment.get(ValueLayout.JAVA_LONG, 8);
+            if (size < 0 || byteSize(size) != fileSize) {
+                throw new IllegalArgumentException("Corrupted LongEitherColumn file: " + file);
+            }
+            return new LongEitherColumn(segment, size);
+        }
+    }
+
+    /**
+     * Returns the number of rows.
+     *
+     * @return the number of rows in this column
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Returns the segment holding the column, header included.
+     *
+     * @return the memory segment
+     */
+    public MemorySegment segment() {
+        return segment;
+    }
+
+    /**
+     * Checks if the given row is a Right.
+     *
+     * @param row the row index
+     * @return true if the row holds a value, false if it holds an error code
+     */
+    public boolean isRight(long row) {
+        return tag(Objects.checkIndex(row, size)) == RIGHT;
+    }
+
+    /**
+     * Returns the value of a Right row.
+     *
+     * @param row the row index
+     * @return the value
+     * @throws NoSuchElementException if the row is a Left
+     */
+    public long value(long row) {
+        if (!isRight(row)) {
+            throw new NoSuchElementException("Row " + row + " is a Left");
+        }
+        return readValue(row);
+    }
+
+    /**
+     * Returns the error code of a Left row.
+     *
+     * @param row the row index
+     * @return the error code
+     * @throws NoSuchElementException if the row is a Right
+     */
+    public int errorCode(long row) {
+        if (isRight(row)) {
+            throw new NoSuchElementException("Row " + row + " is a Right");
+        }
+        return readCode(row);
+    }
+
+    /**
+     * Returns the row as an Either, with the error code as Left value.
+     *
+     * @param row the row index
+     * @return the outcome of the row
+     */
+    public LongEither<Integer> get(long row) {
+        return isRight(row) ? LongEither.right(value(row)) : LongEither.left(errorCode(row));
+    }
+
+    /**
+     * Stores a Right value in the given row.
+     *
+     * @param row the row index
+     * @param value the value
+     * @return this column
+     */
+    public LongEitherColumn setRight(long row, long value) {
+        Objects.checkIndex(row, size);
+        writeValue(row, value);
+        segment.set(ValueLayout.JAVA_BYTE, tagsOffset + row, RIGHT);
+        return this;
+    }
+
+    /**
+     * Stores a Left error code in the given row.
+     *
+     * @param row the row index
+     * @param errorCode the error code
+     * @return this column
+     */
+    public LongEitherColumn setLeft(long row, int errorCode) {
+        Objects.checkIndex(row, size);
+        writeCode(row, errorCode);
+        segment.set(ValueLayout.JAVA_BYTE, tagsOffset + row, LEFT);
+        return this;
+    }
+
+    /**
+     * Transforms the Right values in place. Left rows are not touched.
+     *
+     * @param mapper the function to apply to each Right value
+     * @return this column
+     */
+    public LongEitherColumn map(@Nonnull LongUnaryOperator mapper) {
+        Objects.requireNonNull(mapper, "mapper cannot be null");
+        for (long row = 0; row < size; row++) {
+            if (tag(row) == RIGHT) {
+                writeValue(row, mapper.applyAsLong(readValue(row)));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Turns the Right rows not matching the predicate into Left rows with the given error code, in place.
+     *
+     * @param predicate the condition a Right value has to meet
+     * @param errorCode the error code stored for rejected values
+     * @return this column
+     */
+    public LongEitherColumn filter(@Nonnull LongPredicate predicate, int errorCode) {
+        Objects.requireNonNull(predicate, "predicate cannot be null");
+        for (long row = 0; row < size; row++) {
+            if (tag(row) == RIGHT && !predicate.test(readValue(row))) {
+                writeCode(row, errorCode);
+                segment.set(ValueLayout.JAVA_BYTE, tagsOffset + row, LEFT);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Reduces the Right values.
+     *
+     * @param identity the initial value
+     * @param accumulator the function combining the accumulated value with each Right value
+     * @return the reduced value, or the identity if there are no Right rows
+     */
+    public long reduce(long identity, @Nonnull LongBinaryOperator accumulator) {
+        Objects.requireNonNull(accumulator, "accumulator cannot be null");
+        long result = identity;
+        for (long row = 0; row < size; row++) {
+            if (tag(row) == RIGHT) {
+                result = accumulator.applyAsLong(result, readValue(row));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of Right rows.
+     *
+     * @return the number of values
+     */
+    public long rightCount() {
+        long count = 0;
+        for (long row = 0; row < size; row++) {
+            count += tag(row);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of Left rows.
+     *
+     * @return the number of error codes
+     */
+    public long leftCount() {
+        return size - rightCount();
+    }
+
+    /**
+     * Returns the number of Left rows holding the given error code.
+     *
+     * @param errorCode the error code to count
+     * @return the number of rows with that error code
+     */
+    public long count(int errorCode) {
+        long count = 0;
+        for (long row = 0; row < size; row++) {
+            if (tag(row) == LEFT && readCode(row) == errorCode) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public String toString() {
+        return "LongEitherColumn[size=" + size + ", byteSize=" + segment.byteSize() + "]";
+    }
+
+    private static long byteSize(long size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("size cannot be negative");
+        }
+        return Math.addExact(HEADER_SIZE, Math.multiplyExact(size, (long) Long.BYTES + Integer.BYTES + Byte.BYTES));
+    }
+
+    private static LongEitherColumn initialize(MemorySegment segment, long size) {
+        segment.set(ValueLayout.JAVA_INT, 0, MAGIC);
+        segment.set(ValueLayout.JAVA_INT, 4, VERSION);
+        segment.set(ValueLayout.JAVA_LONG, 8, size);
+        return new LongEitherColumn(segment, size);
+    }
+
+    private byte tag(long row) {
+        return segment.get(ValueLayout.JAVA_BYTE, tagsOffset + row);
+    }
+
+    private long readValue(long row) {
+        return segment.get(ValueLayout.JAVA_LONG, HEADER_SIZE + row * Long.BYTES);
+    }
+
+    private int readCode(long row) {
+        return segment.get(ValueLayout.JAVA_INT, codesOffset + row * Integer.BYTES);
+    }
+
+    private void writeValue(long row, long value) {
+        segment.set(ValueLayout.JAVA_LONG, HEADER_SIZE + row * Long.BYTES, value);
+    }
+
+    private void writeCode(long row, int errorCode) {
+        segment.set(ValueLayout.JAVA_INT, codesOffset + row * Integer.BYTES, errorCode);
+    }
+}
@@ -0,0 +1,27 @@
+package info.jab.util.either;
+
+import jakarta.annotation.Nonnull;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A record holding the Left values and the Right values of a group of Either outcomes, each in encounter order.
+ *
+ * @param <L> the type of the Left values
+ * @param <R> the type of the Right values
+ * @param lefts the Left values
+ * @param rights the Right values
+ */
+public record Partition<L, R>(@Nonnull List<L> lefts, @Nonnull List<R> rights) {
+    /**
+     * Constructs a new {@code Partition} with the given values.
+     *
+     * @param lefts the Left values
+     * @param rights the Right values
+     * @throws NullPointerException if any list is {@code null}
+     */
+    public Partition {
+        Objects.requireNonNull(lefts, "lefts cannot be null");
+        Objects.requireNonNull(rights, "rights cannot be null");
+    }
+}
@@ -1,5 +1,6 @@
 package info.jab.util.either;
 
+import info.jab.util.internal.CanonicalInstances;
 import jakarta.annotation.Nonnull;
 import java.util.Objects;
 import java.util.function.Function;
@@ -12,6 +13,9 @@ import java.util.function.Function;
  * @param value the value
  */
 public record Right<L, R>(@Nonnull R value) implements Either<L, R> {
+
+    private static final CanonicalInstances<Right<?, ?>> SHARED = new CanonicalInstances<>(Right::new);
+
     /**
      * Constructs a new {@code Right} with the given value.
      *
@@ -22,6 +26,16 @@ public record Right<L, R>(@Nonnull R value) implements Either<L, R> {
         Objects.requireNonNull(value, "Right value cannot be null");
     }
 
+    /**
+     * Returns the shared {@code Right} for a constant value (an enum constant, a {@code Boolean} or a small {@code Integer}),
+     * or a new one for any other value.
+     */
+    @SuppressWarnings("unchecked")
+    static <L, R> Right<L, R> of(R value) {
+        Right<?, ?> shared = SHARED.lookup(value);
+        return shared != null ? (Right<L, R>) shared : new Right<>(value);
+    }
+
     @Override
     public <T> T fold(Function<? super L, ? extends T> leftMapper, Function<? super R, ? extends T> rightMapper) {
         return rightMapper.apply(value);
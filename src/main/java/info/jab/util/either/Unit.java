@@ -0,0 +1,17 @@
+package info.jab.util.either;
+
+/**
+ * The type with a single value, for an {@link Either} or a {@code Result} which succeeds without producing anything,
+ * such as {@code Either<ValidationError, Unit>}.
+ *
+ * <p>Being an enum, {@link #INSTANCE} is wrapped in a shared Right by {@link Either#right(Object)} and {@link Either#unit()}.
+ */
+public enum Unit {
+    /** The only value of the type. */
+    INSTANCE;
+
+    @Override
+    public String toString() {
+        return "Unit";
+    }
+}
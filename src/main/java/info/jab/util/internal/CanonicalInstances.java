@@ -0,0 +1,74 @@
+package info.jab.util.internal;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Shared instances of an immutable wrapper (a Left, a Right, a Success...) for the payloads which are constants:
+ * enum constants (including {@code Unit}), {@code Boolean} and {@code Integer} from -128 to 127, like the
+ * {@link Integer#valueOf(int)} cache.
+ *
+ * <p>The instances for an enum type are created the first time one of its constants is wrapped, and are kept in a
+ * {@link ClassValue}. They reference the enum constants, so one array per enum type stays reachable for the lifetime of
+ * the class loader of that enum. The other instances are created eagerly.</p>
+ *
+ * <p>This package is not exported by the module.</p>
+ *
+ * @param <T> the type of the wrapper
+ */
+public final class CanonicalInstances<T> {
+
+    private static final int LOW = -128;
+    private static final int HIGH = 127;
+
+    private final Function<Object, T> factory;
+    private final T trueInstance;
+    private final T falseInstance;
+    private final Object[] integers;
+    private final ClassValue<Object[]> enums = new ClassValue<>() {
+        @Override
+        protected Object[] computeValue(Class<?> type) {
+            Object[] constants = type.getEnumConstants();
+            Object[] instances = new Object[constants.length];
+            for (int i = 0; i < constants.length; i++) {
+                instances[i] = factory.apply(constants[i]);
+            }
+            return instances;
+        }
+    };
+
+    /**
+     * Creates the shared instances of a wrapper.
+     *
+     * @param factory the function wrapping a payload, such as the constructor of the wrapper
+     */
+    public CanonicalInstances(Function<Object, T> factory) {
+        this.factory = Objects.requireNonNull(factory, "factory cannot be null");
+        this.trueInstance = factory.apply(Boolean.TRUE);
+        this.falseInstance = factory.apply(Boolean.FALSE);
+        this.integers = new Object[HIGH - LOW + 1];
+        for (int i = LOW; i <= HIGH; i++) {
+            integers[i - LOW] = factory.apply(i);
+        }
+    }
+
+    /**
+     * Returns the shared instance wrapping {@code value}.
+     *
+     * @param value the payload, may be {@code null}
+     * @return the shared instance, or {@code null} when {@code value} is not a constant
+     */
+    @SuppressWarnings("unchecked")
+    public T lookup(Object value) {
+        if (value instanceof Enum<?> constant) {
+            return (T) enums.get(constant.getDeclaringClass())[constant.ordinal()];
+        }
+        if (value instanceof Boolean bool) {
+            return bool ? trueInstance : falseInstance;
+        }
+        if (value instanceof Integer integer && integer >= LOW && integer <= HIGH) {
+            return (T) integers[integer - LOW];
+        }
+        return null;
+    }
+}
@@ -0,0 +1,81 @@
+package info.jab.util.internal;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+
+/**
+ * Fork-join engine behind the {@code parCombineAll} operation of Either.
+ *
+ * <p>The input is reduced as a balanced tree: chunks are folded sequentially and the partial results are
+ * combined pairwise, keeping encounter order. The operator must be associative.</p>
+ *
+ * <p>This package is not exported by the module.</p>
+ */
+public final class ParallelReduction {
+
+    private static final int CHUNKS_PER_WORKER = 4;
+
+    private ParallelReduction() {
+        // Utility class
+    }
+
+    /**
+     * Reduces a non-empty list in parallel.
+     *
+     * @param values the values to reduce
+     * @param operator the associative operator combining two values
+     * @param pool the pool running the chunks
+     * @param <T> the type of the values
+     * @return the reduced value
+     * @throws IllegalArgumentException if the list is empty
+     */
+    public static <T> T reduce(List<? extends T> values, BinaryOperator<T> operator, ForkJoinPool pool) {
+        Objects.requireNonNull(operator, "operator cannot be null");
+        Objects.requireNonNull(pool, "pool cannot be null");
+        Object[] inputs = values.toArray();
+        if (inputs.length == 0) {
+            throw new IllegalArgumentException("values cannot be empty");
+        }
+        int threshold = Math.max(1, inputs.length / (pool.getParallelism() * CHUNKS_PER_WORKER));
+        return pool.invoke(new Chunk<>(inputs, 0, inputs.length, threshold, operator));
+    }
+
+    private static final class Chunk<T> extends RecursiveTask<T> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient Object[] inputs;
+        private final int from;
+        private final int to;
+        private final int threshold;
+        private final transient BinaryOperator<T> operator;
+
+        Chunk(Object[] inputs, int from, int to, int threshold, BinaryOperator<T> operator) {
+            this.inputs = inputs;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+            this.operator = operator;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected T compute() {
+            if (to - from > threshold) {
+                int middle = (from + to) >>> 1;
+                Chunk<T> right = new Chunk<>(inputs, middle, to, threshold, operator);
+                right.fork();
+                T left = new Chunk<>(inputs, from, middle, threshold, operator).compute();
+                return operator.apply(left, right.join());
+            }
+            T result = (T) inputs[from];
+            for (int i = from + 1; i < to; i++) {
+                result = operator.apply(result, (T) inputs[i]);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package info.jab.util.internal;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Fork-join engine behind the {@code parTraverse} operations of Either and Result.
+ *
+ * <p>The input is split in chunks that map their elements in order. When an element maps to a failure,
+ * its index is published and every chunk stops as soon as it reaches a greater index, so the work to the
+ * right of a failure is cancelled while the work to its left still completes. The reported failure is
+ * therefore always the leftmost one, as with a sequential traverse.</p>
+ *
+ * <p>This package is not exported by the module.</p>
+ */
+public final class ParallelTraversal {
+
+    private static final int NO_FAILURE = Integer.MAX_VALUE;
+    private static final int CHUNKS_PER_WORKER = 4;
+
+    private ParallelTraversal() {
+        // Utility class
+    }
+
+    /**
+     * Maps the values in parallel, stopping at the first failure.
+     *
+     * @param values the values to map
+     * @param outputs the array receiving, at the index of each value, the unwrapped output or the failure
+     * @param mapper the function to apply to each value
+     * @param isFailure the predicate telling if an output is a failure
+     * @param unwrap the function extracting the value stored for a successful output
+     * @param pool the pool running the chunks
+     * @param <A> the type of the values
+     * @param <O> the type of the outputs
+     * @return the index of the leftmost failure, or {@code -1} if every value was mapped successfully
+     */
+    public static <A, O> int traverse(List<? extends A> values, Object[] outputs, Function<? super A, ? extends O> mapper,
+                                      Predicate<? super O> isFailure, Function<? super O, ?> unwrap, ForkJoinPool pool) {
+        Objects.requireNonNull(mapper, "mapper cannot be null");
+        Objects.requireNonNull(pool, "pool cannot be null");
+        Object[] inputs = values.toArray();
+        if (inputs.length == 0) {
+            return -1;
+        }
+        AtomicInteger failureIndex = new AtomicInteger(NO_FAILURE);
+        int threshold = Math.max(1, inputs.length / (pool.getParallelism() * CHUNKS_PER_WORKER));
+        pool.invoke(new Chunk<>(inputs, outputs, 0, inputs.length, threshold, failureIndex, mapper, isFailure, unwrap));
+        int index = failureIndex.get();
+        return index == NO_FAILURE ? -1 : index;
+    }
+
+    private static final class Chunk<A, O> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient Object[] inputs;
+        private final transient Object[] outputs;
+        private final int from;
+        private final int to;
+        private final int threshold;
+        private final AtomicInteger failureIndex;
+        private final transient Function<? super A, ? extends O> mapper;
+        private final transient Predicate<? super O> isFailure;
+        private final transient Function<? super O, ?> unwrap;
+
+        Chunk(Object[] inputs, Object[] outputs, int from, int to, int threshold, AtomicInteger failureIndex,
+              Function<? super A, ? extends O> mapper, Predicate<? super O> isFailure, Function<? super O, ?> unwrap) {
+            this.inputs = inputs;
+            this.outputs = outputs;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+            this.failureIndex = failureIndex;
+            this.mapper = mapper;
+            this.isFailure = isFailure;
+            this.unwrap = unwrap;
+        }
+
+        @Override
+        protected void compute() {
+            if (from > failureIndex.get()) {
+                return;
+            }
+            if (to - from > threshold) {
+                int middle = (from + to) >>> 1;
+                Chunk<A, O> right = new Chunk<>(inputs, outputs, middle, to, threshold, failureIndex, mapper, isFailure, unwrap);
+                right.fork();
+                new Chunk<A, O>(inputs, outputs, from, middle, threshold, failureIndex, mapper, isFailure, unwrap).compute();
+                right.join();
+                return;
+            }
+            mapChunk();
+        }
+
+        @SuppressWarnings("unchecked")
+        private void mapChunk() {
+            for (int i = from; i < to && i < failureIndex.get(); i++) {
+                O output = mapper.apply((A) inputs[i]);
+                if (isFailure.test(output)) {
+                    outputs[i] = output;
+                    failureIndex.accumulateAndGet(i, Math::min);
+                    return;
+                }
+                outputs[i] = unwrap.apply(output);
+            }
+        }
+    }
+}
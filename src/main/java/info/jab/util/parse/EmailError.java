@@ -0,0 +1,29 @@
+package info.jab.util.parse;
+
+/**
+ * The reasons why {@link TextValidators#email(CharSequence)} rejects an email address.
+ */
+public enum EmailError {
+    /** The address is empty. */
+    EMPTY,
+    /** The address is longer than 254 characters. */
+    TOO_LONG,
+    /** The address has no {@code @}. */
+    MISSING_AT,
+    /** The address has more than one {@code @}. */
+    MULTIPLE_AT,
+    /** Nothing comes before the {@code @}. */
+    EMPTY_LOCAL_PART,
+    /** The part before the {@code @} is longer than 64 characters. */
+    LOCAL_PART_TOO_LONG,
+    /** The part before the {@code @} contains a character which is not allowed. */
+    INVALID_LOCAL_PART_CHAR,
+    /** The part before the {@code @} starts or ends with a dot, or has two dots in a row. */
+    INVALID_LOCAL_PART_DOT,
+    /** Nothing comes after the {@code @}. */
+    EMPTY_DOMAIN,
+    /** The part after the {@code @} is not a valid hostname, see {@link HostnameError}. */
+    INVALID_DOMAIN,
+    /** The part after the {@code @} is a single label, such as {@code localhost}. */
+    DOMAIN_WITHOUT_DOT
+}
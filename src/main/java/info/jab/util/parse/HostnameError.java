@@ -0,0 +1,19 @@
+package info.jab.util.parse;
+
+/**
+ * The reasons why {@link TextValidators#hostname(CharSequence)} rejects a hostname.
+ */
+public enum HostnameError {
+    /** The hostname is empty. */
+    EMPTY,
+    /** The hostname is longer than 253 characters. */
+    TOO_LONG,
+    /** The hostname starts or ends with a dot, or has two dots in a row. */
+    EMPTY_LABEL,
+    /** A label is longer than 63 characters. */
+    LABEL_TOO_LONG,
+    /** A character is not a letter, a digit, a hyphen or a dot. */
+    INVALID_CHAR,
+    /** A label starts or ends with a hyphen. */
+    HYPHEN_AT_LABEL_EDGE
+}
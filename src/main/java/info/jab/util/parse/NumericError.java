@@ -0,0 +1,15 @@
+package info.jab.util.parse;
+
+/**
+ * The reasons why {@link TextValidators#integer(CharSequence)} or {@link TextValidators#decimal(CharSequence)} reject a number.
+ */
+public enum NumericError {
+    /** The text is empty. */
+    EMPTY,
+    /** The text has a sign or a decimal point but no digit. */
+    MISSING_DIGITS,
+    /** A character is not a digit, or a sign is not in first position. */
+    INVALID_CHAR,
+    /** A decimal number has more than one decimal point. */
+    MULTIPLE_DECIMAL_POINTS
+}
@@ -0,0 +1,49 @@
+package info.jab.util.parse;
+
+import jakarta.annotation.Nonnull;
+import java.util.Objects;
+
+/**
+ * The reason why one of the {@link Parsers} rejected its input, and where.
+ *
+ * @param code the kind of problem
+ * @param offset the index in the input of the character where the problem was found;
+ *               for {@link Code#EMPTY} and {@link Code#WRONG_LENGTH}, the start of the parsed range
+ */
+public record ParseError(@Nonnull Code code, int offset) {
+
+    /**
+     * The kinds of problems reported by the {@link Parsers}.
+     */
+    public enum Code {
+        /** The input is empty. */
+        EMPTY,
+        /** The input does not have the expected length. */
+        WRONG_LENGTH,
+        /** A character is not allowed at this position. */
+        UNEXPECTED_CHAR,
+        /** A sign, a decimal point or an exponent is not followed by digits. */
+        MISSING_DIGITS,
+        /** The number does not fit in the target type, or its exponent is too large. */
+        OUT_OF_RANGE,
+        /** The fields of a date are well formed but do not make a date, such as a 13th month or February 30. */
+        INVALID_DATE,
+        /** A percent sign is not followed by two hexadecimal digits. */
+        MALFORMED_ESCAPE
+    }
+
+    /**
+     * Constructs a new {@code ParseError}.
+     *
+     * @param code the kind of problem
+     * @param offset the index where the problem was found
+     * @throws NullPointerException if {@code code} is {@code null}
+     * @throws IllegalArgumentException if {@code offset} is negative
+     */
+    public ParseError {
+        Objects.requireNonNull(code, "code cannot be null");
+        if (offset < 0) {
+            throw new IllegalArgumentException("offset cannot be negative");
+        }
+    }
+}
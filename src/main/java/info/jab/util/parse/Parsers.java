@@ -0,0 +1,452 @@
+package info.jab.util.parse;
+
+import info.jab.util.either.DoubleEither;
+import info.jab.util.either.Either;
+import info.jab.util.either.IntEither;
+import info.jab.util.either.LongEither;
+import info.jab.util.parse.ParseError.Code;
+import jakarta.annotation.Nonnull;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Parsers for numbers, UUIDs, ISO dates and URIs returning an {@link Either} with a {@link ParseError}.
+ *
+ * <p>Unlike {@code Integer.parseInt} or {@code new URI(String)} wrapped in a try/catch, the parsers check the input
+ * before converting it, so an invalid input costs about as much as a valid one: no exception is created,
+ * and no stack trace is filled. The {@code ...Either} variants return the primitive specializations
+ * ({@link IntEither}, {@link LongEither}, {@link DoubleEither}), so a valid number is not boxed.
+ */
+public final class Parsers {
+
+    private static final int UUID_LENGTH = 36;
+    private static final int DATE_LENGTH = 10;
+    private static final int MAX_EXPONENT_DIGITS = 9;
+
+    private Parsers() {}
+
+    /**
+     * Parses a decimal {@code int}: an optional {@code +} or {@code -} followed by ASCII digits,
+     * as accepted by {@link Integer#parseInt(String)}.
+     *
+     * @param value the text to parse
+     * @return the number in a Right, or the first problem found in a Left
+     * @throws NullPointerException if {@code value} is {@code null}
+     */
+    public static Either<ParseError, Integer> parseInt(@Nonnull CharSequence value) {
+        Objects.requireNonNull(value, "value cannot be null");
+        return parseInt(value, 0, value.length());
+    }
+
+    /**
+     * Parses the decimal {@code int} between {@code from} (inclusive) and {@code to} (exclusive).
+     * The offsets of the errors are indexes in {@code value}.
+     *
+     * @param value the text containing the number
+     * @param from the index of the first character
+     * @param to the index after the last character
+     * @return the number in a Right, or the first problem found in a Left
+     * @throws NullPointerException if {@code value} is {@code null}
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     * @see #parseInt(CharSequence)
+     */
+    public static Either<ParseError, Integer> parseInt(@Nonnull CharSequence value, int from, int to) {
+        return switch (parseIntEither(value, from, to)) {
+            case IntEither.Right<ParseError> right -> Either.right(right.value());
+            case IntEither.Left<ParseError> left -> Either.left(left.value());
+        };
+    }
+
+    /**
+     * Parses a decimal {@code int} without boxing it.
+     *
+     * @param value the text to parse
+     * @return the number in a Right, or the first problem found in a Left
+     * @throws NullPointerException if {@code value} is {@code null}
+     * @see #parseInt(CharSequence)
+     */
+    public static IntEither<ParseError> parseIntEither(@Nonnull CharSequence value) {
+        Objects.requireNonNull(value, "value cannot be null");
+        return parseIntEither(value, 0, value.length());
+    }
+
+    /**
+     * Parses the decimal {@code int} between {@code from} (inclusive) and {@code to} (exclusive) without boxing it.
+     *
+     * @param value the text containing the number
+     * @param from the index of the first character
+     * @param to the index after the last character
+     * @return the number in a Right, or the first problem found in a Left
+     * @throws NullPointerException if {@code value} is {@code null}
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     * @see #parseInt(CharSequence)
+     */
+    public static IntEither<ParseError> parseIntEither(@Nonnull CharSequence value, int from, int to) {
+        return switch (parseIntegral(value, from, to, Integer.MIN_VALUE, Integer.MAX_VALUE)) {
+            case LongEither.Right<ParseError> right -> IntEither.right((int) right.value());
+            case LongEither.Left<ParseError> left -> IntEither.left(left.value());
+        };
+    }
+
+    /**
+     * Parses a decimal {@code long}: an optional {@code +} or {@code -} followed by ASCII digits,
+     * as accepted by {@link Long#parseLong(String)}.
+     *
+     * @param value the text to parse
+     * @return the number in a Right, or the first problem found in a Left
+     * @throws NullPointerException if {@code value} is {@code null}
+     */
+    public static Either<ParseError, Long> parseLong(@Nonnull CharSequence value) {
+        Objects.requireNonNull(value, "value cannot be null");
+        return parseLong(value, 0, value.length());
+    }
+
+    /**
+     * Parses the decimal {@code long} between {@code from} (inclusive) and {@code to} (exclusive).
+     * The offsets of the errors are indexes in {@code value}.
+     *
+     * @param value the text containing the number
+     * @param from the index of the first character
+     * @param to the index after the last character
+     * @return the number in a Right, or the first problem found in a Left
+     * @throws NullPointerException if {@code value} is {@code null}
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     * @see #parseLong(CharSequence)
+     */
+    public static Either<ParseError, Long> parseLong(@Nonnull CharSequence value, int from, int to) {
+        return switch (parseLongEither(value, from, to)) {
+            case LongEither.Right<ParseError> right -> Either.right(right.value());
+            case LongEither.Left<ParseError> left -> Either.left(left.value());
+        };
+    }
+
+    /**
+     * Parses a decimal {@code long} without boxing it.
+     *
+     * @param value the text to parse
+     * @return the number in a Right, or the first problem found in a Left
+     * @throws NullPointerException if {@code value} is {@code null}
+     * @see #parseLong(CharSequence)
+     */
+    public static LongEither<ParseError> parseLongEither(@Nonnull CharSequence value) {
+        Objects.requireNonNull(value, "value cannot be null");
+        return parseLongEither(value, 0, value.length());
+    }
+
+    /**
+     * Parses the decimal {@code long} between {@code from} (inclusive) and {@code to} (exclusive) without boxing it.
+     *
+     * @param value the text containing the number
+     * @param from the index of the first character
+     * @param to the index after the last character
+     * @return the number in a Right, or the first problem found in a Left
+     * @throws NullPointerException if {@code value} is {@code null}
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     * @see #parseLong(CharSequence)
+     */
+    public static LongEither<ParseError> parseLongEither(@Nonnull CharSequence value, int from, int to) {
+        return parseIntegral(value, from, to, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Parses a finite {@code double} written as an optional sign, digits with an optional decimal point and an optional
+     * exponent ({@code 1}, {@code -0.5}, {@code .5}, {@code 6.02e23}). {@code NaN}, {@code Infinity}, hexadecimal notation
+     * and type suffixes are rejected; a number too large for a {@code double} is {@link Code#OUT_OF_RANGE}.
+     *
+     * @param value the text to parse
+     * @return the number in a Right, or the first problem found in a Left
+     * @throws NullPointerException if {@code value} is {@code null}
+     */
+    public static Either<ParseError, Double> parseDouble(@Nonnull CharSequence value) {
+        return switch (parseDoubleEither(value)) {
+            case DoubleEither.Right<ParseError> right -> Either.right(right.value());
+            case DoubleEither.Left<ParseError> left -> Either.left(left.value());
+        };
+    }
+
+    /**
+     * Parses a finite {@code double} without boxing it.
+     *
+     * @param value the text to parse
+     * @return the number in a Right, or the first problem found in a Left
+     * @throws NullPointerException if {@code value} is {@code null}
+     * @see #parseDouble(CharSequence)
+     */
+    public static DoubleEither<ParseError> parseDoubleEither(@Nonnull CharSequence value) {
+        Objects.requireNonNull(value, "value cannot be null");
+        ParseError error = scanDecimal(value, Integer.MAX_VALUE);
+        if (error != null) {
+            return DoubleEither.left(error);
+        }
+        double number = Double.parseDouble(value.toString());
+        return Double.isInfinite(number) ? DoubleEither.left(new ParseError(Code.OUT_OF_RANGE, 0)) : DoubleEither.right(number);
+    }
+
+    /**
+     * Parses a {@link BigDecimal} with the syntax of {@link #parseDouble(CharSequence)}.
+     * An exponent of more than 9 digits is {@link Code#OUT_OF_RANGE}.
+     *
+     * @param value the text to parse
+     * @return the number in a Right, or the first problem found in a Left
+     * @throws NullPointerException if {@code value} is {@code null}
+     */
+    public static Either<ParseError, BigDecimal> parseBigDecimal(@Nonnull CharSequence value) {
+        Objects.requireNonNull(value, "value cannot be null");
+        ParseError error = scanDecimal(value, MAX_EXPONENT_DIGITS);
+        return error == null ? Either.right(new BigDecimal(value.toString())) : Either.left(error);
+    }
+
+    /**
+     * Parses a UUID in its canonical form: 32 hexadecimal digits in groups of 8, 4, 4, 4 and 12 separated by hyphens.
+     *
+     * @param value the text to parse
+     * @return the UUID in a Right, or the first problem found in a Left
+     * @throws NullPointerException if {@code value} is {@code null}
+     */
+    public static Either<ParseError, UUID> parseUuid(@Nonnull CharSequence value) {
+        Objects.requireNonNull(value, "value cannot be null");
+        if (value.length() != UUID_LENGTH) {
+            return Either.left(new ParseError(Code.WRONG_LENGTH, 0));
+        }
+        long mostSignificantBits = 0;
+        long leastSignificantBits = 0;
+        int digits = 0;
+        for (int i = 0; i < UUID_LENGTH; i++) {
+            char c = value.charAt(i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return Either.left(new ParseError(Code.UNEXPECTED_CHAR, i));
+                }
+                continue;
+            }
+            int nibble = hexDigit(c);
+            if (nibble < 0) {
+                return Either.left(new ParseError(Code.UNEXPECTED_CHAR, i));
+            }
+            if (digits++ < 16) {
+                mostSignificantBits = mostSignificantBits << 4 | nibble;
+            } else {
+                leastSignificantBits = leastSignificantBits << 4 | nibble;
+            }
+        }
+        return Either.right(new UUID(mostSignificantBits, leastSignificantBits));
+    }
+
+    /**
+     * Parses an ISO-8601 local date such as {@code 2024-02-29}: a four digits year, a two digits month and a two digits day.
+     *
+     * @param value the text to parse
+     * @return the date in a Right, or the first problem found in a Left
+     * @throws NullPointerException if {@code value} is {@code null}
+     */
+    public static Either<ParseError, LocalDate> parseLocalDate(@Nonnull CharSequence value) {
+        Objects.requireNonNull(value, "value cannot be null");
+        if (value.length() != DATE_LENGTH) {
+            return Either.left(new ParseError(Code.WRONG_LENGTH, 0));
+        }
+        for (int i = 0; i < DATE_LENGTH; i++) {
+            char c = value.charAt(i);
+            boolean expected = i == 4 || i == 7 ? c == '-' : c >= '0' && c <= '9';
+            if (!expected) {
+                return Either.left(new ParseError(Code.UNEXPECTED_CHAR, i));
+            }
+        }
+        int year = digits(value, 0, 4);
+        int month = digits(value, 5, 7);
+        int day = digits(value, 8, 10);
+        if (month < 1 || month > 12) {
+            return Either.left(new ParseError(Code.INVALID_DATE, 5));
+        }
+        if (day < 1 || day > Month.of(month).length(Year.isLeap(year))) {
+            return Either.left(new ParseError(Code.INVALID_DATE, 8));
+        }
+        return Either.right(LocalDate.of(year, month, day));
+    }
+
+    /**
+     * Parses a non empty URI reference, absolute or relative, as accepted by {@link URI#URI(String)}.
+     *
+     * <p>The input is checked first for the usual problems (spaces and other illegal characters, a malformed scheme,
+     * a malformed percent escape or a second {@code #}), which are reported without an exception. The rarer problems
+     * this check does not cover, such as a malformed IPv6 address, are still found by {@code java.net.URI}
+     * and reported as {@link Code#UNEXPECTED_CHAR}.
+     *
+     * @param value the text to parse
+     * @return the URI in a Right, or the first problem found in a Left
+     * @throws NullPointerException if {@code value} is {@code null}
+     */
+    public static Either<ParseError, URI> parseUri(@Nonnull CharSequence value) {
+        Objects.requireNonNull(value, "value cannot be null");
+        ParseError error = scanUri(value);
+        if (error != null) {
+            return Either.left(error);
+        }
+        try {
+            return Either.right(new URI(value.toString()));
+        } catch (URISyntaxException ex) {
+            return Either.left(new ParseError(Code.UNEXPECTED_CHAR, Math.max(ex.getIndex(), 0)));
+        }
+    }
+
+    private static LongEither<ParseError> parseIntegral(CharSequence value, int from, int to, long min, long max) {
+        Objects.requireNonNull(value, "value cannot be null");
+        Objects.checkFromToIndex(from, to, value.length());
+        if (from == to) {
+            return LongEither.left(new ParseError(Code.EMPTY, from));
+        }
+        int i = from;
+        char first = value.charAt(i);
+        boolean negative = first == '-';
+        if ((negative || first == '+') && ++i == to) {
+            return LongEither.left(new ParseError(Code.MISSING_DIGITS, i));
+        }
+        // Accumulate negatively, like Long.parseLong, since the negative range is one larger than the positive one.
+        long limit = negative ? min : -max;
+        long multiplyLimit = limit / 10;
+        long result = 0;
+        for (; i < to; i++) {
+            int digit = value.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return LongEither.left(new ParseError(Code.UNEXPECTED_CHAR, i));
+            }
+            if (result < multiplyLimit || result * 10 < limit + digit) {
+                return LongEither.left(new ParseError(Code.OUT_OF_RANGE, i));
+            }
+            result = result * 10 - digit;
+        }
+        return LongEither.right(negative ? result : -result);
+    }
+
+    private static ParseError scanDecimal(CharSequence value, int maxExponentDigits) {
+        int length = value.length();
+        if (length == 0) {
+            return new ParseError(Code.EMPTY, 0);
+        }
+        int i = value.charAt(0) == '+' || value.charAt(0) == '-' ? 1 : 0;
+        int digits = 0;
+        boolean point = false;
+        for (; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits++;
+            } else if (c == '.' && !point) {
+                point = true;
+            } else if ((c == 'e' || c == 'E') && digits > 0) {
+                break;
+            } else {
+                return new ParseError(Code.UNEXPECTED_CHAR, i);
+            }
+        }
+        if (digits == 0) {
+            return new ParseError(Code.MISSING_DIGITS, i);
+        }
+        if (i == length) {
+            return null;
+        }
+        int exponentStart = ++i;
+        if (i < length && (value.charAt(i) == '+' || value.charAt(i) == '-')) {
+            i++;
+        }
+        if (i == length) {
+            return new ParseError(Code.MISSING_DIGITS, i);
+        }
+        int significantDigits = 0;
+        for (; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return new ParseError(Code.UNEXPECTED_CHAR, i);
+            }
+            if ((significantDigits > 0 || c != '0') && ++significantDigits > maxExponentDigits) {
+                return new ParseError(Code.OUT_OF_RANGE, exponentStart);
+            }
+        }
+        return null;
+    }
+
+    private static ParseError scanUri(CharSequence value) {
+        int length = value.length();
+        if (length == 0) {
+            return new ParseError(Code.EMPTY, 0);
+        }
+        int schemeEnd = schemeEnd(value);
+        if (schemeEnd >= 0) {
+            for (int i = 0; i < schemeEnd; i++) {
+                char c = value.charAt(i);
+                boolean letter = c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z';
+                if (!letter && (i == 0 || !(c >= '0' && c <= '9' || c == '+' || c == '-' || c == '.'))) {
+                    return new ParseError(Code.UNEXPECTED_CHAR, i);
+                }
+            }
+            if (schemeEnd == 0) {
+                return new ParseError(Code.UNEXPECTED_CHAR, 0);
+            }
+        }
+        boolean fragment = false;
+        for (int i = schemeEnd + 1; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == '%') {
+                if (i + 2 >= length || hexDigit(value.charAt(i + 1)) < 0 || hexDigit(value.charAt(i + 2)) < 0) {
+                    return new ParseError(Code.MALFORMED_ESCAPE, i);
+                }
+                i += 2;
+            } else if (c == '#') {
+                if (fragment) {
+                    return new ParseError(Code.UNEXPECTED_CHAR, i);
+                }
+                fragment = true;
+            } else if (!isUriChar(c)) {
+                return new ParseError(Code.UNEXPECTED_CHAR, i);
+            }
+        }
+        return null;
+    }
+
+    // The index of the ':' ending the scheme, or -1 when the URI is relative (no ':' before the first '/', '?' or '#').
+    private static int schemeEnd(CharSequence value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ':') {
+                return i;
+            }
+            if (c == '/' || c == '?' || c == '#') {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isUriChar(char c) {
+        if (c >= 0x80) {
+            // java.net.URI accepts the "other" category: non ASCII characters which are neither controls nor spaces.
+            return !Character.isISOControl(c) && !Character.isSpaceChar(c);
+        }
+        return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || "-._~:/?@[]!$&'()*+,;=".indexOf(c) >= 0;
+    }
+
+    private static int hexDigit(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+        return -1;
+    }
+
+    private static int digits(CharSequence value, int from, int to) {
+        int result = 0;
+        for (int i = from; i < to; i++) {
+            result = result * 10 + value.charAt(i) - '0';
+        }
+        return result;
+    }
+}
@@ -0,0 +1,452 @@
+package info.jab.util.parse;
+
+import info.jab.util.either.Either;
+import jakarta.annotation.Nonnull;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.Objects;
+
+/**
+ * Validators for common text formats (email addresses, hostnames, numbers and UUIDs) returning an {@link Either}
+ * with a typed error.
+ *
+ * <p>The validators read the input in place: they never call {@code substring}, {@code split} or a regular expression,
+ * and never throw for an invalid input. Each validator accepts a whole {@link CharSequence}, a range of a
+ * {@code CharSequence} or a range of an ASCII {@code byte[]}.
+ * <ul>
+ *   <li>A rejected input returns the shared {@code Left} of its error constant, so an invalid input allocates nothing.</li>
+ *   <li>A whole {@code CharSequence} is returned as is in the {@code Right}.</li>
+ *   <li>A range is returned as a view on the original characters or bytes, which is the only allocation.</li>
+ * </ul>
+ */
+public final class TextValidators {
+
+    private static final int MAX_EMAIL_LENGTH = 254;
+    private static final int MAX_LOCAL_PART_LENGTH = 64;
+    private static final int MAX_HOSTNAME_LENGTH = 253;
+    private static final int MAX_LABEL_LENGTH = 63;
+    private static final int UUID_LENGTH = 36;
+
+    private static final byte DIGIT = 1;
+    private static final byte LETTER = 2;
+    private static final byte HEX = 4;
+    private static final byte ATEXT = 8;
+    private static final byte[] CLASSES = classes();
+
+    private TextValidators() {}
+
+    /**
+     * Validates an email address: at most 254 characters, a local part of 1 to 64 characters made of letters, digits,
+     * {@code !#$%&'*+/=?^_`{|}~-} and single inner dots, then an {@code @} and a {@link #hostname(CharSequence) hostname}
+     * with at least one dot.
+     *
+     * @param value the email address
+     * @return {@code value} in a Right, or the first problem found in a Left
+     * @throws NullPointerException if {@code value} is {@code null}
+     */
+    public static Either<EmailError, CharSequence> email(@Nonnull CharSequence value) {
+        Objects.requireNonNull(value, "value cannot be null");
+        EmailError error = checkEmail(value, 0, value.length());
+        return error == null ? Either.right(value) : Either.left(error);
+    }
+
+    /**
+     * Validates the email address between {@code from} (inclusive) and {@code to} (exclusive).
+     *
+     * @param value the text containing the email address
+     * @param from the index of the first character
+     * @param to the index after the last character
+     * @return a view on the range in a Right, or the first problem found in a Left
+     * @throws NullPointerException if {@code value} is {@code null}
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     * @see #email(CharSequence)
+     */
+    public static Either<EmailError, CharSequence> email(@Nonnull CharSequence value, int from, int to) {
+        Objects.requireNonNull(value, "value cannot be null");
+        Objects.checkFromToIndex(from, to, value.length());
+        EmailError error = checkEmail(value, from, to);
+        return error == null ? Either.right(CharBuffer.wrap(value, from, to)) : Either.left(error);
+    }
+
+    /**
+     * Validates the ASCII email address of {@code length} bytes starting at {@code offset}.
+     *
+     * @param bytes the ASCII bytes containing the email address
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @return a view on the range in a Right, or the first problem found in a Left
+     * @throws NullPointerException if {@code bytes} is {@code null}
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     * @see #email(CharSequence)
+     */
+    public static Either<EmailError, ByteBuffer> email(@Nonnull byte[] bytes, int offset, int length) {
+        Objects.requireNonNull(bytes, "bytes cannot be null");
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        EmailError error = checkEmail(bytes, offset, offset + length);
+        return error == null ? Either.right(ByteBuffer.wrap(bytes, offset, length).slice()) : Either.left(error);
+    }
+
+    /**
+     * Validates a hostname: at most 253 characters, made of dot separated labels of 1 to 63 letters, digits and hyphens,
+     * where no label starts or ends with a hyphen.
+     *
+     * @param value the hostname
+     * @return {@code value} in a Right, or the first problem found in a Left
+     * @throws NullPointerException if {@code value} is {@code null}
+     */
+    public static Either<HostnameError, CharSequence> hostname(@Nonnull CharSequence value) {
+        Objects.requireNonNull(value, "value cannot be null");
+        HostnameError error = checkHostname(value, 0, value.length());
+        return error == null ? Either.right(value) : Either.left(error);
+    }
+
+    /**
+     * Validates the hostname between {@code from} (inclusive) and {@code to} (exclusive).
+     *
+     * @param value the text containing the hostname
+     * @param from the index of the first character
+     * @param to the index after the last character
+     * @return a view on the range in a Right, or the first problem found in a Left
+     * @throws NullPointerException if {@code value} is {@code null}
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     * @see #hostname(CharSequence)
+     */
+    public static Either<HostnameError, CharSequence> hostname(@Nonnull CharSequence value, int from, int to) {
+        Objects.requireNonNull(value, "value cannot be null");
+        Objects.checkFromToIndex(from, to, value.length());
+        HostnameError error = checkHostname(value, from, to);
+        return error == null ? Either.right(CharBuffer.wrap(value, from, to)) : Either.left(error);
+    }
+
+    /**
+     * Validates the ASCII hostname of {@code length} bytes starting at {@code offset}.
+     *
+     * @param bytes the ASCII bytes containing the hostname
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @return a view on the range in a Right, or the first problem found in a Left
+     * @throws NullPointerException if {@code bytes} is {@code null}
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     * @see #hostname(CharSequence)
+     */
+    public static Either<HostnameError, ByteBuffer> hostname(@Nonnull byte[] bytes, int offset, int length) {
+        Objects.requireNonNull(bytes, "bytes cannot be null");
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        HostnameError error = checkHostname(bytes, offset, offset + length);
+        return error == null ? Either.right(ByteBuffer.wrap(bytes, offset, length).slice()) : Either.left(error);
+    }
+
+    /**
+     * Validates an integer: an optional {@code +} or {@code -} followed by one or more ASCII digits.
+     * The number of digits is not limited.
+     *
+     * @param value the integer
+     * @return {@code value} in a Right, or the first problem found in a Left
+     * @throws NullPointerException if {@code value} is {@code null}
+     */
+    public static Either<NumericError, CharSequence> integer(@Nonnull CharSequence value) {
+        Objects.requireNonNull(value, "value cannot be null");
+        NumericError error = checkNumber(value, 0, value.length(), false);
+        return error == null ? Either.right(value) : Either.left(error);
+    }
+
+    /**
+     * Validates the integer between {@code from} (inclusive) and {@code to} (exclusive).
+     *
+     * @param value the text containing the integer
+     * @param from the index of the first character
+     * @param to the index after the last character
+     * @return a view on the range in a Right, or the first problem found in a Left
+     * @throws NullPointerException if {@code value} is {@code null}
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     * @see #integer(CharSequence)
+     */
+    public static Either<NumericError, CharSequence> integer(@Nonnull CharSequence value, int from, int to) {
+        Objects.requireNonNull(value, "value cannot be null");
+        Objects.checkFromToIndex(from, to, value.length());
+        NumericError error = checkNumber(value, from, to, false);
+        return error == null ? Either.right(CharBuffer.wrap(value, from, to)) : Either.left(error);
+    }
+
+    /**
+     * Validates the ASCII integer of {@code length} bytes starting at {@code offset}.
+     *
+     * @param bytes the ASCII bytes containing the integer
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @return a view on the range in a Right, or the first problem found in a Left
+     * @throws NullPointerException if {@code bytes} is {@code null}
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     * @see #integer(CharSequence)
+     */
+    public static Either<NumericError, ByteBuffer> integer(@Nonnull byte[] bytes, int offset, int length) {
+        Objects.requireNonNull(bytes, "bytes cannot be null");
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        NumericError error = checkNumber(bytes, offset, offset + length, false);
+        return error == null ? Either.right(ByteBuffer.wrap(bytes, offset, length).slice()) : Either.left(error);
+    }
+
+    /**
+     * Validates a decimal number: an optional {@code +} or {@code -} followed by ASCII digits with at most one decimal point.
+     * At least one digit is required, on either side of the point ({@code 1.}, {@code .5} and {@code 1.5} are valid).
+     *
+     * @param value the decimal number
+     * @return {@code value} in a Right, or the first problem found in a Left
+     * @throws NullPointerException if {@code value} is {@code null}
+     */
+    public static Either<NumericError, CharSequence> decimal(@Nonnull CharSequence value) {
+        Objects.requireNonNull(value, "value cannot be null");
+        NumericError error = checkNumber(value, 0, value.length(), true);
+        return error == null ? Either.right(value) : Either.left(error);
+    }
+
+    /**
+     * Validates the decimal number between {@code from} (inclusive) and {@code to} (exclusive).
+     *
+     * @param value the text containing the decimal number
+     * @param from the index of the first character
+     * @param to the index after the last character
+     * @return a view on the range in a Right, or the first problem found in a Left
+     * @throws NullPointerException if {@code value} is {@code null}
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     * @see #decimal(CharSequence)
+     */
+    public static Either<NumericError, CharSequence> decimal(@Nonnull CharSequence value, int from, int to) {
+        Objects.requireNonNull(value, "value cannot be null");
+        Objects.checkFromToIndex(from, to, value.length());
+        NumericError error = checkNumber(value, from, to, true);
+        return error == null ? Either.right(CharBuffer.wrap(value, from, to)) : Either.left(error);
+    }
+
+    /**
+     * Validates the ASCII decimal number of {@code length} bytes starting at {@code offset}.
+     *
+     * @param bytes the ASCII bytes containing the decimal number
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @return a view on the range in a Right, or the first problem found in a Left
+     * @throws NullPointerException if {@code bytes} is {@code null}
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     * @see #decimal(CharSequence)
+     */
+    public static Either<NumericError, ByteBuffer> decimal(@Nonnull byte[] bytes, int offset, int length) {
+        Objects.requireNonNull(bytes, "bytes cannot be null");
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        NumericError error = checkNumber(bytes, offset, offset + length, true);
+        return error == null ? Either.right(ByteBuffer.wrap(bytes, offset, length).slice()) : Either.left(error);
+    }
+
+    /**
+     * Validates a UUID in its canonical form: 32 hexadecimal digits in groups of 8, 4, 4, 4 and 12 separated by hyphens.
+     * Both lower and upper case digits are accepted.
+     *
+     * @param value the UUID
+     * @return {@code value} in a Right, or the first problem found in a Left
+     * @throws NullPointerException if {@code value} is {@code null}
+     */
+    public static Either<UuidError, CharSequence> uuid(@Nonnull CharSequence value) {
+        Objects.requireNonNull(value, "value cannot be null");
+        UuidError error = checkUuid(value, 0, value.length());
+        return error == null ? Either.right(value) : Either.left(error);
+    }
+
+    /**
+     * Validates the UUID between {@code from} (inclusive) and {@code to} (exclusive).
+     *
+     * @param value the text containing the UUID
+     * @param from the index of the first character
+     * @param to the index after the last character
+     * @return a view on the range in a Right, or the first problem found in a Left
+     * @throws NullPointerException if {@code value} is {@code null}
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     * @see #uuid(CharSequence)
+     */
+    public static Either<UuidError, CharSequence> uuid(@Nonnull CharSequence value, int from, int to) {
+        Objects.requireNonNull(value, "value cannot be null");
+        Objects.checkFromToIndex(from, to, value.length());
+        UuidError error = checkUuid(value, from, to);
+        return error == null ? Either.right(CharBuffer.wrap(value, from, to)) : Either.left(error);
+    }
+
+    /**
+     * Validates the ASCII UUID of {@code length} bytes starting at {@code offset}.
+     *
+     * @param bytes the ASCII bytes containing the UUID
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @return a view on the range in a Right, or the first problem found in a Left
+     * @throws NullPointerException if {@code bytes} is {@code null}
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     * @see #uuid(CharSequence)
+     */
+    public static Either<UuidError, ByteBuffer> uuid(@Nonnull byte[] bytes, int offset, int length) {
+        Objects.requireNonNull(bytes, "bytes cannot be null");
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        UuidError error = checkUuid(bytes, offset, offset + length);
+        return error == null ? Either.right(ByteBuffer.wrap(bytes, offset, length).slice()) : Either.left(error);
+    }
+
+    // The checks below read either a CharSequence or a byte[] through charAt, and return null when the input is valid.
+
+    private static EmailError checkEmail(Object source, int from, int to) {
+        int length = to - from;
+        if (length == 0) {
+            return EmailError.EMPTY;
+        }
+        if (length > MAX_EMAIL_LENGTH) {
+            return EmailError.TOO_LONG;
+        }
+        int at = indexOf(source, '@', from, to);
+        if (at < 0) {
+            return EmailError.MISSING_AT;
+        }
+        if (indexOf(source, '@', at + 1, to) >= 0) {
+            return EmailError.MULTIPLE_AT;
+        }
+        EmailError localPartError = checkLocalPart(source, from, at);
+        return localPartError != null ? localPartError : checkDomain(source, at + 1, to);
+    }
+
+    private static EmailError checkLocalPart(Object source, int from, int to) {
+        int length = to - from;
+        if (length == 0) {
+            return EmailError.EMPTY_LOCAL_PART;
+        }
+        if (length > MAX_LOCAL_PART_LENGTH) {
+            return EmailError.LOCAL_PART_TOO_LONG;
+        }
+        int previous = -1;
+        for (int i = from; i < to; i++) {
+            int c = charAt(source, i);
+            if (c == '.') {
+                if (i == from || i == to - 1 || previous == '.') {
+                    return EmailError.INVALID_LOCAL_PART_DOT;
+                }
+            } else if (!is(c, ATEXT)) {
+                return EmailError.INVALID_LOCAL_PART_CHAR;
+            }
+            previous = c;
+        }
+        return null;
+    }
+
+    private static EmailError checkDomain(Object source, int from, int to) {
+        if (from == to) {
+            return EmailError.EMPTY_DOMAIN;
+        }
+        if (checkHostname(source, from, to) != null) {
+            return EmailError.INVALID_DOMAIN;
+        }
+        return indexOf(source, '.', from, to) >= 0 ? null : EmailError.DOMAIN_WITHOUT_DOT;
+    }
+
+    private static HostnameError checkHostname(Object source, int from, int to) {
+        int length = to - from;
+        if (length == 0) {
+            return HostnameError.EMPTY;
+        }
+        if (length > MAX_HOSTNAME_LENGTH) {
+            return HostnameError.TOO_LONG;
+        }
+        int labelStart = from;
+        for (int i = from; i <= to; i++) {
+            int c = i < to ? charAt(source, i) : '.';
+            if (c == '.') {
+                int labelLength = i - labelStart;
+                if (labelLength == 0) {
+                    return HostnameError.EMPTY_LABEL;
+                }
+                if (labelLength > MAX_LABEL_LENGTH) {
+                    return HostnameError.LABEL_TOO_LONG;
+                }
+                if (charAt(source, labelStart) == '-' || charAt(source, i - 1) == '-') {
+                    return HostnameError.HYPHEN_AT_LABEL_EDGE;
+                }
+                labelStart = i + 1;
+            } else if (c != '-' && !is(c, (byte) (DIGIT | LETTER))) {
+                return HostnameError.INVALID_CHAR;
+            }
+        }
+        return null;
+    }
+
+    private static NumericError checkNumber(Object source, int from, int to, boolean allowPoint) {
+        if (from == to) {
+            return NumericError.EMPTY;
+        }
+        int first = charAt(source, from);
+        int i = first == '+' || first == '-' ? from + 1 : from;
+        boolean digits = false;
+        boolean point = false;
+        for (; i < to; i++) {
+            int c = charAt(source, i);
+            if (is(c, DIGIT)) {
+                digits = true;
+            } else if (c == '.' && allowPoint) {
+                if (point) {
+                    return NumericError.MULTIPLE_DECIMAL_POINTS;
+                }
+                point = true;
+            } else {
+                return NumericError.INVALID_CHAR;
+            }
+        }
+        return digits ? null : NumericError.MISSING_DIGITS;
+    }
+
+    private static UuidError checkUuid(Object source, int from, int to) {
+        if (to - from != UUID_LENGTH) {
+            return UuidError.WRONG_LENGTH;
+        }
+        for (int i = 0; i < UUID_LENGTH; i++) {
+            int c = charAt(source, from + i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return UuidError.MISSING_HYPHEN;
+                }
+            } else if (!is(c, HEX)) {
+                return UuidError.INVALID_HEX_DIGIT;
+            }
+        }
+        return null;
+    }
+
+    private static int charAt(Object source, int index) {
+        return source instanceof byte[] bytes ? bytes[index] & 0xFF : ((CharSequence) source).charAt(index);
+    }
+
+    private static int indexOf(Object source, int c, int from, int to) {
+        if (source instanceof String string) {
+            return string.indexOf(c, from, to);
+        }
+        for (int i = from; i < to; i++) {
+            if (charAt(source, i) == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean is(int c, byte characterClass) {
+        return c < CLASSES.length && (CLASSES[c] & characterClass) != 0;
+    }
+
+    private static byte[] classes() {
+        byte[] classes = new byte[128];
+        for (int c = '0'; c <= '9'; c++) {
+            classes[c] = DIGIT | HEX | ATEXT;
+        }
+        for (int c = 'a'; c <= 'z'; c++) {
+            classes[c] = LETTER | ATEXT;
+            classes[Character.toUpperCase(c)] = LETTER | ATEXT;
+        }
+        for (int c = 'a'; c <= 'f'; c++) {
+            classes[c] |= HEX;
+            classes[Character.toUpperCase(c)] |= HEX;
+        }
+        for (char c : "!#$%&'*+/=?^_`{|}~-".toCharArray()) {
+            classes[c] |= ATEXT;
+        }
+        return classes;
+    }
+}
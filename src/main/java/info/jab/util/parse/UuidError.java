@@ -0,0 +1,13 @@
+package info.jab.util.parse;
+
+/**
+ * The reasons why {@link TextValidators#uuid(CharSequence)} rejects a UUID.
+ */
+public enum UuidError {
+    /** The text is not 36 characters long. */
+    WRONG_LENGTH,
+    /** One of the positions 8, 13, 18 and 23 is not a hyphen. */
+    MISSING_HYPHEN,
+    /** A character other than the four hyphens is not a hexadecimal digit. */
+    INVALID_HEX_DIGIT
+}
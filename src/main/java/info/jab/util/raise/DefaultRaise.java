@@ -1,16 +1,30 @@
 package info.jab.util.raise;
 
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 
 /**
  * This class represents a default implementation of the {@link Raise} interface.
  *
+ * <p>The raise is active until {@link #complete()} is called. The state is a volatile field updated through a
+ * {@link VarHandle}, so a raise costs a single allocation.</p>
+ *
  * @param <E> the type of error that can be raised
  */
 class DefaultRaise<E> implements Raise<E> {
 
+    private static final VarHandle ACTIVE;
+
+    static {
+        try {
+            ACTIVE = MethodHandles.lookup().findVarHandle(DefaultRaise.class, "active", boolean.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
     private final boolean isTraced;
-    private final AtomicBoolean isActive = new AtomicBoolean(true);
+    private volatile boolean active = true;
 
     /**
      * Constructs a new {@code DefaultRaise} instance with the specified tracing option.
@@ -27,27 +41,39 @@ class DefaultRaise<E> implements Raise<E> {
      * @return {@code true} if the raise was active before calling this method, {@code false} otherwise
      */
     public boolean complete() {
-        return isActive.getAndSet(false);
+        return (boolean) ACTIVE.getAndSet(this, false);
     }
 
     /**
      * Raises an error of type {@code E}. If the raise is active, it throws either a {@code Traced}
-     * or {@code NoTrace} exception based on the {@code isTraced} flag. If the raise is not active,
-     * it throws a {@link RaiseLeakedException}.
+     * or {@code NoTrace} exception based on the {@code isTraced} flag and on {@link RaiseTracing} sampling.
+     * If the raise is not active, it throws a {@link RaiseLeakedException}.
      *
      * @param error the error to raise
      * @param <A> the return type
      * @return never returns normally
-     * @throws Traced if {@code isTraced} is {@code true} and the raise is active
-     * @throws NoTrace if {@code isTraced} is {@code false} and the raise is active
+     * @throws Traced if {@code isTraced} is {@code true} or the raise is sampled, and the raise is active
+     * @throws NoTrace if {@code isTraced} is {@code false}, the raise is not sampled and the raise is active
      * @throws RaiseLeakedException if the raise is not active
      */
     @Override
     public <A> A raise(E error) {
-        if (isActive.get()) {
-            throw isTraced ? new Traced(error, this, null) : new NoTrace(error, this);
+        if (active) {
+            throw isTraced || RaiseTracing.sample(error) ? traced(error) : new NoTrace(error, this);
         } else {
             throw new RaiseLeakedException();
         }
     }
+
+    /**
+     * Creates a {@code Traced} exception whose stack trace is the one captured by {@link RaiseTracing}.
+     *
+     * @param error the error to raise
+     * @return the cancellation to throw
+     */
+    private Traced traced(E error) {
+        Traced traced = new Traced(error, this, null);
+        traced.setStackTrace(RaiseTracing.capture(error));
+        return traced;
+    }
 }
@@ -0,0 +1,16 @@
+package info.jab.util.raise;
+
+import jakarta.annotation.Nonnull;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * A record of a sampled raise, kept by {@link RaiseTracing}.
+ *
+ * @param sequence the position of this trace in the order of recording
+ * @param raised the object that was raised
+ * @param thread the name of the thread that raised it
+ * @param timestamp when it was raised
+ * @param frames the innermost stack frames of the raise, outside of the raise machinery
+ */
+public record RaiseTrace(long sequence, @Nonnull Object raised, @Nonnull String thread, @Nonnull Instant timestamp, @Nonnull List<StackTraceElement> frames) {}
@@ -0,0 +1,136 @@
+package info.jab.util.raise;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Sampled tracing of raises.
+ *
+ * <p>Tracing is disabled by default and can be turned on and off at runtime. When enabled, 1 in {@code sampleRate}
+ * raises of each error type is traced: its stack is walked with {@link StackWalker}, limited to {@code maxFrames}
+ * frames, and the resulting {@link RaiseTrace} is stored in a fixed-size lock-free ring buffer that keeps the
+ * latest {@code capacity} traces. Raises that are not sampled do not capture any stack.</p>
+ *
+ * <pre>{@code
+ * RaiseTracing.enable(1000, 16, 256);
+ * ...
+ * RaiseTracing.dump().forEach(trace -> logger.info("{}", trace));
+ * }</pre>
+ */
+public final class RaiseTracing {
+
+    /**
+     * Number of frames captured for raises traced explicitly while sampling is disabled
+     */
+    static final int DEFAULT_MAX_FRAMES = 32;
+
+    private static final Set<String> RAISE_FRAMES = Set.of(Raise.class.getName(), DefaultRaise.class.getName(), RaiseTracing.class.getName());
+    private static final StackWalker WALKER = StackWalker.getInstance();
+
+    private static final ClassValue<AtomicLong> COUNTERS = new ClassValue<>() {
+        @Override
+        protected AtomicLong computeValue(Class<?> type) {
+            return new AtomicLong();
+        }
+    };
+
+    private static volatile Config config;
+
+    private RaiseTracing() {}
+
+    private record Config(int sampleRate, int maxFrames, AtomicReferenceArray<RaiseTrace> ring, AtomicLong next) {}
+
+    /**
+     * Enables sampled tracing, discarding the traces recorded so far.
+     *
+     * @param sampleRate trace 1 in {@code sampleRate} raises of each error type
+     * @param maxFrames maximum number of stack frames captured per trace
+     * @param capacity number of traces kept in the ring buffer
+     * @throws IllegalArgumentException if any argument is not positive
+     */
+    public static void enable(int sampleRate, int maxFrames, int capacity) {
+        if (sampleRate < 1 || maxFrames < 1 || capacity < 1) {
+            throw new IllegalArgumentException("sampleRate, maxFrames and capacity must be positive");
+        }
+        config = new Config(sampleRate, maxFrames, new AtomicReferenceArray<>(capacity), new AtomicLong());
+    }
+
+    /**
+     * Disables sampled tracing and discards the recorded traces.
+     */
+    public static void disable() {
+        config = null;
+    }
+
+    /**
+     * Checks if sampled tracing is enabled.
+     *
+     * @return true if enabled, false otherwise
+     */
+    public static boolean isEnabled() {
+        return config != null;
+    }
+
+    /**
+     * Returns the traces currently held in the ring buffer, from the oldest to the latest.
+     *
+     * @return a snapshot of the recorded traces, empty if tracing is disabled
+     */
+    public static List<RaiseTrace> dump() {
+        Config current = config;
+        if (current == null) {
+            return List.of();
+        }
+        List<RaiseTrace> traces = new ArrayList<>(current.ring().length());
+        for (int i = 0; i < current.ring().length(); i++) {
+            RaiseTrace trace = current.ring().get(i);
+            if (trace != null) {
+                traces.add(trace);
+            }
+        }
+        traces.sort(Comparator.comparingLong(RaiseTrace::sequence));
+        return List.copyOf(traces);
+    }
+
+    /**
+     * Decides if the raise of the given error has to be traced.
+     *
+     * @param error the raised error
+     * @return true if this raise is sampled
+     */
+    static boolean sample(Object error) {
+        Config current = config;
+        return current != null && COUNTERS.get(error.getClass()).getAndIncrement() % current.sampleRate() == 0;
+    }
+
+    /**
+     * Captures the stack of the current raise and records it in the ring buffer when tracing is enabled.
+     *
+     * @param error the raised error
+     * @return the captured frames, innermost first
+     */
+    static StackTraceElement[] capture(Object error) {
+        Objects.requireNonNull(error);
+        Config current = config;
+        int maxFrames = current != null ? current.maxFrames() : DEFAULT_MAX_FRAMES;
+        // @formatter:off
+        List<StackTraceElement> frames = WALKER.walk(stream -> stream
+            .dropWhile(frame -> RAISE_FRAMES.contains(frame.getClassName()))
+            .limit(maxFrames)
+            .map(StackWalker.StackFrame::toStackTraceElement)
+            .toList());
+        // @formatter:on
+        if (current != null) {
+            long sequence = current.next().getAndIncrement();
+            RaiseTrace trace = new RaiseTrace(sequence, error, Thread.currentThread().getName(), Instant.now(), frames);
+            current.ring().set((int) (sequence % current.ring().length()), trace);
+        }
+        return frames.toArray(StackTraceElement[]::new);
+    }
+}
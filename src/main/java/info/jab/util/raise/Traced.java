@@ -25,6 +25,17 @@ public final class Traced extends RaiseCancellationException {
         this.cause = cause;
     }
 
+    /**
+     * Does not fill in the stack trace: the stack of a traced raise is captured by {@link RaiseTracing},
+     * limited to the configured number of frames.
+     *
+     * @return this exception
+     */
+    @Override
+    public Throwable fillInStackTrace() {
+        return this;
+    }
+
     /**
      * Returns the cause of this exception, or {@code null} if there is no cause.
      *
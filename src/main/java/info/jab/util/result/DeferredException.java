@@ -0,0 +1,63 @@
+package info.jab.util.result;
+
+import info.jab.util.either.ErrorDetail;
+import jakarta.annotation.Nonnull;
+import java.util.Objects;
+
+/**
+ * A cheap exception for a failed {@link Result}: it does not capture a stack trace, and its message and cause come from
+ * an {@link ErrorDetail}, so they are only built when {@link #getMessage()} or {@link #getCause()} is called.
+ *
+ * <p>It is created by {@link Result#failure(ErrorDetail)} and the other lazy {@code failure} overloads, for errors which
+ * are expected and often recovered from, where the cost of a regular exception is not worth paying.
+ * The stack trace is always empty and suppressed exceptions are ignored.</p>
+ */
+public final class DeferredException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The detail, not serialized: a deserialized exception has no message.
+     */
+    private final transient ErrorDetail detail;
+
+    /**
+     * Constructs a new {@code DeferredException} with the given detail.
+     *
+     * @param detail the message, context and cause of the failure
+     * @throws NullPointerException if {@code detail} is {@code null}
+     */
+    public DeferredException(@Nonnull ErrorDetail detail) {
+        super(null, null, false, false);
+        this.detail = Objects.requireNonNull(detail, "detail cannot be null");
+    }
+
+    /**
+     * Returns the detail of the failure, without computing anything.
+     *
+     * @return the detail
+     */
+    public ErrorDetail detail() {
+        return detail;
+    }
+
+    /**
+     * Returns the message of the detail, formatting it on the first call.
+     *
+     * @return the message
+     */
+    @Override
+    public String getMessage() {
+        return detail == null ? null : detail.message();
+    }
+
+    /**
+     * Returns the cause of the detail, creating it on the first call.
+     *
+     * @return the cause, or {@code null} if there is none
+     */
+    @Override
+    public synchronized Throwable getCause() {
+        return detail == null ? null : detail.cause().orElse(null);
+    }
+}
@@ -0,0 +1,284 @@
+package info.jab.util.result;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * A specialization of {@link Result} whose value is a primitive {@code double}, so it is never boxed.
+ */
+public sealed interface DoubleResult permits DoubleResult.Success, DoubleResult.Failure {
+    /**
+     * Creates a failed DoubleResult with the given exception.
+     *
+     * @param exception the exception
+     * @return a failed DoubleResult
+     */
+    static DoubleResult failure(Throwable exception) {
+        return new Failure(exception);
+    }
+
+    /**
+     * Creates a successful DoubleResult with the given value.
+     *
+     * @param value the value
+     * @return a successful DoubleResult
+     */
+    static DoubleResult success(double value) {
+        return new Success(value);
+    }
+
+    /**
+     * Executes the given supplier and returns a DoubleResult. If the supplier throws an exception,
+     * it returns a failed DoubleResult with the thrown exception.
+     *
+     * @param supplier the supplier to execute
+     * @return a successful DoubleResult if the supplier succeeds, otherwise a failed DoubleResult
+     */
+    static DoubleResult runCatching(CheckedDoubleSupplier supplier) {
+        try {
+            return new Success(supplier.getAsDouble());
+        } catch (Throwable e) {
+            return new Failure(e);
+        }
+    }
+
+    /**
+     * Checks if the DoubleResult is successful.
+     *
+     * @return true if successful, false otherwise
+     */
+    boolean isSuccess();
+
+    /**
+     * Checks if the DoubleResult is a failure.
+     *
+     * @return true if a failure, false otherwise
+     */
+    boolean isFailure();
+
+    /**
+     * Returns the value if present, otherwise returns an empty OptionalDouble.
+     *
+     * @return an OptionalDouble with the value or empty if failure
+     */
+    OptionalDouble getValue();
+
+    /**
+     * Returns the exception if present, otherwise returns an empty Optional.
+     *
+     * @return an Optional with the exception or empty if success
+     */
+    Optional<Throwable> getException();
+
+    /**
+     * Returns the value if the DoubleResult is successful, otherwise returns the result of the specified supplier.
+     *
+     * @param other a supplier whose result is returned if the DoubleResult is a failure
+     * @return the value if the DoubleResult is successful, otherwise the result of the supplier
+     */
+    double getOrElse(DoubleSupplier other);
+
+    /**
+     * Applies the given operator to the value if the DoubleResult is successful and returns a new DoubleResult.
+     *
+     * @param mapper the operator to apply to the value
+     * @return a new DoubleResult with the mapped value if successful, otherwise the original failure
+     */
+    DoubleResult map(DoubleUnaryOperator mapper);
+
+    /**
+     * Applies the given function to the value if the DoubleResult is successful and returns a {@link Result}.
+     *
+     * @param mapper the function to apply to the value
+     * @param <U> the type of the value of the new Result
+     * @return a new Result with the mapped value if successful, otherwise a failure with the same exception
+     */
+    <U> Result<U> mapToObj(DoubleFunction<? extends U> mapper);
+
+    /**
+     * Applies the given function to the value if the DoubleResult is successful.
+     *
+     * @param mapper the function to apply to the value
+     * @return the DoubleResult returned by the mapper if successful, otherwise the original failure
+     */
+    DoubleResult flatMap(DoubleFunction<DoubleResult> mapper);
+
+    /**
+     * Applies the given function to the exception if the DoubleResult is a failure and returns a successful DoubleResult.
+     *
+     * @param mapper the function to apply to the exception
+     * @return a new DoubleResult with the mapped value if failure, otherwise the original success
+     */
+    DoubleResult recover(ToDoubleFunction<? super Throwable> mapper);
+
+    /**
+     * Reduces the DoubleResult to a single value by applying a function to the successful value
+     * or a default value if the result is a failure.
+     *
+     * @param initialValue the initial value to use if the result is a failure
+     * @param folder the function to apply to the successful value
+     * @param <U> the type of the folded value
+     * @return the folded value
+     */
+    <U> U fold(U initialValue, DoubleFunction<U> folder);
+
+    /**
+     * Converts this DoubleResult to a {@link Result} with a boxed value.
+     *
+     * @return an equivalent Result
+     */
+    Result<Double> boxed();
+
+    /**
+     * A functional interface representing a double supplier that may throw an exception.
+     */
+    @FunctionalInterface
+    interface CheckedDoubleSupplier {
+        /**
+         * Gets a result, potentially throwing an exception.
+         *
+         * @return a result
+         * @throws Throwable if unable to supply a result
+         */
+        double getAsDouble() throws Throwable;
+    }
+
+    /**
+     * Record representing a successful DoubleResult.
+     *
+     * @param value the value resulting from a successful computation
+     */
+    record Success(double value) implements DoubleResult {
+        @Override
+        public boolean isSuccess() {
+            return true;
+        }
+
+        @Override
+        public boolean isFailure() {
+            return false;
+        }
+
+        @Override
+        public OptionalDouble getValue() {
+            return OptionalDouble.of(value);
+        }
+
+        @Override
+        public Optional<Throwable> getException() {
+            return Optional.empty();
+        }
+
+        @Override
+        public double getOrElse(DoubleSupplier other) {
+            return value;
+        }
+
+        @Override
+        public DoubleResult map(DoubleUnaryOperator mapper) {
+            return new Success(mapper.applyAsDouble(value));
+        }
+
+        @Override
+        public <U> Result<U> mapToObj(DoubleFunction<? extends U> mapper) {
+            return Result.success(mapper.apply(value));
+        }
+
+        @Override
+        public DoubleResult flatMap(DoubleFunction<DoubleResult> mapper) {
+            return mapper.apply(value);
+        }
+
+        @Override
+        public DoubleResult recover(ToDoubleFunction<? super Throwable> mapper) {
+            return this;
+        }
+
+        @Override
+        public <U> U fold(U initialValue, DoubleFunction<U> folder) {
+            return folder.apply(value);
+        }
+
+        @Override
+        public Result<Double> boxed() {
+            return Result.success(value);
+        }
+    }
+
+    /**
+     * Record representing a failed DoubleResult.
+     *
+     * @param exception the exception that caused the failure
+     */
+    record Failure(Throwable exception) implements DoubleResult {
+        /**
+         * Constructs a new {@code Failure} with the given exception.
+         *
+         * @param exception the exception that caused the failure
+         * @throws NullPointerException if {@code exception} is {@code null}
+         */
+        public Failure {
+            Objects.requireNonNull(exception, "Failure exception cannot be null");
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return false;
+        }
+
+        @Override
+        public boolean isFailure() {
+            return true;
+        }
+
+        @Override
+        public OptionalDouble getValue() {
+            return OptionalDouble.empty();
+        }
+
+        @Override
+        public Optional<Throwable> getException() {
+            return Optional.of(exception);
+        }
+
+        @Override
+        public double getOrElse(DoubleSupplier other) {
+            return other.getAsDouble();
+        }
+
+        @Override
+        public DoubleResult map(DoubleUnaryOperator mapper) {
+            return this;
+        }
+
+        @Override
+        public <U> Result<U> mapToObj(DoubleFunction<? extends U> mapper) {
+            return Result.failure(exception);
+        }
+
+        @Override
+        public DoubleResult flatMap(DoubleFunction<DoubleResult> mapper) {
+            return this;
+        }
+
+        @Override
+        public DoubleResult recover(ToDoubleFunction<? super Throwable> mapper) {
+            return new Success(mapper.applyAsDouble(exception));
+        }
+
+        @Override
+        public <U> U fold(U initialValue, DoubleFunction<U> folder) {
+            return initialValue;
+        }
+
+        @Override
+        public Result<Double> boxed() {
+            return Result.failure(exception);
+        }
+    }
+}
@@ -52,17 +52,29 @@ public record Failure<T>(Throwable exception) implements Result<T> {
 
     @Override
     public <U> Result<U> map(Function<? super T, ? extends U> mapper) {
-        return new Failure<>(exception);
+        return propagate();
     }
 
     @Override
     public <U> Result<U> flatMap(Function<? super T, Result<U>> mapper) {
-        return new Failure<>(exception);
+        return propagate();
+    }
+
+    /**
+     * Returns this failure viewed with a different value type.
+     * A Failure never holds a value, so the unchecked cast is safe and failed chains do not allocate.
+     *
+     * @param <U> the type of the value of the new Result
+     * @return this instance
+     */
+    @SuppressWarnings("unchecked")
+    private <U> Result<U> propagate() {
+        return (Result<U>) this;
     }
 
     @Override
     public Result<T> recover(Function<? super Throwable, ? extends T> mapper) {
-        return new Success<>(mapper.apply(exception));
+        return Success.of(mapper.apply(exception));
     }
 
     @Override
@@ -0,0 +1,284 @@
+package info.jab.util.result;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.function.IntFunction;
+import java.util.function.IntSupplier;
+import java.util.function.IntUnaryOperator;
+import java.util.function.ToIntFunction;
+
+/**
+ * A specialization of {@link Result} whose value is a primitive {@code int}, so it is never boxed.
+ */
+public sealed interface IntResult permits IntResult.Success, IntResult.Failure {
+    /**
+     * Creates a failed IntResult with the given exception.
+     *
+     * @param exception the exception
+     * @return a failed IntResult
+     */
+    static IntResult failure(Throwable exception) {
+        return new Failure(exception);
+    }
+
+    /**
+     * Creates a successful IntResult with the given value.
+     *
+     * @param value the value
+     * @return a successful IntResult
+     */
+    static IntResult success(int value) {
+        return new Success(value);
+    }
+
+    /**
+     * Executes the given supplier and returns a IntResult. If the supplier throws an exception,
+     * it returns a failed IntResult with the thrown exception.
+     *
+     * @param supplier the supplier to execute
+     * @return a successful IntResult if the supplier succeeds, otherwise a failed IntResult
+     */
+    static IntResult runCatching(CheckedIntSupplier supplier) {
+        try {
+            return new Success(supplier.getAsInt());
+        } catch (Throwable e) {
+            return new Failure(e);
+        }
+    }
+
+    /**
+     * Checks if the IntResult is successful.
+     *
+     * @return true if successful, false otherwise
+     */
+    boolean isSuccess();
+
+    /**
+     * Checks if the IntResult is a failure.
+     *
+     * @return true if a failure, false otherwise
+     */
+    boolean isFailure();
+
+    /**
+     * Returns the value if present, otherwise returns an empty OptionalInt.
+     *
+     * @return an OptionalInt with the value or empty if failure
+     */
+    OptionalInt getValue();
+
+    /**
+     * Returns the exception if present, otherwise returns an empty Optional.
+     *
+     * @return an Optional with the exception or empty if success
+     */
+    Optional<Throwable> getException();
+
+    /**
+     * Returns the value if the IntResult is successful, otherwise returns the result of the specified supplier.
+     *
+     * @param other a supplier whose result is returned if the IntResult is a failure
+     * @return the value if the IntResult is successful, otherwise the result of the supplier
+     */
+    int getOrElse(IntSupplier other);
+
+    /**
+     * Applies the given operator to the value if the IntResult is successful and returns a new IntResult.
+     *
+     * @param mapper the operator to apply to the value
+     * @return a new IntResult with the mapped value if successful, otherwise the original failure
+     */
+    IntResult map(IntUnaryOperator mapper);
+
+    /**
+     * Applies the given function to the value if the IntResult is successful and returns a {@link Result}.
+     *
+     * @param mapper the function to apply to the value
+     * @param <U> the type of the value of the new Result
+     * @return a new Result with the mapped value if successful, otherwise a failure with the same exception
+     */
+    <U> Result<U> mapToObj(IntFunction<? extends U> mapper);
+
+    /**
+     * Applies the given function to the value if the IntResult is successful.
+     *
+     * @param mapper the function to apply to the value
+     * @return the IntResult returned by the mapper if successful, otherwise the original failure
+     */
+    IntResult flatMap(IntFunction<IntResult> mapper);
+
+    /**
+     * Applies the given function to the exception if the IntResult is a failure and returns a successful IntResult.
+     *
+     * @param mapper the function to apply to the exception
+     * @return a new IntResult with the mapped value if failure, otherwise the original success
+     */
+    IntResult recover(ToIntFunction<? super Throwable> mapper);
+
+    /**
+     * Reduces the IntResult to a single value by applying a function to the successful value
+     * or a default value if the result is a failure.
+     *
+     * @param initialValue the initial value to use if the result is a failure
+     * @param folder the function to apply to the successful value
+     * @param <U> the type of the folded value
+     * @return the folded value
+     */
+    <U> U fold(U initialValue, IntFunction<U> folder);
+
+    /**
+     * Converts this IntResult to a {@link Result} with a boxed value.
+     *
+     * @return an equivalent Result
+     */
+    Result<Integer> boxed();
+
+    /**
+     * A functional interface representing a int supplier that may throw an exception.
+     */
+    @FunctionalInterface
+    interface CheckedIntSupplier {
+        /**
+         * Gets a result, potentially throwing an exception.
+         *
+         * @return a result
+         * @throws Throwable if unable to supply a result
+         */
+        int getAsInt() throws Throwable;
+    }
+
+    /**
+     * Record representing a successful IntResult.
+     *
+     * @param value the value resulting from a successful computation
+     */
+    record Success(int value) implements IntResult {
+        @Override
+        public boolean isSuccess() {
+            return true;
+        }
+
+        @Override
+        public boolean isFailure() {
+            return false;
+        }
+
+        @Override
+        public OptionalInt getValue() {
+            return OptionalInt.of(value);
+        }
+
+        @Override
+        public Optional<Throwable> getException() {
+            return Optional.empty();
+        }
+
+        @Override
+        public int getOrElse(IntSupplier other) {
+            return value;
+        }
+
+        @Override
+        public IntResult map(IntUnaryOperator mapper) {
+            return new Success(mapper.applyAsInt(value));
+        }
+
+        @Override
+        public <U> Result<U> mapToObj(IntFunction<? extends U> mapper) {
+            return Result.success(mapper.apply(value));
+        }
+
+        @Override
+        public IntResult flatMap(IntFunction<IntResult> mapper) {
+            return mapper.apply(value);
+        }
+
+        @Override
+        public IntResult recover(ToIntFunction<? super Throwable> mapper) {
+            return this;
+        }
+
+        @Override
+        public <U> U fold(U initialValue, IntFunction<U> folder) {
+            return folder.apply(value);
+        }
+
+        @Override
+        public Result<Integer> boxed() {
+            return Result.success(value);
+        }
+    }
+
+    /**
+     * Record representing a failed IntResult.
+     *
+     * @param exception the exception that caused the failure
+     */
+    record Failure(Throwable exception) implements IntResult {
+        /**
+         * Constructs a new {@code Failure} with the given exception.
+         *
+         * @param exception the exception that caused the failure
+         * @throws NullPointerException if {@code exception} is {@code null}
+         */
+        public Failure {
+            Objects.requireNonNull(exception, "Failure exception cannot be null");
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return false;
+        }
+
+        @Override
+        public boolean isFailure() {
+            return true;
+        }
+
+        @Override
+        public OptionalInt getValue() {
+            return OptionalInt.empty();
+        }
+
+        @Override
+        public Optional<Throwable> getException() {
+            return Optional.of(exception);
+        }
+
+        @Override
+        public int getOrElse(IntSupplier other) {
+            return other.getAsInt();
+        }
+
+        @Override
+        public IntResult map(IntUnaryOperator mapper) {
+            return this;
+        }
+
+        @Override
+        public <U> Result<U> mapToObj(IntFunction<? extends U> mapper) {
+            return Result.failure(exception);
+        }
+
+        @Override
+        public IntResult flatMap(IntFunction<IntResult> mapper) {
+            return this;
+        }
+
+        @Override
+        public IntResult recover(ToIntFunction<? super Throwable> mapper) {
+            return new Success(mapper.applyAsInt(exception));
+        }
+
+        @Override
+        public <U> U fold(U initialValue, IntFunction<U> folder) {
+            return initialValue;
+        }
+
+        @Override
+        public Result<Integer> boxed() {
+            return Result.failure(exception);
+        }
+    }
+}
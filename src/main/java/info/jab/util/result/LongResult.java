@@ -0,0 +1,284 @@
+package info.jab.util.result;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.LongFunction;
+import java.util.function.LongSupplier;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ToLongFunction;
+
+/**
+ * A specialization of {@link Result} whose value is a primitive {@code long}, so it is never boxed.
+ */
+public sealed interface LongResult permits LongResult.Success, LongResult.Failure {
+    /**
+     * Creates a failed LongResult with the given exception.
+     *
+     * @param exception the exception
+     * @return a failed LongResult
+     */
+    static LongResult failure(Throwable exception) {
+        return new Failure(exception);
+    }
+
+    /**
+     * Creates a successful LongResult with the given value.
+     *
+     * @param value the value
+     * @return a successful LongResult
+     */
+    static LongResult success(long value) {
+        return new Success(value);
+    }
+
+    /**
+     * Executes the given supplier and returns a LongResult. If the supplier throws an exception,
+     * it returns a failed LongResult with the thrown exception.
+     *
+     * @param supplier the supplier to execute
+     * @return a successful LongResult if the supplier succeeds, otherwise a failed LongResult
+     */
+    static LongResult runCatching(CheckedLongSupplier supplier) {
+        try {
+            return new Success(supplier.getAsLong());
+        } catch (Throwable e) {
+            return new Failure(e);
+        }
+    }
+
+    /**
+     * Checks if the LongResult is successful.
+     *
+     * @return true if successful, false otherwise
+     */
+    boolean isSuccess();
+
+    /**
+     * Checks if the LongResult is a failure.
+     *
+     * @return true if a failure, false otherwise
+     */
+    boolean isFailure();
+
+    /**
+     * Returns the value if present, otherwise returns an empty OptionalLong.
+     *
+     * @return an OptionalLong with the value or empty if failure
+     */
+    OptionalLong getValue();
+
+    /**
+     * Returns the exception if present, otherwise returns an empty Optional.
+     *
+     * @return an Optional with the exception or empty if success
+     */
+    Optional<Throwable> getException();
+
+    /**
+     * Returns the value if the LongResult is successful, otherwise returns the result of the specified supplier.
+     *
+     * @param other a supplier whose result is returned if the LongResult is a failure
+     * @return the value if the LongResult is successful, otherwise the result of the supplier
+     */
+    long getOrElse(LongSupplier other);
+
+    /**
+     * Applies the given operator to the value if the LongResult is successful and returns a new LongResult.
+     *
+     * @param mapper the operator to apply to the value
+     * @return a new LongResult with the mapped value if successful, otherwise the original failure
+     */
+    LongResult map(LongUnaryOperator mapper);
+
+    /**
+     * Applies the given function to the value if the LongResult is successful and returns a {@link Result}.
+     *
+     * @param mapper the function to apply to the value
+     * @param <U> the type of the value of the new Result
+     * @return a new Result with the mapped value if successful, otherwise a failure with the same exception
+     */
+    <U> Result<U> mapToObj(LongFunction<? extends U> mapper);
+
+    /**
+     * Applies the given function to the value if the LongResult is successful.
+     *
+     * @param mapper the function to apply to the value
+     * @return the LongResult returned by the mapper if successful, otherwise the original failure
+     */
+    LongResult flatMap(LongFunction<LongResult> mapper);
+
+    /**
+     * Applies the given function to the exception if the LongResult is a failure and returns a successful LongResult.
+     *
+     * @param mapper the function to apply to the exception
+     * @return a new LongResult with the mapped value if failure, otherwise the original success
+     */
+    LongResult recover(ToLongFunction<? super Throwable> mapper);
+
+    /**
+     * Reduces the LongResult to a single value by applying a function to the successful value
+     * or a default value if the result is a failure.
+     *
+     * @param initialValue the initial value to use if the result is a failure
+     * @param folder the function to apply to the successful value
+     * @param <U> the type of the folded value
+     * @return the folded value
+     */
+    <U> U fold(U initialValue, LongFunction<U> folder);
+
+    /**
+     * Converts this LongResult to a {@link Result} with a boxed value.
+     *
+     * @return an equivalent Result
+     */
+    Result<Long> boxed();
+
+    /**
+     * A functional interface representing a long supplier that may throw an exception.
+     */
+    @FunctionalInterface
+    interface CheckedLongSupplier {
+        /**
+         * Gets a result, potentially throwing an exception.
+         *
+         * @return a result
+         * @throws Throwable if unable to supply a result
+         */
+        long getAsLong() throws Throwable;
+    }
+
+    /**
+     * Record representing a successful LongResult.
+     *
+     * @param value the value resulting from a successful computation
+     */
+    record Success(long value) implements LongResult {
+        @Override
+        public boolean isSuccess() {
+            return true;
+        }
+
+        @Override
+        public boolean isFailure() {
+            return false;
+        }
+
+        @Override
+        public OptionalLong getValue() {
+            return OptionalLong.of(value);
+        }
+
+        @Override
+        public Optional<Throwable> getException() {
+            return Optional.empty();
+        }
+
+        @Override
+        public long getOrElse(LongSupplier other) {
+            return value;
+        }
+
+        @Override
+        public LongResult map(LongUnaryOperator mapper) {
+            return new Success(mapper.applyAsLong(value));
+        }
+
+        @Override
+        public <U> Result<U> mapToObj(LongFunction<? extends U> mapper) {
+            return Result.success(mapper.apply(value));
+        }
+
+        @Override
+        public LongResult flatMap(LongFunction<LongResult> mapper) {
+            return mapper.apply(value);
+        }
+
+        @Override
+        public LongResult recover(ToLongFunction<? super Throwable> mapper) {
+            return this;
+        }
+
+        @Override
+        public <U> U fold(U initialValue, LongFunction<U> folder) {
+            return folder.apply(value);
+        }
+
+        @Override
+        public Result<Long> boxed() {
+            return Result.success(value);
+        }
+    }
+
+    /**
+     * Record representing a failed LongResult.
+     *
+     * @param exception the exception that caused the failure
+     */
+    record Failure(Throwable exception) implements LongResult {
+        /**
+         * Constructs a new {@code Failure} with the given exception.
+         *
+         * @param exception the exception that caused the failure
+         * @throws NullPointerException if {@code exception} is {@code null}
+         */
+        public Failure {
+            Objects.requireNonNull(exception, "Failure exception cannot be null");
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return false;
+        }
+
+        @Override
+        public boolean isFailure() {
+            return true;
+        }
+
+        @Override
+        public OptionalLong getValue() {
+            return OptionalLong.empty();
+        }
+
+        @Override
+        public Optional<Throwable> getException() {
+            return Optional.of(exception);
+        }
+
+        @Override
+        public long getOrElse(LongSupplier other) {
+            return other.getAsLong();
+        }
+
+        @Override
+        public LongResult map(LongUnaryOperator mapper) {
+            return this;
+        }
+
+        @Override
+        public <U> Result<U> mapToObj(LongFunction<? extends U> mapper) {
+            return Result.failure(exception);
+        }
+
+        @Override
+        public LongResult flatMap(LongFunction<LongResult> mapper) {
+            return this;
+        }
+
+        @Override
+        public LongResult recover(ToLongFunction<? super Throwable> mapper) {
+            return new Success(mapper.applyAsLong(exception));
+        }
+
+        @Override
+        public <U> U fold(U initialValue, LongFunction<U> folder) {
+            return initialValue;
+        }
+
+        @Override
+        public Result<Long> boxed() {
+            return Result.failure(exception);
+        }
+    }
+}
@@ -1,9 +1,27 @@
 package info.jab.util.result;
 
+import info.jab.util.either.Either;
+import info.jab.util.either.ErrorDetail;
+import info.jab.util.either.Left;
+import info.jab.util.either.Unit;
+import info.jab.util.internal.ParallelTraversal;
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
 
 /**
  * A sealed interface representing a computation that may either result in a value (success)
@@ -26,15 +44,66 @@ public sealed interface Result<T> permits Success, Failure {
         return new Failure<>(exception);
     }
 
+    /**
+     * Creates a failed Result holding a {@link DeferredException}, which has no stack trace and builds its message,
+     * context and cause from {@code detail} only when they are read.
+     *
+     * @param detail the detail of the failure
+     * @param <T> the type of the value
+     * @return a failed Result
+     * @throws NullPointerException if {@code detail} is {@code null}
+     */
+    static <T> Result<T> failure(@Nonnull ErrorDetail detail) {
+        return new Failure<>(new DeferredException(detail));
+    }
+
+    /**
+     * Creates a failed Result whose message is computed by {@code message} only when it is read.
+     *
+     * @param message the supplier of the message
+     * @param <T> the type of the value
+     * @return a failed Result holding a {@link DeferredException}
+     * @throws NullPointerException if {@code message} is {@code null}
+     * @see #failure(ErrorDetail)
+     */
+    static <T> Result<T> failure(@Nonnull Supplier<String> message) {
+        return failure(ErrorDetail.lazy(message));
+    }
+
+    /**
+     * Creates a failed Result whose message is formatted only when it is read, with the {@code {}} placeholders of SLF4J.
+     *
+     * @param template the message template, such as {@code "User {} not found"}
+     * @param args the values replacing the placeholders, in order
+     * @param <T> the type of the value
+     * @return a failed Result holding a {@link DeferredException}
+     * @throws NullPointerException if {@code template} is {@code null}
+     * @see #failure(ErrorDetail)
+     */
+    static <T> Result<T> failure(@Nonnull String template, Object... args) {
+        return failure(ErrorDetail.format(template, args));
+    }
+
     /**
      * Creates a successful Result with the given value.
+     * A constant value ({@link Unit}, an enum constant, a {@code Boolean} or an {@code Integer} from -128 to 127)
+     * is wrapped in a shared instance.
      *
      * @param value the value
      * @param <T> the type of the value
      * @return a successful Result
      */
     static <T> Result<T> success(T value) {
-        return new Success<>(value);
+        return Success.of(value);
+    }
+
+    /**
+     * Returns the shared successful Result holding {@link Unit#INSTANCE}, for a computation which succeeds without a value.
+     *
+     * @return a successful Result containing {@code Unit.INSTANCE}
+     */
+    static Result<Unit> unit() {
+        return Success.of(Unit.INSTANCE);
     }
 
     /**
@@ -135,6 +204,35 @@ public sealed interface Result<T> permits Success, Failure {
      */
     Result<T> recoverCatching(Function<? super Throwable, Result<T>> mapper);
 
+    /**
+     * Runs a recursive computation as a loop, in constant stack space.
+     * The step returns a failure to stop with an error, a success holding a Left to continue with a new state,
+     * or a success holding a Right to stop with a value.
+     *
+     * @param seed the initial state
+     * @param step the function computing the next state or the value from the current state
+     * @param <A> the type of the state
+     * @param <T> the type of the value
+     * @return the first failure returned by the step, or a success with the value
+     */
+    @SuppressWarnings("unchecked")
+    static <A, T> Result<T> loop(A seed, Function<? super A, ? extends Result<? extends Either<A, T>>> step) {
+        Objects.requireNonNull(step, "step cannot be null");
+        A state = seed;
+        while (true) {
+            Result<? extends Either<A, T>> next = step.apply(state);
+            if (!(next instanceof Success<? extends Either<A, T>> success)) {
+                return (Result<T>) next;
+            }
+            Either<A, T> inner = success.value();
+            if (inner instanceof Left<A, T> continued) {
+                state = continued.value();
+            } else {
+                return Result.success(inner.get());
+            }
+        }
+    }
+
     /**
      * Executes the given supplier and returns a Result. If the supplier throws an exception,
      * it returns a failed Result with the thrown exception.
@@ -145,12 +243,164 @@ public sealed interface Result<T> permits Success, Failure {
      */
     static <T> Result<T> runCatching(CheckedSupplier<T> supplier) {
         try {
-            return new Success<>(supplier.get());
+            return Success.of(supplier.get());
         } catch (Throwable e) {
             return new Failure<>(e);
         }
     }
 
+    /**
+     * Turns a group of Results into a Result of a list, stopping at the first failure.
+     * Elements after the first failure are not pulled from the iterable.
+     *
+     * @param results the Results
+     * @param <T> the type of the values
+     * @return the first failure found, or a success with an unmodifiable list of all the values in order
+     */
+    static <T> Result<List<T>> sequence(Iterable<? extends Result<? extends T>> results) {
+        return traverse(results, Function.identity());
+    }
+
+    /**
+     * Turns a stream of Results into a Result of a list, stopping at the first failure.
+     * Elements after the first failure are not pulled from the stream.
+     *
+     * @param results the Results
+     * @param <T> the type of the values
+     * @return the first failure found, or a success with an unmodifiable list of all the values in order
+     */
+    static <T> Result<List<T>> sequence(Stream<? extends Result<? extends T>> results) {
+        return traverse(results, Function.identity());
+    }
+
+    /**
+     * Applies a function returning a Result to each element, stopping at the first failure.
+     * Elements after the first failure are neither pulled from the iterable nor mapped.
+     *
+     * @param values the values to map
+     * @param mapper the function to apply to each value
+     * @param <A> the type of the values
+     * @param <T> the type of the mapped values
+     * @return the first failure returned by the mapper, or a success with an unmodifiable list of the mapped values in order
+     */
+    static <A, T> Result<List<T>> traverse(Iterable<? extends A> values, Function<? super A, ? extends Result<? extends T>> mapper) {
+        Objects.requireNonNull(values, "values cannot be null");
+        int capacity = values instanceof Collection<?> collection ? collection.size() : 10;
+        return traverseIterator(values.iterator(), capacity, mapper);
+    }
+
+    /**
+     * Applies a function returning a Result to each element of a stream, stopping at the first failure.
+     * Elements after the first failure are neither pulled from the stream nor mapped.
+     *
+     * @param values the values to map
+     * @param mapper the function to apply to each value
+     * @param <A> the type of the values
+     * @param <T> the type of the mapped values
+     * @return the first failure returned by the mapper, or a success with an unmodifiable list of the mapped values in order
+     */
+    static <A, T> Result<List<T>> traverse(Stream<? extends A> values, Function<? super A, ? extends Result<? extends T>> mapper) {
+        Objects.requireNonNull(values, "values cannot be null");
+        Spliterator<? extends A> spliterator = values.spliterator();
+        long exactSize = spliterator.getExactSizeIfKnown();
+        int capacity = exactSize >= 0 && exactSize < Integer.MAX_VALUE - 8 ? (int) exactSize : 10;
+        return traverseIterator(Spliterators.iterator(spliterator), capacity, mapper);
+    }
+
+    /**
+     * Checks a list of Results in parallel on the common fork-join pool, stopping at the first failure.
+     *
+     * @param results the Results
+     * @param <T> the type of the values
+     * @return the leftmost failure, or a success with an unmodifiable list of all the values in order
+     * @see #parTraverse(List, Function, ForkJoinPool)
+     */
+    static <T> Result<List<T>> parSequence(List<? extends Result<? extends T>> results) {
+        return parTraverse(results, Function.identity(), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Applies a function returning a Result to each element in parallel on the common fork-join pool, stopping at the first failure.
+     *
+     * @param values the values to map
+     * @param mapper the function to apply to each value
+     * @param <A> the type of the values
+     * @param <T> the type of the mapped values
+     * @return the leftmost failure returned by the mapper, or a success with an unmodifiable list of the mapped values in order
+     * @see #parTraverse(List, Function, ForkJoinPool)
+     */
+    static <A, T> Result<List<T>> parTraverse(List<? extends A> values, Function<? super A, ? extends Result<? extends T>> mapper) {
+        return parTraverse(values, mapper, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Applies a function returning a Result to each element in parallel on the given fork-join pool, stopping at the first failure.
+     * The list is split in chunks; once an element maps to a failure, the chunks to its right stop mapping,
+     * while the chunks to its left complete so that the returned failure is the same one a sequential traverse would return.
+     * An exception thrown by the mapper is rethrown to the caller.
+     *
+     * @param values the values to map
+     * @param mapper the function to apply to each value
+     * @param pool the pool running the chunks
+     * @param <A> the type of the values
+     * @param <T> the type of the mapped values
+     * @return the leftmost failure returned by the mapper, or a success with an unmodifiable list of the mapped values in order
+     */
+    @SuppressWarnings("unchecked")
+    static <A, T> Result<List<T>> parTraverse(List<? extends A> values, Function<? super A, ? extends Result<? extends T>> mapper,
+                                              ForkJoinPool pool) {
+        Objects.requireNonNull(values, "values cannot be null");
+        Object[] outputs = new Object[values.size()];
+        int failure = ParallelTraversal.traverse(values, outputs, mapper, Result::isFailure, result -> ((Success<? extends T>) result).value(), pool);
+        if (failure >= 0) {
+            return (Result<List<T>>) outputs[failure];
+        }
+        return Result.success(Collections.unmodifiableList(Arrays.asList((T[]) outputs)));
+    }
+
+    /**
+     * Returns a collector that splits Results into their values and their exceptions in a single pass.
+     * The collector can be used with parallel streams; encounter order is kept.
+     *
+     * @param <T> the type of the values
+     * @return a collector producing a {@link ResultPartition}
+     */
+    static <T> Collector<Result<? extends T>, ?, ResultPartition<T>> partitioning() {
+        // @formatter:off
+        return Collector.<Result<? extends T>, ResultPartition<T>, ResultPartition<T>>of(
+            () -> new ResultPartition<>(new ArrayList<>(), new ArrayList<>()),
+            (partition, result) -> {
+                switch (result) {
+                    case Success<? extends T> success -> partition.successes().add(success.value());
+                    case Failure<? extends T> failure -> partition.failures().add(failure.exception());
+                }
+            },
+            (first, second) -> {
+                first.successes().addAll(second.successes());
+                first.failures().addAll(second.failures());
+                return first;
+            },
+            partition -> new ResultPartition<>(
+                Collections.unmodifiableList(partition.successes()), Collections.unmodifiableList(partition.failures())));
+        // @formatter:on
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <A, T> Result<List<T>> traverseIterator(Iterator<? extends A> iterator, int capacity,
+                                                           Function<? super A, ? extends Result<? extends T>> mapper) {
+        Objects.requireNonNull(mapper, "mapper cannot be null");
+        List<T> values = new ArrayList<>(capacity);
+        while (iterator.hasNext()) {
+            Result<? extends T> result = mapper.apply(iterator.next());
+            if (result instanceof Success<? extends T> success) {
+                values.add(success.value());
+            } else {
+                return (Result<List<T>>) result;
+            }
+        }
+        return Result.success(Collections.unmodifiableList(values));
+    }
+
     /**
      * A functional interface representing a supplier that may throw an exception.
      *
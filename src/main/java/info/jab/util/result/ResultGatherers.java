@@ -0,0 +1,159 @@
+package info.jab.util.result;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Gatherer;
+import java.util.stream.Gatherers;
+
+/**
+ * Stream gatherers for streams of Results.
+ *
+ * <pre>{@code
+ * ResultPartition<User> users = ids.stream()
+ *     .gather(ResultGatherers.mapConcurrent(8, this::loadUser))
+ *     .gather(ResultGatherers.accumulate(10))
+ *     .findFirst()
+ *     .orElseThrow();
+ * }</pre>
+ */
+public final class ResultGatherers {
+
+    private ResultGatherers() {
+        // Utility class
+    }
+
+    /**
+     * Passes successful Results through and stops at the first failure. The failure is emitted and no further element is pulled.
+     *
+     * @param <T> the type of the values
+     * @return a gatherer emitting the elements up to and including the first failure
+     */
+    public static <T> Gatherer<Result<T>, ?, Result<T>> failFast() {
+        return Gatherer.<Result<T>, Result<T>>ofSequential((state, result, downstream) -> downstream.push(result) && result.isSuccess());
+    }
+
+    /**
+     * Emits the values of the successful Results and drops the failures.
+     * It replaces {@code filter(Result::isSuccess).map(Result::getValue).map(Optional::get)}.
+     *
+     * @param <T> the type of the values
+     * @return a gatherer emitting the successful values
+     */
+    public static <T> Gatherer<Result<T>, ?, T> successes() {
+        return Gatherer.<Result<T>, T>of(Gatherer.Integrator.ofGreedy(
+            (state, result, downstream) -> !(result instanceof Success<T> success) || downstream.push(success.value())));
+    }
+
+    /**
+     * Emits the exceptions of the failed Results and drops the successful ones.
+     *
+     * @param <T> the type of the values
+     * @return a gatherer emitting the exceptions
+     */
+    public static <T> Gatherer<Result<T>, ?, Throwable> failures() {
+        return Gatherer.<Result<T>, Throwable>of(Gatherer.Integrator.ofGreedy(
+            (state, result, downstream) -> !(result instanceof Failure<T> failure) || downstream.push(failure.exception())));
+    }
+
+    /**
+     * Accumulates the whole stream into a single {@link ResultPartition}, keeping at most {@code maxFailures} exceptions.
+     * Once the bound is reached, no further element is pulled.
+     *
+     * @param maxFailures the maximum number of exceptions to keep
+     * @param <T> the type of the values
+     * @return a gatherer emitting one partition
+     * @throws IllegalArgumentException if {@code maxFailures} is less than 1
+     */
+    public static <T> Gatherer<Result<T>, ?, ResultPartition<T>> accumulate(int maxFailures) {
+        if (maxFailures < 1) {
+            throw new IllegalArgumentException("maxFailures must be greater than 0");
+        }
+        // @formatter:off
+        return Gatherer.<Result<T>, ResultPartition<T>, ResultPartition<T>>ofSequential(
+            () -> new ResultPartition<>(new ArrayList<>(), new ArrayList<>()),
+            (partition, result, downstream) -> switch (result) {
+                case Success<T> success -> partition.successes().add(success.value());
+                case Failure<T> failure -> partition.failures().add(failure.exception()) && partition.failures().size() < maxFailures;
+            },
+            (partition, downstream) -> downstream.push(new ResultPartition<>(
+                Collections.unmodifiableList(partition.successes()), Collections.unmodifiableList(partition.failures()))));
+        // @formatter:on
+    }
+
+    /**
+     * Validates the stream in fixed-size windows. Each window is emitted as its first failure, or as a success with the window values.
+     * The last window may be smaller.
+     *
+     * @param windowSize the number of elements in each window
+     * @param <T> the type of the values
+     * @return a gatherer emitting one Result per window
+     * @throws IllegalArgumentException if {@code windowSize} is less than 1
+     */
+    public static <T> Gatherer<Result<T>, ?, Result<List<T>>> windows(int windowSize) {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("windowSize must be greater than 0");
+        }
+        // @formatter:off
+        return Gatherer.<Result<T>, Window<T>, Result<List<T>>>ofSequential(
+            () -> new Window<>(windowSize),
+            Gatherer.Integrator.ofGreedy((window, result, downstream) -> window.add(result) || downstream.push(window.close())),
+            (window, downstream) -> {
+                if (window.count > 0) {
+                    downstream.push(window.close());
+                }
+            });
+        // @formatter:on
+    }
+
+    /**
+     * Maps each element on a virtual thread, with at most {@code maxConcurrency} mappings in flight, keeping encounter order.
+     * An exception thrown by the mapper becomes a failed Result instead of failing the stream.
+     *
+     * @param maxConcurrency the maximum number of concurrent mappings
+     * @param mapper the function to apply to each element
+     * @param <A> the type of the elements
+     * @param <T> the type of the values
+     * @return a gatherer emitting one Result per element
+     */
+    public static <A, T> Gatherer<A, ?, Result<T>> mapConcurrent(int maxConcurrency, Function<? super A, ? extends T> mapper) {
+        Objects.requireNonNull(mapper, "mapper cannot be null");
+        return Gatherers.<A, Result<T>>mapConcurrent(maxConcurrency, value -> Result.runCatching(() -> mapper.apply(value)));
+    }
+
+    /**
+     * The state of a window: the successful values, or the first failure.
+     */
+    private static final class Window<T> {
+
+        private final int size;
+        private List<T> values;
+        private Result<List<T>> firstFailure;
+        private int count;
+
+        private Window(int size) {
+            this.size = size;
+            this.values = new ArrayList<>(size);
+        }
+
+        private boolean add(Result<T> result) {
+            if (firstFailure == null) {
+                switch (result) {
+                    case Success<T> success -> values.add(success.value());
+                    case Failure<T> failure -> firstFailure = Result.failure(failure.exception());
+                }
+            }
+            return ++count < size;
+        }
+
+        private Result<List<T>> close() {
+            Result<List<T>> result = firstFailure == null ? Result.success(Collections.unmodifiableList(values)) : firstFailure;
+            values = new ArrayList<>(size);
+            firstFailure = null;
+            count = 0;
+            return result;
+        }
+    }
+}
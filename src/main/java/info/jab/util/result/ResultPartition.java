@@ -0,0 +1,25 @@
+package info.jab.util.result;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Record holding the values of the successful Results and the exceptions of the failed Results of a group, each in encounter order.
+ *
+ * @param <T> the type of the values
+ * @param successes the values of the successful Results
+ * @param failures the exceptions of the failed Results
+ */
+public record ResultPartition<T>(List<T> successes, List<Throwable> failures) {
+    /**
+     * Constructs a new {@code ResultPartition} with the given values.
+     *
+     * @param successes the values of the successful Results
+     * @param failures the exceptions of the failed Results
+     * @throws NullPointerException if any list is {@code null}
+     */
+    public ResultPartition {
+        Objects.requireNonNull(successes, "successes cannot be null");
+        Objects.requireNonNull(failures, "failures cannot be null");
+    }
+}
@@ -1,5 +1,6 @@
 package info.jab.util.result;
 
+import info.jab.util.internal.CanonicalInstances;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -15,6 +16,19 @@ import java.util.function.Supplier;
  * @param value the value resulting from a successful computation
  */
 public record Success<T>(T value) implements Result<T> {
+
+    private static final CanonicalInstances<Success<?>> SHARED = new CanonicalInstances<>(Success::new);
+
+    /**
+     * Returns the shared {@code Success} for a constant value (an enum constant, a {@code Boolean} or a small {@code Integer}),
+     * or a new one for any other value.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Success<T> of(T value) {
+        Success<?> shared = SHARED.lookup(value);
+        return shared != null ? (Success<T>) shared : new Success<>(value);
+    }
+
     @Override
     public boolean isSuccess() {
         return true;
@@ -52,7 +66,7 @@ public record Success<T>(T value) implements Result<T> {
 
     @Override
     public <U> Result<U> map(Function<? super T, ? extends U> mapper) {
-        return new Success<>(mapper.apply(value));
+        return Success.of(mapper.apply(value));
     }
 
     @Override
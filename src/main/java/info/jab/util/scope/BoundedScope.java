@@ -0,0 +1,146 @@
+package info.jab.util.scope;
+
+import info.jab.util.result.Result;
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.StructuredTaskScope;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link StructuredTaskScope} running at most {@code maxInFlight} of its subtasks at the same time, to fan out over
+ * many inputs without overwhelming the service behind them.
+ *
+ * <p>Forking never blocks: every subtask gets its thread at once, and waits for a permit of a fair {@link Semaphore}
+ * before running its task, so the tasks start in the order they asked for a permit. With virtual threads, a waiting
+ * subtask is parked without holding a carrier thread, so forking a hundred thousand subtasks only costs their stacks.
+ *
+ * <pre>{@code
+ * try (var scope = new BoundedScope<Either<Problem, User>>(32)) {
+ *     ids.forEach(id -> scope.fork(() -> findUser(id)));
+ *     scope.join();
+ *     return scope.results();
+ * }
+ * }</pre>
+ *
+ * @param <T> the type of the subtask values
+ */
+public class BoundedScope<T> extends StructuredTaskScope<T> {
+
+    private final Semaphore permits;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+    private final List<Subtask<? extends T>> subtasks = new ArrayList<>();
+
+    /**
+     * Creates a scope with virtual threads.
+     *
+     * @param maxInFlight the maximum number of tasks running at the same time
+     * @throws IllegalArgumentException if {@code maxInFlight} is less than 1
+     */
+    public BoundedScope(int maxInFlight) {
+        this(null, Thread.ofVirtual().factory(), maxInFlight);
+    }
+
+    /**
+     * Creates a scope.
+     *
+     * @param name the name of the scope, can be {@code null}
+     * @param factory the factory creating the threads of the subtasks
+     * @param maxInFlight the maximum number of tasks running at the same time
+     * @throws IllegalArgumentException if {@code maxInFlight} is less than 1
+     */
+    public BoundedScope(String name, @Nonnull ThreadFactory factory, int maxInFlight) {
+        super(name, factory);
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("maxInFlight must be greater than 0");
+        }
+        this.permits = new Semaphore(maxInFlight, true);
+    }
+
+    /**
+     * Forks a subtask, whose task runs once a permit is available.
+     * A subtask interrupted while waiting for its permit, as on shutdown, fails with an {@link InterruptedException}.
+     *
+     * @param task the task to run
+     * @param <U> the type of the value of the task
+     * @return the subtask
+     * @throws IllegalStateException if the scope is closed
+     * @throws WrongThreadException if called from a thread which is neither the owner nor a thread of the scope
+     */
+    @Override
+    public <U extends T> Subtask<U> fork(@Nonnull Callable<? extends U> task) {
+        Objects.requireNonNull(task, "task cannot be null");
+        Subtask<U> subtask = super.fork(() -> {
+            permits.acquire();
+            try {
+                peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                return task.call();
+            } finally {
+                inFlight.decrementAndGet();
+                permits.release();
+            }
+        });
+        synchronized (subtasks) {
+            subtasks.add(subtask);
+        }
+        return subtask;
+    }
+
+    /**
+     * Returns the number of tasks running now.
+     *
+     * @return the number of tasks holding a permit
+     */
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Returns the highest number of tasks which ran at the same time since the scope was created.
+     *
+     * @return the peak number of tasks holding a permit, never greater than {@code maxInFlight}
+     */
+    public int peakInFlight() {
+        return peakInFlight.get();
+    }
+
+    /**
+     * Returns the outcome of every subtask, in fork order. Must be called by the owner after {@link #join()}.
+     *
+     * @return a Success with the value, or a Failure with the exception, of each subtask
+     * @throws IllegalStateException if the scope was shut down before every subtask completed, or not joined
+     * @throws WrongThreadException if not called by the owner of the scope
+     */
+    public List<Result<T>> results() {
+        ensureOwnerAndJoined();
+        synchronized (subtasks) {
+            List<Result<T>> results = new ArrayList<>(subtasks.size());
+            for (Subtask<? extends T> subtask : subtasks) {
+                results.add(result(subtask));
+            }
+            return List.copyOf(results);
+        }
+    }
+
+    /**
+     * Returns the outcome of a completed subtask.
+     *
+     * @param subtask a subtask forked in this scope
+     * @param <U> the type of the value of the subtask
+     * @return a Success with the value, or a Failure with the exception, of the subtask
+     * @throws IllegalStateException if the subtask has not completed
+     */
+    public static <U> Result<U> result(@Nonnull Subtask<? extends U> subtask) {
+        Objects.requireNonNull(subtask, "subtask cannot be null");
+        return switch (subtask.state()) {
+            case SUCCESS -> Result.success(subtask.get());
+            case FAILED -> Result.failure(subtask.exception());
+            case UNAVAILABLE -> throw new IllegalStateException("Subtask not completed");
+        };
+    }
+}
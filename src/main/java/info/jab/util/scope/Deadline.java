@@ -0,0 +1,233 @@
+package info.jab.util.scope;
+
+import info.jab.util.either.Either;
+import info.jab.util.raise.Raise;
+import info.jab.util.result.Failure;
+import info.jab.util.result.Result;
+import info.jab.util.result.Success;
+import jakarta.annotation.Nonnull;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.StructuredTaskScope;
+import java.util.concurrent.StructuredTaskScope.Subtask;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A record representing the instant by which some work must be done, carried in a {@link ScopedValue} so that nested
+ * work knows how much time is left without passing it around.
+ *
+ * <p>{@link #run(Supplier)} makes a deadline current for a block. Inside it, everything sees the deadline through
+ * {@link #current()}: the code of the block and the {@code Raise} blocks it runs, and the subtasks of the structured
+ * task scopes it opens, which inherit the binding. A nested deadline never extends the current one: the earlier of the
+ * two is used, so an inner call can only shrink the time left.
+ * <ul>
+ *   <li>{@link #result(Callable)} and {@link #either(Callable, Function)} run a task until the deadline and turn its
+ *       expiry into a Failure holding a {@link DeadlineExceededException}, or a Left built from a {@link Timeout}.</li>
+ *   <li>{@link #join(StructuredTaskScope)} joins a scope until the current deadline, and shuts it down on expiry.</li>
+ *   <li>{@link #ensure(Raise)} raises a {@link Timeout} from a {@code Raise} block once the current deadline expired.</li>
+ * </ul>
+ *
+ * <p>Nothing else reads the current deadline: code opts in through these methods, so binding a deadline does not change
+ * how {@code Raise} blocks, {@code Result} helpers or the {@code join()} of a scope behave.</p>
+ *
+ * <pre>{@code
+ * Either<Problem, Page> page = Deadline.after(Duration.ofSeconds(2)).either(
+ *     () -> render(request),
+ *     timeout -> Problem.TIMEOUT);
+ * }</pre>
+ *
+ * @param instant the instant of the deadline
+ */
+public record Deadline(@Nonnull Instant instant) {
+
+    private static final ScopedValue<Deadline> CURRENT = ScopedValue.newInstance();
+
+    /**
+     * Constructs a new {@code Deadline} at the given instant.
+     *
+     * @param instant the instant of the deadline
+     * @throws NullPointerException if {@code instant} is {@code null}
+     */
+    public Deadline {
+        Objects.requireNonNull(instant, "instant cannot be null");
+    }
+
+    /**
+     * Creates a deadline at the given instant.
+     *
+     * @param instant the instant of the deadline
+     * @return a new Deadline
+     * @throws NullPointerException if {@code instant} is {@code null}
+     */
+    public static Deadline at(@Nonnull Instant instant) {
+        return new Deadline(instant);
+    }
+
+    /**
+     * Creates a deadline after the given duration from now.
+     *
+     * @param timeout the time left
+     * @return a new Deadline
+     * @throws NullPointerException if {@code timeout} is {@code null}
+     */
+    public static Deadline after(@Nonnull Duration timeout) {
+        Objects.requireNonNull(timeout, "timeout cannot be null");
+        return new Deadline(Instant.now().plus(timeout));
+    }
+
+    /**
+     * Returns the deadline of the current thread, bound by {@link #run(Supplier)} in this thread or in the owner of the
+     * scope which forked it.
+     *
+     * @return the current deadline, or an empty Optional if none is bound
+     */
+    public static Optional<Deadline> current() {
+        return CURRENT.isBound() ? Optional.of(CURRENT.get()) : Optional.empty();
+    }
+
+    /**
+     * Raises a {@link Timeout} if the current deadline has expired, and does nothing otherwise or without a deadline.
+     * Meant to be called between the steps of a {@code Raise} block.
+     *
+     * @param raise the raise context of the block
+     * @throws NullPointerException if {@code raise} is {@code null}
+     */
+    public static void ensure(@Nonnull Raise<? super Timeout> raise) {
+        Objects.requireNonNull(raise, "raise cannot be null");
+        if (CURRENT.isBound() && CURRENT.get().isExpired()) {
+            raise.raise(new Timeout(CURRENT.get()));
+        }
+    }
+
+    /**
+     * Joins a scope until the current deadline, or without limit if there is none. On expiry, the scope is shut down.
+     *
+     * @param scope the scope to join, by its owner
+     * @param <S> the type of the scope
+     * @return a Left with the timeout if the deadline expired, a Right with the scope otherwise
+     * @throws InterruptedException if interrupted while waiting
+     * @throws NullPointerException if {@code scope} is {@code null}
+     */
+    public static <S extends StructuredTaskScope<?>> Either<Timeout, S> join(@Nonnull S scope) throws InterruptedException {
+        Objects.requireNonNull(scope, "scope cannot be null");
+        if (!CURRENT.isBound()) {
+            scope.join();
+            return Either.right(scope);
+        }
+        Deadline deadline = CURRENT.get();
+        try {
+            scope.joinUntil(deadline.instant());
+            return Either.right(scope);
+        } catch (TimeoutException ex) {
+            scope.shutdown();
+            return Either.left(new Timeout(deadline));
+        }
+    }
+
+    /**
+     * Returns the time left before this deadline.
+     *
+     * @return the time left, or {@link Duration#ZERO} once expired
+     */
+    public Duration remaining() {
+        Duration remaining = Duration.between(Instant.now(), instant);
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    /**
+     * Tells whether this deadline has passed.
+     *
+     * @return {@code true} if the instant of this deadline is not in the future
+     */
+    public boolean isExpired() {
+        return !Instant.now().isBefore(instant);
+    }
+
+    /**
+     * Returns a deadline earlier by the given margin, leaving time to the caller to use the result of nested work.
+     *
+     * @param margin the time to keep for the caller
+     * @return a new Deadline
+     * @throws NullPointerException if {@code margin} is {@code null}
+     */
+    public Deadline shrink(@Nonnull Duration margin) {
+        Objects.requireNonNull(margin, "margin cannot be null");
+        return new Deadline(instant.minus(margin));
+    }
+
+    /**
+     * Runs a block with this deadline as the current one, or with the current deadline if it is earlier.
+     *
+     * @param block the block to run
+     * @param <T> the type of the value of the block
+     * @return the value of the block
+     * @throws NullPointerException if {@code block} is {@code null}
+     */
+    public <T> T run(@Nonnull Supplier<? extends T> block) {
+        Objects.requireNonNull(block, "block cannot be null");
+        return ScopedValue.where(CURRENT, effective()).get(block);
+    }
+
+    /**
+     * Runs a task in a subtask until this deadline, or the current deadline if it is earlier.
+     * On expiry the task is interrupted, and the scope waits for it to stop.
+     *
+     * @param task the task to run
+     * @param <A> the type of the value of the task
+     * @return a Success with the value, a Failure with a {@link DeadlineExceededException} on expiry, or a Failure with
+     *         the exception thrown by the task
+     * @throws NullPointerException if {@code task} is {@code null}
+     */
+    public <A> Result<A> result(@Nonnull Callable<? extends A> task) {
+        Objects.requireNonNull(task, "task cannot be null");
+        Deadline deadline = effective();
+        if (deadline.isExpired()) {
+            return Result.failure(new DeadlineExceededException(new Timeout(deadline)));
+        }
+        return ScopedValue.where(CURRENT, deadline).get(() -> {
+            try (var scope = new StructuredTaskScope<A>()) {
+                Subtask<? extends A> subtask = scope.fork(task);
+                scope.joinUntil(deadline.instant());
+                return BoundedScope.result(subtask);
+            } catch (TimeoutException ex) {
+                return Result.failure(new DeadlineExceededException(new Timeout(deadline)));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return Result.failure(ex);
+            }
+        });
+    }
+
+    /**
+     * Runs a task returning an Either in a subtask until this deadline, or the current deadline if it is earlier.
+     * On expiry the task is interrupted, and the scope waits for it to stop.
+     *
+     * @param task the task to run
+     * @param onTimeout the function converting the timeout into an error
+     * @param <E> the type of the error
+     * @param <A> the type of the value
+     * @return the Either of the task, or a Left built by {@code onTimeout} on expiry
+     * @throws CompletionException if the task throws an exception, or the thread is interrupted
+     * @throws NullPointerException if {@code task} or {@code onTimeout} is {@code null}
+     */
+    public <E, A> Either<E, A> either(@Nonnull Callable<? extends Either<? extends E, ? extends A>> task,
+            @Nonnull Function<? super Timeout, ? extends E> onTimeout) {
+        Objects.requireNonNull(onTimeout, "onTimeout cannot be null");
+        return switch (result(task)) {
+            case Success<? extends Either<? extends E, ? extends A>> success -> success.value().fold(Either::left, Either::right);
+            case Failure<? extends Either<? extends E, ? extends A>> failure when failure.exception() instanceof DeadlineExceededException ex ->
+                Either.left(onTimeout.apply(ex.timeout()));
+            case Failure<? extends Either<? extends E, ? extends A>> failure -> throw new CompletionException(failure.exception());
+        };
+    }
+
+    private Deadline effective() {
+        return CURRENT.isBound() && CURRENT.get().instant().isBefore(instant) ? CURRENT.get() : this;
+    }
+}
@@ -0,0 +1,38 @@
+package info.jab.util.scope;
+
+import jakarta.annotation.Nonnull;
+import java.util.Objects;
+
+/**
+ * The exception of a failed {@code Result} whose {@link Deadline} expired, holding the typed {@link Timeout}.
+ * Like the other exceptions expected on error paths, it does not capture a stack trace.
+ */
+public final class DeadlineExceededException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The timeout, not serialized.
+     */
+    private final transient Timeout timeout;
+
+    /**
+     * Constructs a new {@code DeadlineExceededException} for the given timeout.
+     *
+     * @param timeout the timeout
+     * @throws NullPointerException if {@code timeout} is {@code null}
+     */
+    public DeadlineExceededException(@Nonnull Timeout timeout) {
+        super("Deadline exceeded at " + Objects.requireNonNull(timeout, "timeout cannot be null").deadline().instant(), null, false, false);
+        this.timeout = timeout;
+    }
+
+    /**
+     * Returns the timeout.
+     *
+     * @return the timeout
+     */
+    public Timeout timeout() {
+        return timeout;
+    }
+}
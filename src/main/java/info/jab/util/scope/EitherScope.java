@@ -0,0 +1,188 @@
+package info.jab.util.scope;
+
+import info.jab.util.either.Either;
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.StructuredTaskScope;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * A {@link StructuredTaskScope} for subtasks returning an {@link Either}, which shuts down as soon as one of them
+ * returns a Left: the subtasks still running are interrupted, and {@link #joinEither()} returns that Left together with
+ * the position of the subtask which produced it.
+ *
+ * <p>When every subtask returns a Right, {@link #joinEither()} returns their values in fork order. Subtasks of different
+ * types can be forked in an {@code EitherScope<E, Object>} and combined with {@link #joinEither(Subtask, Subtask, BiFunction)}:
+ *
+ * <pre>{@code
+ * try (var scope = new EitherScope<Problem, Object>()) {
+ *     var user = scope.fork(() -> findUser(id));
+ *     var orders = scope.fork(() -> findOrders(id));
+ *     return scope.joinEither(user, orders, Dashboard::new);
+ * }
+ * }</pre>
+ *
+ * <p>A subtask throwing an exception also shuts the scope down. Its exception is converted to an error by the function
+ * given to the constructor or, without one, rethrown by {@link #joinEither()} in a {@link CompletionException}, as is
+ * any {@link Error}.
+ *
+ * @param <E> the type of the errors
+ * @param <A> the type of the values
+ */
+public class EitherScope<E, A> extends StructuredTaskScope<Either<E, ? extends A>> {
+
+    private final Function<? super Throwable, ? extends E> exceptionMapper;
+    private final List<Subtask<? extends Either<E, ? extends A>>> subtasks = new ArrayList<>();
+    private final AtomicReference<Object> firstFailure = new AtomicReference<>();
+    private final EitherTask.Outcomes<E, A> outcomes = new EitherTask.Outcomes<>() {
+        @Override
+        public void onRight(A value) {
+            // The values are read from the subtasks once joined
+        }
+
+        @Override
+        public void onLeft(ForkError<E> error) {
+            fail(error);
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            fail(failure);
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return EitherScope.this.isShutdown();
+        }
+    };
+
+    /**
+     * Creates a scope with virtual threads, where an exception thrown by a subtask is rethrown by {@link #joinEither()}.
+     */
+    public EitherScope() {
+        this(null, Thread.ofVirtual().factory(), null);
+    }
+
+    /**
+     * Creates a scope with virtual threads, where an exception thrown by a subtask becomes an error.
+     *
+     * @param exceptionMapper the function converting an exception thrown by a subtask into an error
+     * @throws NullPointerException if {@code exceptionMapper} is {@code null}
+     */
+    public EitherScope(@Nonnull Function<? super Throwable, ? extends E> exceptionMapper) {
+        this(null, Thread.ofVirtual().factory(), Objects.requireNonNull(exceptionMapper, "exceptionMapper cannot be null"));
+    }
+
+    /**
+     * Creates a scope.
+     *
+     * @param name the name of the scope, can be {@code null}
+     * @param factory the factory creating the threads of the subtasks
+     * @param exceptionMapper the function converting an exception thrown by a subtask into an error, or {@code null} to
+     *                        rethrow the exception from {@link #joinEither()}
+     */
+    public EitherScope(String name, @Nonnull ThreadFactory factory, Function<? super Throwable, ? extends E> exceptionMapper) {
+        super(name, factory);
+        this.exceptionMapper = exceptionMapper;
+    }
+
+    /**
+     * Forks a subtask. The scope is shut down when it returns a Left or throws an exception, unless another subtask
+     * failed first.
+     *
+     * @param task the task to run
+     * @param <U> the type of the Either returned by the task
+     * @return the subtask
+     * @throws IllegalStateException if the scope is closed
+     * @throws WrongThreadException if called from a thread which is neither the owner nor a thread of the scope
+     */
+    @Override
+    public <U extends Either<E, ? extends A>> Subtask<U> fork(@Nonnull Callable<? extends U> task) {
+        Objects.requireNonNull(task, "task cannot be null");
+        int index;
+        synchronized (subtasks) {
+            index = subtasks.size();
+            subtasks.add(null);
+        }
+        Subtask<U> subtask = super.fork(new EitherTask<>(index, task, exceptionMapper, outcomes));
+        synchronized (subtasks) {
+            subtasks.set(index, subtask);
+        }
+        return subtask;
+    }
+
+    /**
+     * Waits for all the subtasks to complete, or for the first failure, and returns the outcome of the scope.
+     *
+     * @return the first error with the position of its subtask, or the values of all the subtasks in fork order
+     * @throws InterruptedException if interrupted while waiting
+     * @throws CompletionException if a subtask threw an error, or an exception and no exception mapper was given
+     * @throws IllegalStateException if the scope was shut down before every subtask completed, without a failure
+     * @throws WrongThreadException if not called by the owner of the scope
+     */
+    public Either<ForkError<E>, List<A>> joinEither() throws InterruptedException {
+        join();
+        return outcome();
+    }
+
+    /**
+     * Waits for two subtasks of different types, or for the first failure, and combines their values.
+     *
+     * @param first the first subtask, forked in this scope
+     * @param second the second subtask, forked in this scope
+     * @param combiner the function combining the values of the subtasks
+     * @param <B> the type of the value of the first subtask
+     * @param <C> the type of the value of the second subtask
+     * @param <R> the type of the combined value
+     * @return the first error with the position of its subtask, or the combined value
+     * @throws InterruptedException if interrupted while waiting
+     * @throws CompletionException if a subtask threw an error, or an exception and no exception mapper was given
+     * @throws WrongThreadException if not called by the owner of the scope
+     */
+    public <B extends A, C extends A, R> Either<ForkError<E>, R> joinEither(@Nonnull Subtask<? extends Either<E, B>> first,
+            @Nonnull Subtask<? extends Either<E, C>> second, @Nonnull BiFunction<? super B, ? super C, ? extends R> combiner)
+            throws InterruptedException {
+        Objects.requireNonNull(first, "first cannot be null");
+        Objects.requireNonNull(second, "second cannot be null");
+        Objects.requireNonNull(combiner, "combiner cannot be null");
+        join();
+        return outcome().map(values -> combiner.apply(first.get().get(), second.get().get()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Either<ForkError<E>, List<A>> outcome() {
+        ensureOwnerAndJoined();
+        return switch (firstFailure.get()) {
+            case null -> {
+                List<A> values;
+                synchronized (subtasks) {
+                    values = new ArrayList<>(subtasks.size());
+                    for (Subtask<? extends Either<E, ? extends A>> subtask : subtasks) {
+                        if (subtask.state() != Subtask.State.SUCCESS) {
+                            throw new IllegalStateException("The scope was shut down before all the subtasks completed");
+                        }
+                        values.add(subtask.get().get());
+                    }
+                }
+                yield Either.right(Collections.unmodifiableList(values));
+            }
+            case ForkError<?> error -> Either.left((ForkError<E>) error);
+            case Throwable exception -> throw new CompletionException(exception);
+            default -> throw new IllegalStateException("Unexpected failure " + firstFailure.get());
+        };
+    }
+
+    private void fail(Object failure) {
+        if (firstFailure.compareAndSet(null, failure)) {
+            shutdown();
+        }
+    }
+}
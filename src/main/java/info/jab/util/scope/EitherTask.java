@@ -0,0 +1,71 @@
+package info.jab.util.scope;
+
+import info.jab.util.either.Either;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+
+/**
+ * The task of a subtask forked by {@link EitherScope} or {@link QuorumScope}: it runs the task of the caller and reports
+ * its Right, its Left or its failure to the scope, before the scope is told that the subtask completed.
+ *
+ * <p>An {@link Exception} is converted to a Left by the exception mapper when there is one; an {@link Error}, or an
+ * exception without a mapper, is reported as a failure. Nothing is reported once the scope is shut down, as the
+ * subtasks still running are then interrupted by the scope and did not fail on their own.</p>
+ *
+ * @param <E> the type of the errors
+ * @param <A> the type of the values
+ * @param <U> the type of the Either returned by the task
+ */
+final class EitherTask<E, A, U extends Either<E, ? extends A>> implements Callable<U> {
+
+    /**
+     * The callbacks of the scope.
+     *
+     * @param <E> the type of the errors
+     * @param <A> the type of the values
+     */
+    interface Outcomes<E, A> {
+        void onRight(A value);
+
+        void onLeft(ForkError<E> error);
+
+        void onFailure(Throwable failure);
+
+        boolean isShutdown();
+    }
+
+    private final int index;
+    private final Callable<? extends U> task;
+    private final Function<? super Throwable, ? extends E> exceptionMapper;
+    private final Outcomes<E, A> outcomes;
+
+    EitherTask(int index, Callable<? extends U> task, Function<? super Throwable, ? extends E> exceptionMapper, Outcomes<E, A> outcomes) {
+        this.index = index;
+        this.task = task;
+        this.exceptionMapper = exceptionMapper;
+        this.outcomes = outcomes;
+    }
+
+    @Override
+    public U call() throws Exception {
+        try {
+            U result = Objects.requireNonNull(task.call(), "task returned null");
+            if (result.isLeft()) {
+                outcomes.onLeft(new ForkError<>(index, result.fold(Function.identity(), value -> null)));
+            } else {
+                outcomes.onRight(result.get());
+            }
+            return result;
+        } catch (Throwable ex) {
+            if (!outcomes.isShutdown()) {
+                if (exceptionMapper != null && ex instanceof Exception) {
+                    outcomes.onLeft(new ForkError<>(index, exceptionMapper.apply(ex)));
+                } else {
+                    outcomes.onFailure(ex);
+                }
+            }
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package info.jab.util.scope;
+
+import jakarta.annotation.Nonnull;
+import java.util.Objects;
+
+/**
+ * A record holding the error of a subtask together with its position, in fork order, in the scope which forked it.
+ *
+ * @param <E> the type of the error
+ * @param index the position of the subtask, starting at 0 for the first fork of the scope
+ * @param error the error of the subtask
+ */
+public record ForkError<E>(int index, @Nonnull E error) {
+    /**
+     * Constructs a new {@code ForkError} with the given values.
+     *
+     * @param index the position of the subtask
+     * @param error the error of the subtask
+     * @throws IllegalArgumentException if {@code index} is negative
+     * @throws NullPointerException if {@code error} is {@code null}
+     */
+    public ForkError {
+        if (index < 0) {
+            throw new IllegalArgumentException("index cannot be negative");
+        }
+        Objects.requireNonNull(error, "error cannot be null");
+    }
+}
@@ -0,0 +1,230 @@
+package info.jab.util.scope;
+
+import info.jab.util.either.Either;
+import jakarta.annotation.Nonnull;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.StructuredTaskScope;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * A {@link StructuredTaskScope} for subtasks returning an {@link Either}, which completes as soon as a quorum of them
+ * returns a Right: the subtasks still running are then interrupted, and {@link #joinQuorum()} returns the values of the
+ * quorum. Once the owner joins, the scope also shuts down as soon as the quorum can no longer be reached, and returns
+ * the errors collected so far.
+ *
+ * <pre>{@code
+ * try (var scope = new QuorumScope<Problem, Replica>(2)) {
+ *     replicas.forEach(replica -> scope.fork(() -> read(replica, key)));
+ *     return scope.joinQuorum();
+ * }
+ * }</pre>
+ *
+ * <p>As in {@link EitherScope}, an exception thrown by a subtask is converted to an error by the function given to the
+ * constructor or, without one, shuts the scope down and is rethrown by {@link #joinQuorum()} in a
+ * {@link CompletionException}, as is any {@link Error}.
+ *
+ * @param <E> the type of the errors
+ * @param <A> the type of the values
+ */
+public class QuorumScope<E, A> extends StructuredTaskScope<Either<E, ? extends A>> {
+
+    private final int quorum;
+    private final Function<? super Throwable, ? extends E> exceptionMapper;
+    private final Object lock = new Object();
+    private final List<A> values = new ArrayList<>();
+    private final List<ForkError<E>> errors = new ArrayList<>();
+    private final EitherTask.Outcomes<E, A> outcomes = new EitherTask.Outcomes<>() {
+        @Override
+        public void onRight(A value) {
+            onValue(value);
+        }
+
+        @Override
+        public void onLeft(ForkError<E> error) {
+            onError(error);
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            onException(failure);
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return QuorumScope.this.isShutdown();
+        }
+    };
+    private int forked;
+    private boolean joining;
+    private boolean decided;
+    private Throwable exception;
+
+    /**
+     * Creates a scope with virtual threads, where an exception thrown by a subtask is rethrown by {@link #joinQuorum()}.
+     *
+     * @param quorum the number of Rights needed
+     * @throws IllegalArgumentException if {@code quorum} is less than 1
+     */
+    public QuorumScope(int quorum) {
+        this(null, Thread.ofVirtual().factory(), quorum, null);
+    }
+
+    /**
+     * Creates a scope with virtual threads, where an exception thrown by a subtask becomes an error.
+     *
+     * @param quorum the number of Rights needed
+     * @param exceptionMapper the function converting an exception thrown by a subtask into an error
+     * @throws IllegalArgumentException if {@code quorum} is less than 1
+     * @throws NullPointerException if {@code exceptionMapper} is {@code null}
+     */
+    public QuorumScope(int quorum, @Nonnull Function<? super Throwable, ? extends E> exceptionMapper) {
+        this(null, Thread.ofVirtual().factory(), quorum, Objects.requireNonNull(exceptionMapper, "exceptionMapper cannot be null"));
+    }
+
+    /**
+     * Creates a scope.
+     *
+     * @param name the name of the scope, can be {@code null}
+     * @param factory the factory creating the threads of the subtasks
+     * @param quorum the number of Rights needed
+     * @param exceptionMapper the function converting an exception thrown by a subtask into an error, or {@code null} to
+     *                        rethrow the exception from {@link #joinQuorum()}
+     * @throws IllegalArgumentException if {@code quorum} is less than 1
+     */
+    public QuorumScope(String name, @Nonnull ThreadFactory factory, int quorum, Function<? super Throwable, ? extends E> exceptionMapper) {
+        super(name, factory);
+        if (quorum < 1) {
+            throw new IllegalArgumentException("quorum must be greater than 0");
+        }
+        this.quorum = quorum;
+        this.exceptionMapper = exceptionMapper;
+    }
+
+    /**
+     * Forks a subtask, whose Right counts towards the quorum.
+     *
+     * @param task the task to run
+     * @param <U> the type of the Either returned by the task
+     * @return the subtask
+     * @throws IllegalStateException if the scope is closed
+     * @throws WrongThreadException if called from a thread which is neither the owner nor a thread of the scope
+     */
+    @Override
+    public <U extends Either<E, ? extends A>> Subtask<U> fork(@Nonnull Callable<? extends U> task) {
+        Objects.requireNonNull(task, "task cannot be null");
+        int index;
+        synchronized (lock) {
+            index = forked++;
+        }
+        return super.fork(new EitherTask<>(index, task, exceptionMapper, outcomes));
+    }
+
+    /**
+     * Waits for the quorum, for the quorum to become unreachable, or for all the subtasks to complete.
+     *
+     * @return this scope
+     * @throws InterruptedException if interrupted while waiting
+     */
+    @Override
+    public QuorumScope<E, A> join() throws InterruptedException {
+        startJoining();
+        super.join();
+        return this;
+    }
+
+    /**
+     * Waits for the quorum, for the quorum to become unreachable, or for all the subtasks to complete, up to a deadline.
+     *
+     * @param deadline the deadline
+     * @return this scope
+     * @throws InterruptedException if interrupted while waiting
+     * @throws TimeoutException if the deadline is reached
+     */
+    @Override
+    public QuorumScope<E, A> joinUntil(@Nonnull Instant deadline) throws InterruptedException, TimeoutException {
+        startJoining();
+        super.joinUntil(deadline);
+        return this;
+    }
+
+    /**
+     * Waits for the quorum, or for the quorum to become unreachable, and returns the outcome of the scope.
+     *
+     * @return the errors collected in completion order when the quorum is not reached, or the values of the first
+     *         {@code quorum} subtasks returning a Right, in completion order
+     * @throws InterruptedException if interrupted while waiting
+     * @throws CompletionException if a subtask threw an error, or an exception and no exception mapper was given
+     * @throws IllegalStateException if the scope was shut down by its owner before the outcome was known
+     * @throws WrongThreadException if not called by the owner of the scope
+     */
+    public Either<List<ForkError<E>>, List<A>> joinQuorum() throws InterruptedException {
+        join();
+        ensureOwnerAndJoined();
+        synchronized (lock) {
+            if (exception != null) {
+                throw new CompletionException(exception);
+            }
+            if (values.size() >= quorum) {
+                return Either.right(List.copyOf(values));
+            }
+            if (!decided && isShutdown()) {
+                throw new IllegalStateException("The scope was shut down before the quorum was decided");
+            }
+            return Either.left(Collections.unmodifiableList(new ArrayList<>(errors)));
+        }
+    }
+
+    private void onValue(A value) {
+        synchronized (lock) {
+            if (!decided) {
+                values.add(value);
+                decideIfPossible();
+            }
+        }
+    }
+
+    private void onError(ForkError<E> error) {
+        synchronized (lock) {
+            if (!decided) {
+                errors.add(error);
+                decideIfPossible();
+            }
+        }
+    }
+
+    private void onException(Throwable ex) {
+        synchronized (lock) {
+            if (!decided) {
+                exception = ex;
+                decided = true;
+                shutdown();
+            }
+        }
+    }
+
+    private void startJoining() {
+        synchronized (lock) {
+            joining = true;
+            if (!decided) {
+                decideIfPossible();
+            }
+        }
+    }
+
+    private void decideIfPossible() {
+        int running = forked - values.size() - errors.size();
+        // Until the owner joins, more subtasks may be forked, so only the quorum itself is conclusive
+        if (values.size() >= quorum || (joining && values.size() + running < quorum)) {
+            decided = true;
+            shutdown();
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package info.jab.util.scope;
+
+import info.jab.util.result.Result;
+import jakarta.annotation.Nonnull;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.StructuredTaskScope;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A {@link StructuredTaskScope} which streams the outcome of its subtasks as {@link Result} values, in completion order,
+ * while the later subtasks are still running.
+ *
+ * <p>The memory used by completed results is bounded by a capacity: every subtask takes a slot when it is forked, and
+ * gives it back when its result is consumed from the stream. When all the slots are taken, {@link #fork(Callable)} waits
+ * for the consumer. Completed results are handed over through a lock-free queue, so a subtask never blocks when it
+ * completes.
+ * <ul>
+ *   <li>{@link #stream()} is consumed by any thread and ends once the scope is joined (or shut down) and drained.
+ *       When more subtasks than the capacity are forked by the owner, the stream must be consumed by another thread.</li>
+ *   <li>{@link #forkAll(Stream)} forks lazily, as the owner consumes the returned stream: no thread is needed besides
+ *       the owner, and at most {@code capacity} subtasks are running or waiting to be consumed.</li>
+ * </ul>
+ *
+ * <pre>{@code
+ * try (var scope = new ResultScope<User>(64)) {
+ *     scope.forkAll(ids.stream().map(id -> () -> loadUser(id)))
+ *         .forEach(result -> result.ifSuccess(cache::put));
+ *     scope.join();
+ * }
+ * }</pre>
+ *
+ * @param <T> the type of the subtask values
+ */
+public class ResultScope<T> extends StructuredTaskScope<T> {
+
+    /**
+     * The capacity of a scope created without one.
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private final Semaphore slots;
+    private final Queue<Result<T>> completed = new ConcurrentLinkedQueue<>();
+    private final Semaphore ready = new Semaphore(0);
+    private final AtomicLong running = new AtomicLong();
+    private volatile boolean closed;
+
+    /**
+     * Creates a scope with the {@link #DEFAULT_CAPACITY} and virtual threads.
+     */
+    public ResultScope() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a scope with virtual threads.
+     *
+     * @param capacity the maximum number of subtasks running or waiting for their result to be consumed
+     * @throws IllegalArgumentException if {@code capacity} is less than 1
+     */
+    public ResultScope(int capacity) {
+        this(null, Thread.ofVirtual().factory(), capacity);
+    }
+
+    /**
+     * Creates a scope.
+     *
+     * @param name the name of the scope, can be {@code null}
+     * @param factory the factory creating the threads of the subtasks
+     * @param capacity the maximum number of subtasks running or waiting for their result to be consumed
+     * @throws IllegalArgumentException if {@code capacity} is less than 1
+     */
+    public ResultScope(String name, @Nonnull ThreadFactory factory, int capacity) {
+        super(name, factory);
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be greater than 0");
+        }
+        this.slots = new Semaphore(capacity);
+    }
+
+    /**
+     * Forks a subtask, after waiting for a free slot if all of them are taken.
+     * Once the scope is shut down, it returns at once, as the subtask will not run.
+     *
+     * @param task the task to run
+     * @param <U> the type of the value of the task
+     * @return the subtask
+     * @throws RejectedExecutionException if the thread is interrupted while waiting for a slot
+     * @throws IllegalStateException if the scope is closed
+     * @throws WrongThreadException if called from a thread which is neither the owner nor a thread of the scope
+     */
+    @Override
+    public <U extends T> Subtask<U> fork(@Nonnull Callable<? extends U> task) {
+        Objects.requireNonNull(task, "task cannot be null");
+        if (isShutdown()) {
+            // The subtask will not run, and the slot would never be given back
+            return super.fork(task);
+        }
+        try {
+            slots.acquire();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for a free slot", ex);
+        }
+        if (isShutdown()) {
+            // Pass the wake-up given by shutdown() on to the next waiting fork
+            slots.release();
+            return super.fork(task);
+        }
+        return forkInSlot(task);
+    }
+
+    /**
+     * Forks the given tasks as the returned stream is consumed, keeping at most {@code capacity} of them running or
+     * waiting to be consumed. The stream ends when every task has completed and its result has been consumed.
+     *
+     * <p>The stream must be consumed by the owner of the scope, before {@link #join()}; it is not meant to be combined
+     * with {@link #stream()}.</p>
+     *
+     * @param tasks the tasks to run
+     * @return the results of the tasks, in completion order
+     */
+    public Stream<Result<T>> forkAll(@Nonnull Stream<? extends Callable<? extends T>> tasks) {
+        Objects.requireNonNull(tasks, "tasks cannot be null");
+        Iterator<? extends Callable<? extends T>> pending = tasks.iterator();
+        return results(() -> {
+            while (pending.hasNext() && !isShutdown() && slots.tryAcquire()) {
+                forkInSlot(pending.next());
+            }
+            return !pending.hasNext() || isShutdown();
+        });
+    }
+
+    /**
+     * Returns the results of the subtasks in completion order, as they complete.
+     * The stream ends once the scope has been joined, or shut down, and every available result has been consumed.
+     * Consuming a result frees its slot for another fork. Several threads may consume streams of the same scope: each
+     * result is delivered to one of them, and all of them end.
+     *
+     * @return the results of the subtasks
+     */
+    public Stream<Result<T>> stream() {
+        return results(() -> closed);
+    }
+
+    /**
+     * Waits for all the subtasks to complete, or for the scope to be shut down.
+     * The results not consumed yet stay available from {@link #stream()}.
+     *
+     * @return this scope
+     * @throws InterruptedException if interrupted while waiting
+     */
+    @Override
+    public ResultScope<T> join() throws InterruptedException {
+        try {
+            super.join();
+            return this;
+        } finally {
+            markClosed();
+        }
+    }
+
+    /**
+     * Waits for all the subtasks to complete, or for the scope to be shut down, up to a deadline.
+     * When the deadline is reached, the scope is shut down, so that the stream ends with the results already completed.
+     *
+     * @param deadline the deadline
+     * @return this scope
+     * @throws InterruptedException if interrupted while waiting
+     * @throws TimeoutException if the deadline is reached
+     */
+    @Override
+    public ResultScope<T> joinUntil(@Nonnull Instant deadline) throws InterruptedException, TimeoutException {
+        try {
+            super.joinUntil(deadline);
+            return this;
+        } catch (TimeoutException ex) {
+            shutdown();
+            throw ex;
+        } finally {
+            markClosed();
+        }
+    }
+
+    /**
+     * Shuts the scope down: the running subtasks are interrupted and their results are discarded.
+     */
+    @Override
+    public void shutdown() {
+        super.shutdown();
+        // The subtasks still running never complete, so wake the forks waiting for their slots
+        slots.release();
+        markClosed();
+    }
+
+    /**
+     * Returns the number of results which can still be forked before {@link #fork(Callable)} waits.
+     *
+     * @return the number of free slots
+     */
+    public int availableSlots() {
+        return slots.availablePermits();
+    }
+
+    @Override
+    protected void handleComplete(Subtask<? extends T> subtask) {
+        Result<T> result = switch (subtask.state()) {
+            case SUCCESS -> Result.success(subtask.get());
+            case FAILED -> Result.failure(subtask.exception());
+            case UNAVAILABLE -> throw new IllegalStateException("Subtask not completed");
+        };
+        completed.offer(result);
+        running.decrementAndGet();
+        ready.release();
+    }
+
+    private <U extends T> Subtask<U> forkInSlot(Callable<? extends U> task) {
+        running.incrementAndGet();
+        try {
+            return super.fork(task);
+        } catch (RuntimeException ex) {
+            running.decrementAndGet();
+            slots.release();
+            throw ex;
+        }
+    }
+
+    private void markClosed() {
+        closed = true;
+        ready.release();
+    }
+
+    private Stream<Result<T>> results(ForkProgress progress) {
+        Iterator<Result<T>> iterator = new Iterator<>() {
+            private Result<T> next;
+
+            @Override
+            public boolean hasNext() {
+                while (next == null) {
+                    boolean noMoreForks = progress.forkMore();
+                    next = completed.poll();
+                    if (next != null) {
+                        slots.release();
+                    } else if (noMoreForks && (running.get() == 0 || isShutdown()) && completed.isEmpty()) {
+                        // Pass the wake-up on, so that every consumer waiting on the stream ends too
+                        ready.release();
+                        return false;
+                    } else {
+                        try {
+                            ready.acquire();
+                        } catch (InterruptedException ex) {
+                            Thread.currentThread().interrupt();
+                            return false;
+                        }
+                    }
+                }
+                return true;
+            }
+
+            @Override
+            public Result<T> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Result<T> result = next;
+                next = null;
+                return result;
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Forks the next subtasks if any, and tells whether all of them have been forked.
+     */
+    @FunctionalInterface
+    private interface ForkProgress {
+        boolean forkMore();
+    }
+}
@@ -0,0 +1,21 @@
+package info.jab.util.scope;
+
+import jakarta.annotation.Nonnull;
+import java.util.Objects;
+
+/**
+ * A record representing the expiry of a {@link Deadline}, used as the error of a Left instead of a {@code TimeoutException}.
+ *
+ * @param deadline the deadline which expired
+ */
+public record Timeout(@Nonnull Deadline deadline) {
+    /**
+     * Constructs a new {@code Timeout} with the given deadline.
+     *
+     * @param deadline the deadline which expired
+     * @throws NullPointerException if {@code deadline} is {@code null}
+     */
+    public Timeout {
+        Objects.requireNonNull(deadline, "deadline cannot be null");
+    }
+}
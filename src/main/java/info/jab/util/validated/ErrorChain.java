@@ -0,0 +1,295 @@
+package info.jab.util.validated;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A persistent, non-empty sequence of errors with O(1) concatenation.
+ *
+ * <p>The chain is a tree of concatenations: {@link #concat(ErrorChain)} shares both chains instead of copying them,
+ * and iteration walks the tree with an explicit stack, so long chains do not grow the Java stack.
+ * Each stored error has an occurrence count, which is greater than one when a {@link ErrorPolicy#deduplicate deduplicating}
+ * policy merged several errors into it. Errors that a {@link ErrorPolicy#limit bounded} policy did not store are only counted,
+ * in {@link #dropped()}.</p>
+ *
+ * @param <E> the type of the errors
+ */
+public final class ErrorChain<E> implements Iterable<E> {
+
+    private final E error;
+    private final long count;
+    private final ErrorChain<E> left;
+    private final ErrorChain<E> right;
+    private final int size;
+    private final long total;
+    private final long dropped;
+
+    private ErrorChain(E error, long count) {
+        this.error = error;
+        this.count = count;
+        this.left = null;
+        this.right = null;
+        this.size = 1;
+        this.total = count;
+        this.dropped = 0;
+    }
+
+    private ErrorChain(ErrorChain<E> left, ErrorChain<E> right, long dropped) {
+        this.error = null;
+        this.count = 0;
+        this.left = left;
+        this.right = right;
+        this.size = left.size + (right == null ? 0 : right.size);
+        this.total = left.total + (right == null ? 0 : right.total) + dropped;
+        this.dropped = left.dropped + (right == null ? 0 : right.dropped) + dropped;
+    }
+
+    /**
+     * Creates a chain with one error.
+     *
+     * @param error the error
+     * @param <E> the type of the errors
+     * @return a new chain
+     */
+    public static <E> ErrorChain<E> of(@Nonnull E error) {
+        Objects.requireNonNull(error, "error cannot be null");
+        return new ErrorChain<>(error, 1);
+    }
+
+    /**
+     * Creates a chain with the given errors, in order.
+     *
+     * @param first the first error
+     * @param others the other errors
+     * @param <E> the type of the errors
+     * @return a new chain
+     */
+    @SafeVarargs
+    public static <E> ErrorChain<E> of(@Nonnull E first, @Nonnull E... others) {
+        ErrorChain<E> chain = of(first);
+        for (E other : others) {
+            chain = chain.concat(of(other));
+        }
+        return chain;
+    }
+
+    /**
+     * Creates a chain with one error that occurred {@code count} times.
+     *
+     * @param error the error
+     * @param count the number of occurrences
+     * @param <E> the type of the errors
+     * @return a new chain
+     * @throws IllegalArgumentException if {@code count} is less than 1
+     */
+    static <E> ErrorChain<E> counted(E error, long count) {
+        Objects.requireNonNull(error, "error cannot be null");
+        if (count < 1) {
+            throw new IllegalArgumentException("count must be greater than 0");
+        }
+        return new ErrorChain<>(error, count);
+    }
+
+    /**
+     * Returns a chain with the errors of this chain followed by the errors of the other one. Both chains are shared, not copied.
+     *
+     * @param other the chain to append
+     * @return a new chain
+     */
+    public ErrorChain<E> concat(@Nonnull ErrorChain<E> other) {
+        Objects.requireNonNull(other, "other cannot be null");
+        return new ErrorChain<>(this, other, 0);
+    }
+
+    /**
+     * Returns this chain with {@code count} more errors counted as dropped.
+     *
+     * @param count the number of errors dropped
+     * @return a new chain, or this chain if {@code count} is 0
+     */
+    ErrorChain<E> drop(long count) {
+        return count == 0 ? this : new ErrorChain<>(this, null, count);
+    }
+
+    /**
+     * Returns the first error.
+     *
+     * @return the first stored error
+     */
+    public E head() {
+        ErrorChain<E> node = this;
+        while (node.left != null) {
+            node = node.left;
+        }
+        return node.error;
+    }
+
+    /**
+     * Returns the number of stored errors.
+     *
+     * @return the number of errors this chain iterates over
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of errors that occurred, including the ones merged by deduplication and the dropped ones.
+     *
+     * @return the total number of errors
+     */
+    public long total() {
+        return total;
+    }
+
+    /**
+     * Returns the number of errors that were counted but not stored.
+     *
+     * @return the number of dropped errors
+     */
+    public long dropped() {
+        return dropped;
+    }
+
+    /**
+     * Returns the stored errors, in order.
+     *
+     * @return an unmodifiable list of the errors
+     */
+    public List<E> toList() {
+        List<E> errors = new ArrayList<>(size);
+        forEach(errors::add);
+        return Collections.unmodifiableList(errors);
+    }
+
+    /**
+     * Returns the stored errors with their number of occurrences, in order.
+     * An error stored more than once appears once, with the sum of its counts.
+     *
+     * @return an unmodifiable map from error to occurrences
+     */
+    public Map<E, Long> counts() {
+        Map<E, Long> counts = new LinkedHashMap<>();
+        leaves().forEachRemaining(leaf -> counts.merge(leaf.error, leaf.count, Long::sum));
+        return Collections.unmodifiableMap(counts);
+    }
+
+    /**
+     * Returns a sequential stream of the stored errors, in order.
+     *
+     * @return a stream of errors
+     */
+    public Stream<E> stream() {
+        return StreamSupport.stream(Spliterators.spliterator(iterator(), size, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        Iterator<ErrorChain<E>> leaves = leaves();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return leaves.hasNext();
+            }
+
+            @Override
+            public E next() {
+                return leaves.next().error;
+            }
+        };
+    }
+
+    Iterator<ErrorChain<E>> leaves() {
+        Deque<ErrorChain<E>> pending = new ArrayDeque<>();
+        pending.push(this);
+        return new Iterator<>() {
+            private ErrorChain<E> next = advance();
+
+            private ErrorChain<E> advance() {
+                while (!pending.isEmpty()) {
+                    ErrorChain<E> node = pending.pop();
+                    if (node.left == null) {
+                        return node;
+                    }
+                    if (node.right != null) {
+                        pending.push(node.right);
+                    }
+                    pending.push(node.left);
+                }
+                return null;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public ErrorChain<E> next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                ErrorChain<E> current = next;
+                next = advance();
+                return current;
+            }
+        };
+    }
+
+    E error() {
+        return error;
+    }
+
+    long count() {
+        return count;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof ErrorChain<?> chain) || size != chain.size || total != chain.total || dropped != chain.dropped) {
+            return false;
+        }
+        Iterator<ErrorChain<E>> mine = leaves();
+        Iterator<? extends ErrorChain<?>> theirs = chain.leaves();
+        while (mine.hasNext()) {
+            ErrorChain<E> a = mine.next();
+            ErrorChain<?> b = theirs.next();
+            if (a.count != b.count || !a.error.equals(b.error)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = Long.hashCode(dropped);
+        for (Iterator<ErrorChain<E>> it = leaves(); it.hasNext();) {
+            ErrorChain<E> leaf = it.next();
+            hash = 31 * hash + leaf.error.hashCode() * 31 + Long.hashCode(leaf.count);
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        String errors = toList().toString();
+        return dropped == 0 ? "ErrorChain" + errors : "ErrorChain" + errors + " (+" + dropped + " dropped)";
+    }
+}
@@ -0,0 +1,106 @@
+package info.jab.util.validated;
+
+import jakarta.annotation.Nonnull;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Strategy used to combine the errors of two {@link Invalid} values.
+ *
+ * <ul>
+ *   <li>{@link #unbounded()} keeps every error, with O(1) concatenation.</li>
+ *   <li>{@link #limit(int)} keeps the first errors up to a maximum and only counts the others.</li>
+ *   <li>{@link #deduplicate(Function)} keeps one error per key, with the number of occurrences.</li>
+ * </ul>
+ *
+ * @param <E> the type of the errors
+ */
+@FunctionalInterface
+public interface ErrorPolicy<E> {
+
+    /**
+     * Combines two chains of errors.
+     *
+     * @param first the errors found first
+     * @param second the errors found next
+     * @return the combined errors
+     */
+    ErrorChain<E> concat(ErrorChain<E> first, ErrorChain<E> second);
+
+    /**
+     * Returns a policy keeping every error.
+     *
+     * @param <E> the type of the errors
+     * @return a policy concatenating chains in O(1)
+     */
+    static <E> ErrorPolicy<E> unbounded() {
+        return ErrorChain::concat;
+    }
+
+    /**
+     * Returns a policy keeping at most {@code maxErrors} errors. The errors beyond the limit are counted in {@link ErrorChain#dropped()}.
+     * Once the limit is reached, combining is O(1); before, it costs at most {@code maxErrors} steps.
+     *
+     * @param maxErrors the maximum number of errors to store
+     * @param <E> the type of the errors
+     * @return a bounded policy
+     * @throws IllegalArgumentException if {@code maxErrors} is less than 1
+     */
+    static <E> ErrorPolicy<E> limit(int maxErrors) {
+        if (maxErrors < 1) {
+            throw new IllegalArgumentException("maxErrors must be greater than 0");
+        }
+        return (first, second) -> {
+            if (first.size() >= maxErrors) {
+                return first.drop(second.total());
+            }
+            if (first.size() + second.size() <= maxErrors) {
+                return first.concat(second);
+            }
+            ErrorChain<E> kept = first;
+            long dropped = second.dropped();
+            Iterator<ErrorChain<E>> leaves = second.leaves();
+            while (leaves.hasNext()) {
+                ErrorChain<E> leaf = leaves.next();
+                if (kept.size() < maxErrors) {
+                    kept = kept.concat(leaf);
+                } else {
+                    dropped += leaf.count();
+                }
+            }
+            return kept.drop(dropped);
+        };
+    }
+
+    /**
+     * Returns a policy keeping the first error found for each key, with the number of errors found for that key.
+     * Memory is bounded by the number of distinct keys; combining costs one step per stored error.
+     *
+     * @param key the function extracting the deduplication key of an error
+     * @param <E> the type of the errors
+     * @return a deduplicating policy
+     */
+    static <E> ErrorPolicy<E> deduplicate(@Nonnull Function<? super E, ?> key) {
+        Objects.requireNonNull(key, "key cannot be null");
+        return (first, second) -> {
+            Map<Object, ErrorChain<E>> merged = new LinkedHashMap<>();
+            for (ErrorChain<E> chain : List.of(first, second)) {
+                Iterator<ErrorChain<E>> leaves = chain.leaves();
+                while (leaves.hasNext()) {
+                    ErrorChain<E> leaf = leaves.next();
+                    merged.merge(key.apply(leaf.error()), leaf,
+                        (existing, added) -> ErrorChain.counted(existing.error(), existing.count() + added.count()));
+                }
+            }
+            ErrorChain<E> result = null;
+            for (ErrorChain<E> leaf : merged.values()) {
+                result = result == null ? leaf : result.concat(leaf);
+            }
+            return result.drop(first.dropped() + second.dropped());
+        };
+    }
+}
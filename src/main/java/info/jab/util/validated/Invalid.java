@@ -0,0 +1,46 @@
+package info.jab.util.validated;
+
+import jakarta.annotation.Nonnull;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A record representing the Invalid variant of a Validated.
+ *
+ * @param <E> the type of the errors
+ * @param <A> the type of the value
+ * @param errors the errors
+ */
+public record Invalid<E, A>(@Nonnull ErrorChain<E> errors) implements Validated<E, A> {
+    /**
+     * Constructs a new {@code Invalid} with the given errors.
+     *
+     * @param errors the errors to be contained in this {@code Invalid}
+     * @throws NullPointerException if {@code errors} is {@code null}
+     */
+    public Invalid {
+        Objects.requireNonNull(errors, "Invalid errors cannot be null");
+    }
+
+    @Override
+    public boolean isValid() {
+        return false;
+    }
+
+    @Override
+    public A get() {
+        throw new NoSuchElementException("No value present in Invalid");
+    }
+
+    @Override
+    public <T> T fold(Function<? super ErrorChain<E>, ? extends T> errorsMapper, Function<? super A, ? extends T> valueMapper) {
+        return errorsMapper.apply(errors);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <B> Validated<E, B> map(Function<? super A, ? extends B> mapper) {
+        return (Validated<E, B>) this;
+    }
+}
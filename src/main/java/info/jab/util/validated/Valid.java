@@ -0,0 +1,44 @@
+package info.jab.util.validated;
+
+import jakarta.annotation.Nonnull;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A record representing the Valid variant of a Validated.
+ *
+ * @param <E> the type of the errors
+ * @param <A> the type of the value
+ * @param value the value
+ */
+public record Valid<E, A>(@Nonnull A value) implements Validated<E, A> {
+    /**
+     * Constructs a new {@code Valid} with the given value.
+     *
+     * @param value the value to be contained in this {@code Valid}
+     * @throws NullPointerException if {@code value} is {@code null}
+     */
+    public Valid {
+        Objects.requireNonNull(value, "Valid value cannot be null");
+    }
+
+    @Override
+    public boolean isValid() {
+        return true;
+    }
+
+    @Override
+    public A get() {
+        return value;
+    }
+
+    @Override
+    public <T> T fold(Function<? super ErrorChain<E>, ? extends T> errorsMapper, Function<? super A, ? extends T> valueMapper) {
+        return valueMapper.apply(value);
+    }
+
+    @Override
+    public <B> Validated<E, B> map(Function<? super A, ? extends B> mapper) {
+        return new Valid<>(mapper.apply(value));
+    }
+}
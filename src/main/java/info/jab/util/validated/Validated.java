@@ -0,0 +1,346 @@
+package info.jab.util.validated;
+
+import info.jab.util.either.Either;
+import info.jab.util.either.Left;
+import info.jab.util.either.Right;
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * A sealed interface representing a validated value: either a {@link Valid} value or an {@link Invalid} chain of errors.
+ *
+ * <p>Unlike {@link Either#flatMap}, which stops at the first error, {@link #zip} and the {@code mapN} functions
+ * evaluate every input and accumulate all their errors. How errors are accumulated is decided by an {@link ErrorPolicy}:
+ * by default every error is kept.</p>
+ *
+ * <pre>{@code
+ * Validated<String, User> user = Validated.map3(validateName(name), validateEmail(email), validateAge(age), User::new);
+ * }</pre>
+ *
+ * @param <E> the type of the errors
+ * @param <A> the type of the value
+ */
+public sealed interface Validated<E, A> permits Valid, Invalid {
+
+    /**
+     * Creates a valid value.
+     *
+     * @param value the value
+     * @param <E> the type of the errors
+     * @param <A> the type of the value
+     * @return a Valid containing the given value
+     */
+    static <E, A> Validated<E, A> valid(@Nonnull A value) {
+        return new Valid<>(value);
+    }
+
+    /**
+     * Creates an invalid value with one error.
+     *
+     * @param error the error
+     * @param <E> the type of the errors
+     * @param <A> the type of the value
+     * @return an Invalid containing the given error
+     */
+    static <E, A> Validated<E, A> invalid(@Nonnull E error) {
+        return new Invalid<>(ErrorChain.of(error));
+    }
+
+    /**
+     * Creates an invalid value with the given errors.
+     *
+     * @param errors the errors
+     * @param <E> the type of the errors
+     * @param <A> the type of the value
+     * @return an Invalid containing the given errors
+     */
+    static <E, A> Validated<E, A> invalid(@Nonnull ErrorChain<E> errors) {
+        return new Invalid<>(errors);
+    }
+
+    /**
+     * Converts an Either, turning a Left into an Invalid with one error.
+     *
+     * @param either the Either to convert
+     * @param <E> the type of the errors
+     * @param <A> the type of the value
+     * @return a Valid for a Right, an Invalid for a Left
+     */
+    static <E, A> Validated<E, A> fromEither(@Nonnull Either<E, A> either) {
+        return switch (either) {
+            case Left<E, A> left -> invalid(left.value());
+            case Right<E, A> right -> valid(right.value());
+        };
+    }
+
+    /**
+     * Checks if this is an instance of Valid.
+     *
+     * @return true if this is a Valid, false otherwise
+     */
+    boolean isValid();
+
+    /**
+     * Checks if this is an instance of Invalid.
+     *
+     * @return true if this is an Invalid, false otherwise
+     */
+    default boolean isInvalid() {
+        return !isValid();
+    }
+
+    /**
+     * Returns the value if this is a Valid, otherwise throws an exception.
+     *
+     * @return the value
+     * @throws NoSuchElementException if this is an Invalid
+     */
+    A get();
+
+    /**
+     * Applies the errorsMapper function to the errors if this is an Invalid, or the valueMapper function to the value if this is a Valid.
+     *
+     * @param errorsMapper the function to apply if this is an Invalid
+     * @param valueMapper the function to apply if this is a Valid
+     * @param <T> the type of the result
+     * @return the result of applying the appropriate function
+     */
+    <T> T fold(Function<? super ErrorChain<E>, ? extends T> errorsMapper, Function<? super A, ? extends T> valueMapper);
+
+    /**
+     * Transforms the value if this is a Valid. An Invalid is returned as the same instance.
+     *
+     * @param mapper the function to apply to the value
+     * @param <B> the type of the new value
+     * @return a new Validated
+     */
+    <B> Validated<E, B> map(Function<? super A, ? extends B> mapper);
+
+    /**
+     * Converts this Validated into an Either with the errors as Left value.
+     *
+     * @return a Right with the value, or a Left with the errors
+     */
+    default Either<ErrorChain<E>, A> toEither() {
+        return fold(Either::left, Either::right);
+    }
+
+    /**
+     * Combines this value with another one, accumulating the errors of both when any is invalid.
+     *
+     * @param other the other value
+     * @param combiner the function combining both values
+     * @param <B> the type of the other value
+     * @param <C> the type of the combined value
+     * @return a Valid with the combined value, or an Invalid with the errors of both
+     */
+    default <B, C> Validated<E, C> zip(Validated<E, B> other, BiFunction<? super A, ? super B, ? extends C> combiner) {
+        return zip(other, combiner, ErrorPolicy.unbounded());
+    }
+
+    /**
+     * Combines this value with another one, accumulating the errors of both with the given policy when any is invalid.
+     *
+     * @param other the other value
+     * @param combiner the function combining both values
+     * @param policy the policy combining the errors
+     * @param <B> the type of the other value
+     * @param <C> the type of the combined value
+     * @return a Valid with the combined value, or an Invalid with the errors of both
+     */
+    @SuppressWarnings("unchecked")
+    default <B, C> Validated<E, C> zip(Validated<E, B> other, BiFunction<? super A, ? super B, ? extends C> combiner, ErrorPolicy<E> policy) {
+        Objects.requireNonNull(other, "other cannot be null");
+        Objects.requireNonNull(combiner, "combiner cannot be null");
+        Objects.requireNonNull(policy, "policy cannot be null");
+        if (this instanceof Valid<E, A> first && other instanceof Valid<E, B> second) {
+            return valid(combiner.apply(first.value(), second.value()));
+        }
+        if (this instanceof Invalid<E, A> first && other instanceof Invalid<E, B> second) {
+            return invalid(policy.concat(first.errors(), second.errors()));
+        }
+        return (Validated<E, C>) (isValid() ? other : this);
+    }
+
+    /**
+     * Combines two values, accumulating every error.
+     *
+     * @param first the first value
+     * @param second the second value
+     * @param combiner the function combining the values
+     * @param <E> the type of the errors
+     * @param <A> the type of the first value
+     * @param <B> the type of the second value
+     * @param <R> the type of the result
+     * @return a Valid with the combined value, or an Invalid with all the errors
+     */
+    static <E, A, B, R> Validated<E, R> map2(Validated<E, A> first, Validated<E, B> second, BiFunction<? super A, ? super B, ? extends R> combiner) {
+        return first.zip(second, combiner, ErrorPolicy.unbounded());
+    }
+
+    /**
+     * Combines three values, accumulating every error.
+     *
+     * @param first the first value
+     * @param second the second value
+     * @param third the third value
+     * @param combiner the function combining the values
+     * @param <E> the type of the errors
+     * @param <A> the type of the first value
+     * @param <B> the type of the second value
+     * @param <C> the type of the third value
+     * @param <R> the type of the result
+     * @return a Valid with the combined value, or an Invalid with all the errors
+     */
+    static <E, A, B, C, R> Validated<E, R> map3(Validated<E, A> first, Validated<E, B> second, Validated<E, C> third,
+                                                Function3<? super A, ? super B, ? super C, ? extends R> combiner) {
+        return map3(ErrorPolicy.unbounded(), first, second, third, combiner);
+    }
+
+    /**
+     * Combines three values, accumulating the errors with the given policy.
+     *
+     * @param policy the policy combining the errors
+     * @param first the first value
+     * @param second the second value
+     * @param third the third value
+     * @param combiner the function combining the values
+     * @param <E> the type of the errors
+     * @param <A> the type of the first value
+     * @param <B> the type of the second value
+     * @param <C> the type of the third value
+     * @param <R> the type of the result
+     * @return a Valid with the combined value, or an Invalid with all the errors
+     */
+    static <E, A, B, C, R> Validated<E, R> map3(ErrorPolicy<E> policy, Validated<E, A> first, Validated<E, B> second, Validated<E, C> third,
+                                                Function3<? super A, ? super B, ? super C, ? extends R> combiner) {
+        Objects.requireNonNull(combiner, "combiner cannot be null");
+        // @formatter:off
+        return first
+            .zip(second, (a, b) -> (Function<C, R>) c -> combiner.apply(a, b, c), policy)
+            .zip(third, Function::apply, policy);
+        // @formatter:on
+    }
+
+    /**
+     * Combines four values, accumulating every error.
+     *
+     * @param first the first value
+     * @param second the second value
+     * @param third the third value
+     * @param fourth the fourth value
+     * @param combiner the function combining the values
+     * @param <E> the type of the errors
+     * @param <A> the type of the first value
+     * @param <B> the type of the second value
+     * @param <C> the type of the third value
+     * @param <D> the type of the fourth value
+     * @param <R> the type of the result
+     * @return a Valid with the combined value, or an Invalid with all the errors
+     */
+    static <E, A, B, C, D, R> Validated<E, R> map4(Validated<E, A> first, Validated<E, B> second, Validated<E, C> third, Validated<E, D> fourth,
+                                                   Function4<? super A, ? super B, ? super C, ? super D, ? extends R> combiner) {
+        return map4(ErrorPolicy.unbounded(), first, second, third, fourth, combiner);
+    }
+
+    /**
+     * Combines four values, accumulating the errors with the given policy.
+     *
+     * @param policy the policy combining the errors
+     * @param first the first value
+     * @param second the second value
+     * @param third the third value
+     * @param fourth the fourth value
+     * @param combiner the function combining the values
+     * @param <E> the type of the errors
+     * @param <A> the type of the first value
+     * @param <B> the type of the second value
+     * @param <C> the type of the third value
+     * @param <D> the type of the fourth value
+     * @param <R> the type of the result
+     * @return a Valid with the combined value, or an Invalid with all the errors
+     */
+    static <E, A, B, C, D, R> Validated<E, R> map4(ErrorPolicy<E> policy, Validated<E, A> first, Validated<E, B> second, Validated<E, C> third,
+                                                   Validated<E, D> fourth, Function4<? super A, ? super B, ? super C, ? super D, ? extends R> combiner) {
+        Objects.requireNonNull(combiner, "combiner cannot be null");
+        // @formatter:off
+        return first
+            .zip(second, (a, b) -> (BiFunction<C, D, R>) (c, d) -> combiner.apply(a, b, c, d), policy)
+            .zip(third, (f, c) -> (Function<D, R>) d -> f.apply(c, d), policy)
+            .zip(fourth, Function::apply, policy);
+        // @formatter:on
+    }
+
+    /**
+     * Turns a group of values into a Validated list, accumulating the errors with the given policy.
+     *
+     * @param values the values
+     * @param policy the policy combining the errors
+     * @param <E> the type of the errors
+     * @param <A> the type of the values
+     * @return a Valid with an unmodifiable list of all the values in order, or an Invalid with all the errors
+     */
+    static <E, A> Validated<E, List<A>> sequence(Iterable<? extends Validated<E, ? extends A>> values, ErrorPolicy<E> policy) {
+        Objects.requireNonNull(values, "values cannot be null");
+        Objects.requireNonNull(policy, "policy cannot be null");
+        List<A> valid = new ArrayList<>();
+        ErrorChain<E> errors = null;
+        for (Validated<E, ? extends A> value : values) {
+            switch (value) {
+                case Valid<E, ? extends A> v -> valid.add(v.value());
+                case Invalid<E, ? extends A> invalid -> errors = errors == null ? invalid.errors() : policy.concat(errors, invalid.errors());
+            }
+        }
+        return errors == null ? valid(Collections.unmodifiableList(valid)) : invalid(errors);
+    }
+
+    /**
+     * A function of three arguments.
+     *
+     * @param <A> the type of the first argument
+     * @param <B> the type of the second argument
+     * @param <C> the type of the third argument
+     * @param <R> the type of the result
+     */
+    @FunctionalInterface
+    interface Function3<A, B, C, R> {
+        /**
+         * Applies this function to the given arguments.
+         *
+         * @param a the first argument
+         * @param b the second argument
+         * @param c the third argument
+         * @return the result
+         */
+        R apply(A a, B b, C c);
+    }
+
+    /**
+     * A function of four arguments.
+     *
+     * @param <A> the type of the first argument
+     * @param <B> the type of the second argument
+     * @param <C> the type of the third argument
+     * @param <D> the type of the fourth argument
+     * @param <R> the type of the result
+     */
+    @FunctionalInterface
+    interface Function4<A, B, C, D, R> {
+        /**
+         * Applies this function to the given arguments.
+         *
+         * @param a the first argument
+         * @param b the second argument
+         * @param c the third argument
+         * @param d the fourth argument
+         * @return the result
+         */
+        R apply(A a, B b, C c, D d);
+    }
+}
@@ -0,0 +1,281 @@
+package info.jab.util.validated;
+
+import info.jab.util.either.Either;
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A compiled set of validation rules for values of type {@code T}.
+ *
+ * <p>Rules are declared on {@link Extractor extractors}: functions deriving a part of the input, such as the domain of an email,
+ * possibly from another extractor. During one validation each extractor runs at most once and its result is shared by every rule
+ * that uses it. When an extractor returns {@code null} the part is absent and the rules declared on it, or on extractors derived
+ * from it, are skipped; a rule on the parent is expected to report the problem.</p>
+ *
+ * <p>The plan orders the rules by cost, the cost of a rule being its own cost plus the cost of the extractors it depends on,
+ * keeping the declaration order between rules with the same cost. Fail-fast validation therefore runs the cheap rules first.</p>
+ *
+ * <pre>{@code
+ * ValidationPlan.Builder<String, String> builder = ValidationPlan.builder();
+ * Extractor<String, String> email = builder.input();
+ * Extractor<String, String> domain = builder.extract(email, s -> s.indexOf('@') < 0 ? null : s.substring(s.indexOf('@') + 1));
+ * ValidationPlan<String, String> plan = builder
+ *     .rule(email, s -> s.indexOf('@') > 0, "Missing username")
+ *     .rule(domain, d -> d.indexOf('.') > 0, "Invalid domain format")
+ *     .build();
+ * }</pre>
+ *
+ * @param <T> the type of the validated values
+ * @param <E> the type of the errors
+ */
+public final class ValidationPlan<T, E> {
+
+    private static final Object NOT_COMPUTED = new Object();
+
+    private final int extractorCount;
+    private final Rule<T, ?, E>[] rules;
+
+    private ValidationPlan(int extractorCount, Rule<T, ?, E>[] rules) {
+        this.extractorCount = extractorCount;
+        this.rules = rules;
+    }
+
+    /**
+     * Creates a builder for a plan.
+     *
+     * @param <T> the type of the validated values
+     * @param <E> the type of the errors
+     * @return a new builder
+     */
+    public static <T, E> Builder<T, E> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Validates the value, stopping at the first rule that fails.
+     *
+     * @param value the value to validate
+     * @return a Left with the error of the first failing rule, in plan order, or a Right with the value
+     */
+    public Either<E, T> validate(@Nonnull T value) {
+        Object[] cache = newCache(value);
+        for (Rule<T, ?, E> rule : rules) {
+            E error = rule.check(cache);
+            if (error != null) {
+                return Either.left(error);
+            }
+        }
+        return Either.right(value);
+    }
+
+    /**
+     * Validates the value with every rule, keeping every error.
+     *
+     * @param value the value to validate
+     * @return an Invalid with the errors of the failing rules, in plan order, or a Valid with the value
+     */
+    public Validated<E, T> validateAll(@Nonnull T value) {
+        return validateAll(value, ErrorPolicy.unbounded());
+    }
+
+    /**
+     * Validates the value with every rule, accumulating the errors with the given policy.
+     *
+     * @param value the value to validate
+     * @param policy the policy combining the errors
+     * @return an Invalid with the errors of the failing rules, in plan order, or a Valid with the value
+     */
+    public Validated<E, T> validateAll(@Nonnull T value, @Nonnull ErrorPolicy<E> policy) {
+        Objects.requireNonNull(policy, "policy cannot be null");
+        Object[] cache = newCache(value);
+        ErrorChain<E> errors = null;
+        for (Rule<T, ?, E> rule : rules) {
+            E error = rule.check(cache);
+            if (error != null) {
+                errors = errors == null ? ErrorChain.of(error) : policy.concat(errors, ErrorChain.of(error));
+            }
+        }
+        return errors == null ? Validated.valid(value) : Validated.invalid(errors);
+    }
+
+    /**
+     * Returns the number of rules.
+     *
+     * @return the number of rules in this plan
+     */
+    public int size() {
+        return rules.length;
+    }
+
+    private Object[] newCache(T value) {
+        Objects.requireNonNull(value, "value cannot be null");
+        Object[] cache = new Object[extractorCount];
+        Arrays.fill(cache, 1, cache.length, NOT_COMPUTED);
+        cache[0] = value;
+        return cache;
+    }
+
+    /**
+     * A part of the validated value, computed at most once per validation.
+     *
+     * @param <T> the type of the validated values
+     * @param <V> the type of the extracted part
+     */
+    public static final class Extractor<T, V> {
+
+        private final int id;
+        private final Extractor<T, ?> parent;
+        private final Function<Object, Object> function;
+        private final int cost;
+
+        private Extractor(int id, Extractor<T, ?> parent, Function<Object, Object> function, int cost) {
+            this.id = id;
+            this.parent = parent;
+            this.function = function;
+            this.cost = cost;
+        }
+
+        private int totalCost() {
+            return parent == null ? cost : cost + parent.totalCost();
+        }
+
+        @SuppressWarnings("unchecked")
+        private V get(Object[] cache) {
+            Object value = cache[id];
+            if (value == NOT_COMPUTED) {
+                Object source = parent.get(cache);
+                value = source == null ? null : function.apply(source);
+                cache[id] = value;
+            }
+            return (V) value;
+        }
+    }
+
+    private record Rule<T, V, E>(Extractor<T, V> extractor, Predicate<? super V> predicate, Function<? super V, ? extends E> error, int cost) {
+
+        private E check(Object[] cache) {
+            V value = extractor.get(cache);
+            if (value == null || predicate.test(value)) {
+                return null;
+            }
+            return Objects.requireNonNull(error.apply(value), "error cannot be null");
+        }
+    }
+
+    /**
+     * A builder declaring the extractors and the rules of a plan.
+     *
+     * @param <T> the type of the validated values
+     * @param <E> the type of the errors
+     */
+    public static final class Builder<T, E> {
+
+        private final List<Extractor<T, ?>> extractors = new ArrayList<>();
+        private final List<Rule<T, ?, E>> rules = new ArrayList<>();
+
+        private Builder() {
+            extractors.add(new Extractor<T, T>(0, null, Function.identity(), 0));
+        }
+
+        /**
+         * Returns the extractor of the whole validated value.
+         *
+         * @return the input extractor
+         */
+        @SuppressWarnings("unchecked")
+        public Extractor<T, T> input() {
+            return (Extractor<T, T>) extractors.getFirst();
+        }
+
+        /**
+         * Declares an extractor with cost 1.
+         *
+         * @param from the extractor providing the source of this one
+         * @param function the function computing the part, returning {@code null} when the part is absent
+         * @param <V> the type of the source
+         * @param <W> the type of the part
+         * @return a new extractor
+         */
+        public <V, W> Extractor<T, W> extract(@Nonnull Extractor<T, V> from, @Nonnull Function<? super V, ? extends W> function) {
+            return extract(from, function, 1);
+        }
+
+        /**
+         * Declares an extractor.
+         *
+         * @param from the extractor providing the source of this one
+         * @param function the function computing the part, returning {@code null} when the part is absent
+         * @param cost the relative cost of the function
+         * @param <V> the type of the source
+         * @param <W> the type of the part
+         * @return a new extractor
+         */
+        @SuppressWarnings("unchecked")
+        public <V, W> Extractor<T, W> extract(@Nonnull Extractor<T, V> from, @Nonnull Function<? super V, ? extends W> function, int cost) {
+            Objects.requireNonNull(from, "from cannot be null");
+            Objects.requireNonNull(function, "function cannot be null");
+            checkOwned(from);
+            Extractor<T, W> extractor = new Extractor<>(extractors.size(), from, (Function<Object, Object>) (Function<?, ?>) function, cost);
+            extractors.add(extractor);
+            return extractor;
+        }
+
+        /**
+         * Declares a rule with cost 1 and a fixed error.
+         *
+         * @param on the extractor providing the checked part
+         * @param predicate the condition the part has to meet
+         * @param error the error reported when the condition is not met
+         * @param <V> the type of the part
+         * @return this builder
+         */
+        public <V> Builder<T, E> rule(@Nonnull Extractor<T, V> on, @Nonnull Predicate<? super V> predicate, @Nonnull E error) {
+            Objects.requireNonNull(error, "error cannot be null");
+            return rule(on, predicate, value -> error, 1);
+        }
+
+        /**
+         * Declares a rule.
+         *
+         * @param on the extractor providing the checked part
+         * @param predicate the condition the part has to meet
+         * @param error the function producing the error from the part when the condition is not met
+         * @param cost the relative cost of the predicate
+         * @param <V> the type of the part
+         * @return this builder
+         */
+        public <V> Builder<T, E> rule(@Nonnull Extractor<T, V> on, @Nonnull Predicate<? super V> predicate,
+                                      @Nonnull Function<? super V, ? extends E> error, int cost) {
+            Objects.requireNonNull(on, "on cannot be null");
+            Objects.requireNonNull(predicate, "predicate cannot be null");
+            Objects.requireNonNull(error, "error cannot be null");
+            checkOwned(on);
+            rules.add(new Rule<>(on, predicate, error, cost + on.totalCost()));
+            return this;
+        }
+
+        /**
+         * Builds the plan, ordering the rules by cost.
+         *
+         * @return a new plan
+         */
+        @SuppressWarnings("unchecked")
+        public ValidationPlan<T, E> build() {
+            List<Rule<T, ?, E>> ordered = new ArrayList<>(rules);
+            ordered.sort(Comparator.comparingInt(Rule::cost));
+            return new ValidationPlan<>(extractors.size(), ordered.toArray((Rule<T, ?, E>[]) new Rule<?, ?, ?>[0]));
+        }
+
+        private void checkOwned(Extractor<T, ?> extractor) {
+            if (extractor.id >= extractors.size() || extractors.get(extractor.id) != extractor) {
+                throw new IllegalArgumentException("Extractor belongs to another builder");
+            }
+        }
+    }
+}
@@ -3,8 +3,11 @@
  */
 module info.jab.util {
     exports info.jab.util.either;
+    exports info.jab.util.parse;
     exports info.jab.util.raise;
     exports info.jab.util.result;
+    exports info.jab.util.scope;
+    exports info.jab.util.validated;
 
     requires transitive jakarta.annotation;
     requires transitive org.slf4j;
@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import info.jab.util.either.Either;
+import info.jab.util.parse.ParseError;
+import info.jab.util.parse.Parsers;
 import info.jab.util.result.Result;
 import java.util.Arrays;
 import java.util.List;
@@ -66,6 +68,9 @@ public class MethodSignatureTest {
         });
     };
 
+    // No exception is thrown for an invalid input, and the error says what is wrong and where
+    Function<String, Either<ParseError, Integer>> parseInt6 = Parsers::parseInt;
+
     // @formatter:off
     private static List<String> generateNumbers() {
         return IntStream.rangeClosed(-100, 100)
@@ -115,6 +120,14 @@ public class MethodSignatureTest {
         assertThat(result.getValue().get() + "").isEqualTo(input);
     }
 
+    @ParameterizedTest
+    @MethodSource("generateNumbers")
+    void should_parse_valid_integers_v6(String input) {
+        var result = parseInt6.apply(input);
+        assertThat(result.isRight()).isTrue();
+        assertThat(result.get() + "").isEqualTo(input);
+    }
+
     //ASCII letters
 
     // @formatter:off
@@ -161,6 +174,13 @@ public class MethodSignatureTest {
         assertThat(result.isFailure()).isTrue();
     }
 
+    @ParameterizedTest
+    @MethodSource("getLetterList")
+    void should_not_parse_letters_v6(String input) {
+        var result = parseInt6.apply(input);
+        assertThat(result).isEqualTo(Either.left(new ParseError(ParseError.Code.UNEXPECTED_CHAR, 0)));
+    }
+
     //Symbols
 
     // @formatter:off
@@ -209,6 +229,13 @@ public class MethodSignatureTest {
         assertThat(result.isFailure()).isTrue();
     }
 
+    @ParameterizedTest
+    @MethodSource("getSymbolList")
+    void should_not_parse_symbols_v6(String input) {
+        var result = parseInt6.apply(input);
+        assertThat(result.isLeft()).isTrue();
+    }
+
     //Reaching limits in the Java Integer Data type
     //https://docs.oracle.com/javase%2Ftutorial%2F/java/nutsandbolts/datatypes.html
     //-2^31-1 - 2^31-1
@@ -285,4 +312,19 @@ public class MethodSignatureTest {
         assertThat(result.isFailure()).isTrue();
         assertThat(result2.isFailure()).isTrue();
     }
+
+    @Test
+    void should_not_parse_invalid_integers_v6() {
+        //Given
+        var badInteger1 = "2147483648";
+        var badInteger2 = "-2147483649";
+
+        //When
+        var result = parseInt6.apply(badInteger1);
+        var result2 = parseInt6.apply(badInteger2);
+
+        //Then
+        assertThat(result).isEqualTo(Either.left(new ParseError(ParseError.Code.OUT_OF_RANGE, 9)));
+        assertThat(result2).isEqualTo(Either.left(new ParseError(ParseError.Code.OUT_OF_RANGE, 10)));
+    }
 }
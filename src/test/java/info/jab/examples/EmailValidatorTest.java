@@ -1,9 +1,14 @@
 package info.jab.examples;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import info.jab.util.either.Either;
+import info.jab.util.either.EitherPipeline;
+import info.jab.util.validated.ErrorChain;
+import info.jab.util.validated.Validated;
+import java.util.List;
 import java.util.function.Function;
 import org.junit.jupiter.api.Test;
 
@@ -11,14 +16,17 @@ class EmailValidatorTest {
 
     // @formatter:off
 
-    private static Either<String, String> validateEmail(String email) {
-        return validateUsername(email)
-            .flatMap(validUsername -> validateDomain(email))
-            .flatMap(validDomain -> validateTopLevelDomain(email));
-    }
+    private static final EitherPipeline<String, String, String> EMAIL_VALIDATOR = EitherPipeline.<String, String>of()
+        .flatMap(EmailValidatorTest::validateUsername)
+        .flatMap(EmailValidatorTest::validateDomain)
+        .flatMap(EmailValidatorTest::validateTopLevelDomain);
 
     // @formatter:on
 
+    private static Either<String, String> validateEmail(String email) {
+        return EMAIL_VALIDATOR.apply(email);
+    }
+
     private static Either<String, String> validateUsername(String email) {
         String username = email.substring(0, email.indexOf('@'));
         if (username.length() < 5) {
@@ -78,4 +86,19 @@ class EmailValidatorTest {
         assertTrue(result.isLeft());
         assertEquals("Invalid top-level domain", result.fold(Function.identity(), Function.identity()));
     }
+
+    @Test
+    void testAllProblemsReported() {
+        String email = "jd@com"; // Username too short, missing dot in the domain and no top-level domain
+        // @formatter:off
+        Validated<String, String> result = Validated.map3(
+            Validated.fromEither(validateUsername(email)),
+            Validated.fromEither(validateDomain(email)),
+            Validated.fromEither(validateTopLevelDomain(email)),
+            (username, domain, tld) -> email);
+        // @formatter:on
+
+        List<String> errors = result.fold(ErrorChain::toList, valid -> List.of());
+        assertThat(errors).containsExactly("Username must be at least 5 characters", "Invalid domain format", "Invalid top-level domain");
+    }
 }
@@ -3,9 +3,9 @@ package info.jab.problems.problem1;
 import info.jab.util.either.Either;
 import info.jab.util.either.Left;
 import info.jab.util.either.Right;
+import info.jab.util.parse.Parsers;
 import java.io.IOException;
 import java.net.URI;
-import java.net.URISyntaxException;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
@@ -21,15 +21,18 @@ public class Solution9 implements ISolution {
         INVALID_CONNECTION,
     }
 
-    // Error handling in the origin
+    // Error handling in the origin, the address is parsed without exceptions
     private Either<ConnectionProblem, String> fetchWebsite(String address) {
+        return Parsers.parseUri(address).fold(error -> Either.left(ConnectionProblem.INVALID_URI), this::fetchWebsite);
+    }
+
+    private Either<ConnectionProblem, String> fetchWebsite(URI uri) {
         try {
-            URI uri = new URI(address);
             HttpClient client = HttpClient.newHttpClient();
             HttpRequest request = HttpRequest.newBuilder().uri(uri).GET().build();
             HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
             return Either.right(response.body());
-        } catch (URISyntaxException | IllegalArgumentException ex) {
+        } catch (IllegalArgumentException ex) {
             logger.warn(ex.getLocalizedMessage(), ex);
             return Either.left(ConnectionProblem.INVALID_URI);
         } catch (IOException | InterruptedException ex) {
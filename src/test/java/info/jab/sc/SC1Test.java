@@ -4,10 +4,13 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import info.jab.util.either.Either;
 import info.jab.util.result.Result;
+import info.jab.util.scope.Deadline;
+import info.jab.util.scope.EitherScope;
+import info.jab.util.scope.ForkError;
+import info.jab.util.scope.ResultScope;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
-import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.StructuredTaskScope;
@@ -35,6 +38,7 @@ class SC1Test {
     enum SubsystemProblems {
         DATABASE_ERROR,
         COMPUTATION_ERROR,
+        TIMEOUT,
     }
 
     private Either<SubsystemProblems, UserInfo> getUserInfo2(Integer userId) {
@@ -231,7 +235,7 @@ class SC1Test {
 
     @Test
     void should_10_work() {
-        try (var scope = new CustomScopePolicies.ResultScope<UserInfo>()) {
+        try (var scope = new ResultScope<UserInfo>()) {
             scope.fork(() -> getUserInfo(1));
             scope.fork(() -> getUserInfo(1));
             scope.fork(() -> getUserInfo(2));
@@ -240,13 +244,10 @@ class SC1Test {
 
             // @formatter:off
             System.out.println("Streaming");
-            var counter = results.stream()
-                .filter(Result::isSuccess)
-                .map(Result::getValue)
-                .map(Optional::get)
-                .count();
+            var partition = results.stream()
+                .collect(Result.partitioning());
             // @formatter:on
-            assertThat(counter).isEqualTo(2);
+            assertThat(partition.successes()).hasSize(2);
         } catch (InterruptedException ex) {
             System.out.println(ex.getMessage());
         }
@@ -263,14 +264,12 @@ class SC1Test {
 
             // @formatter:off
             System.out.println("Streaming");
-            var counter = List.of(subTask1, subTask2, subTask3).stream()
+            var partition = List.of(subTask1, subTask2, subTask3).stream()
                 .filter(st -> st.state() == Subtask.State.SUCCESS)
                 .map(Subtask::get)
-                .filter(Either::isRight)
-                .map(Either::get)
-                .count();
+                .collect(Either.partitioning());
             // @formatter:on
-            assertThat(counter).isEqualTo(2);
+            assertThat(partition.rights()).hasSize(2);
         } catch (InterruptedException ex) {
             System.out.println(ex.getMessage());
         }
@@ -303,4 +302,30 @@ class SC1Test {
             System.out.println(ex.getMessage());
         }
     }
+
+    @Test
+    void should_13_work() {
+        try (var scope = new EitherScope<SubsystemProblems, UserInfo>()) {
+            scope.fork(() -> getUserInfo2(1));
+            scope.fork(() -> getUserInfo2(2));
+            scope.fork(() -> getUserInfo2(1));
+
+            Either<ForkError<SubsystemProblems>, List<UserInfo>> result = scope.joinEither();
+
+            assertThat(result).isEqualTo(Either.left(new ForkError<>(1, SubsystemProblems.DATABASE_ERROR)));
+        } catch (InterruptedException ex) {
+            System.out.println(ex.getMessage());
+        }
+    }
+
+    @Test
+    void should_14_work_with_deadline() {
+        Instant start = Instant.now();
+
+        Either<SubsystemProblems, UserInfo> result = Deadline.after(Duration.ofMillis(200))
+            .either(() -> getUserInfo3(3), timeout -> SubsystemProblems.TIMEOUT);
+
+        assertThat(result).isEqualTo(Either.left(SubsystemProblems.TIMEOUT));
+        assertThat(Duration.between(start, Instant.now())).isLessThan(Duration.ofMillis(2000));
+    }
 }
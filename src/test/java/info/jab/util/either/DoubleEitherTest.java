@@ -0,0 +1,69 @@
+package info.jab.util.either;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.NoSuchElementException;
+import java.util.OptionalDouble;
+import org.junit.jupiter.api.Test;
+
+class DoubleEitherTest {
+
+    private final DoubleEither<String> right = DoubleEither.right(21.5);
+    private final DoubleEither<String> left = DoubleEither.left("error");
+
+    @Test
+    void should_create_left_and_right() {
+        assertThat(right.isRight()).isTrue();
+        assertThat(right.isLeft()).isFalse();
+        assertThat(left.isLeft()).isTrue();
+        assertThat(left.isRight()).isFalse();
+    }
+
+    @Test
+    void should_not_accept_null_left() {
+        assertThatThrownBy(() -> DoubleEither.left(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_map_right_and_keep_left() {
+        assertThat(right.map(value -> value * 2)).isEqualTo(DoubleEither.right(43.0));
+        assertThat(left.map(value -> value * 2)).isSameAs(left);
+    }
+
+    @Test
+    void should_flatMap_right_and_keep_left() {
+        assertThat(right.flatMap(value -> DoubleEither.left("too big"))).isEqualTo(DoubleEither.left("too big"));
+        assertThat(left.flatMap(value -> DoubleEither.right(value))).isSameAs(left);
+    }
+
+    @Test
+    void should_mapToObj() {
+        assertThat(right.mapToObj(String::valueOf)).isEqualTo(Either.right(String.valueOf(21.5)));
+        assertThat(left.mapToObj(String::valueOf)).isEqualTo(Either.left("error"));
+    }
+
+    @Test
+    void should_fold() {
+        String foldedRight = right.fold(error -> "left", value -> "right");
+        String foldedLeft = left.fold(error -> error, value -> "right");
+        assertThat(foldedRight).isEqualTo("right");
+        assertThat(foldedLeft).isEqualTo("error");
+    }
+
+    @Test
+    void should_get_or_else() {
+        assertThat(right.getOrElse(() -> 0.0)).isEqualTo(21.5);
+        assertThat(left.getOrElse(() -> 0.0)).isEqualTo(0.0);
+        assertThat(right.get()).isEqualTo(21.5);
+        assertThatThrownBy(left::get).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void should_convert() {
+        assertThat(right.toOptional()).isEqualTo(OptionalDouble.of(21.5));
+        assertThat(left.toOptional()).isEqualTo(OptionalDouble.empty());
+        assertThat(right.boxed()).isEqualTo(Either.right(21.5));
+        assertThat(left.boxed()).isEqualTo(Either.left("error"));
+    }
+}
@@ -0,0 +1,125 @@
+package info.jab.util.either;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class EitherBatchTest {
+
+    private static List<Either<String, Integer>> sample(int size) {
+        // @formatter:off
+        return IntStream.range(0, size)
+            .mapToObj(i -> i % 3 == 0 ? Either.<String, Integer>left("e" + i) : Either.<String, Integer>right(i))
+            .toList();
+        // @formatter:on
+    }
+
+    @Test
+    void should_roundTripList() {
+        List<Either<String, Integer>> eithers = sample(200);
+
+        EitherBatch<String, Integer> batch = EitherBatch.of(eithers);
+
+        assertThat(batch.size()).isEqualTo(200);
+        assertThat(batch.leftCount()).isEqualTo(67);
+        assertThat(batch.rightCount()).isEqualTo(133);
+        assertThat(batch.toList()).isEqualTo(eithers);
+        assertThat(batch.stream().toList()).isEqualTo(eithers);
+        assertThat(batch.get(130)).isEqualTo(Either.right(130));
+        assertThat(batch.get(129)).isEqualTo(Either.left("e129"));
+    }
+
+    @Test
+    void should_collectParallelStreamInOrder() {
+        List<Either<String, Integer>> eithers = sample(10_000);
+
+        EitherBatch<String, Integer> batch = eithers.parallelStream().collect(EitherBatch.toBatch());
+
+        assertThat(batch.toList()).isEqualTo(eithers);
+    }
+
+    @Test
+    void should_collectParallelStreamOfLefts() {
+        List<Either<String, Integer>> eithers = IntStream.range(0, 1_000).mapToObj(i -> Either.<String, Integer>left("e" + i)).toList();
+
+        EitherBatch<String, Integer> batch = eithers.parallelStream().collect(EitherBatch.toBatch());
+
+        assertThat(batch.leftCount()).isEqualTo(1_000);
+        assertThat(batch.toList()).isEqualTo(eithers);
+    }
+
+    @Test
+    void should_collectParallelStreamWithTrailingLefts() {
+        // @formatter:off
+        List<Either<String, Integer>> eithers = IntStream.range(0, 2_000)
+            .mapToObj(i -> i % 500 == 0 ? Either.<String, Integer>right(i) : Either.<String, Integer>left("e" + i))
+            .toList();
+        // @formatter:on
+
+        EitherBatch<String, Integer> batch = eithers.parallelStream().collect(EitherBatch.toBatch());
+
+        assertThat(batch.rightCount()).isEqualTo(4);
+        assertThat(batch.toList()).isEqualTo(eithers);
+    }
+
+    @Test
+    void should_mapOnlyRightsAndShareLefts() {
+        EitherBatch<String, Integer> batch = EitherBatch.of(sample(10));
+
+        EitherBatch<String, String> mapped = batch.map(i -> "v" + i);
+
+        assertThat(mapped.rights()).containsExactly("v1", "v2", "v4", "v5", "v7", "v8");
+        assertThat(mapped.lefts()).isEqualTo(batch.lefts());
+        assertThat(mapped.isRight(3)).isFalse();
+        assertThat(mapped.isRight(4)).isTrue();
+    }
+
+    @Test
+    void should_mapLeft() {
+        EitherBatch<Integer, Integer> mapped = EitherBatch.of(sample(7)).mapLeft(String::length);
+
+        assertThat(mapped.lefts()).containsExactly(2, 2, 2);
+        assertThat(mapped.rights()).containsExactly(1, 2, 4, 5);
+    }
+
+    @Test
+    void should_flatMapRightsIntoLefts() {
+        EitherBatch<String, Integer> batch = EitherBatch.of(sample(7));
+
+        EitherBatch<String, Integer> result = batch.flatMap(i -> i % 2 == 0 ? Either.left("odd" + i) : Either.right(i * 10));
+
+        assertThat(result.toList()).containsExactly(
+            Either.left("e0"), Either.right(10), Either.left("odd2"), Either.left("e3"), Either.left("odd4"), Either.right(50), Either.left("e6"));
+    }
+
+    @Test
+    void should_filterOrElse() {
+        EitherBatch<String, Integer> batch = EitherBatch.of(sample(7));
+
+        EitherBatch<String, Integer> filtered = batch.filterOrElse(i -> i > 2, i -> "small" + i);
+
+        assertThat(filtered.lefts()).containsExactly("e0", "small1", "small2", "e3", "e6");
+        assertThat(filtered.rights()).containsExactly(4, 5);
+        assertThat(batch.filterOrElse(i -> true, i -> "never")).isSameAs(batch);
+    }
+
+    @Test
+    void should_partition() {
+        Partition<String, Integer> partition = EitherBatch.of(sample(4)).partition();
+
+        assertThat(partition.lefts()).containsExactly("e0", "e3");
+        assertThat(partition.rights()).containsExactly(1, 2);
+    }
+
+    @Test
+    void should_buildEmptyBatch() {
+        EitherBatch<String, Integer> batch = EitherBatch.<String, Integer>builder(0).build();
+
+        assertThat(batch.size()).isZero();
+        assertThat(batch.toList()).isEmpty();
+        assertThatThrownBy(() -> batch.get(0)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+}
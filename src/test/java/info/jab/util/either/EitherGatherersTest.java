@@ -0,0 +1,87 @@
+package info.jab.util.either;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class EitherGatherersTest {
+
+    private static Either<String, Integer> validate(int value) {
+        return value % 4 == 3 ? Either.left("invalid " + value) : Either.right(value);
+    }
+
+    @Test
+    void should_failFast() {
+        AtomicInteger pulled = new AtomicInteger();
+
+        // @formatter:off
+        List<Either<String, Integer>> result = Stream.iterate(0, i -> i + 1)
+            .peek(i -> pulled.incrementAndGet())
+            .map(EitherGatherersTest::validate)
+            .gather(EitherGatherers.failFast())
+            .toList();
+        // @formatter:on
+
+        assertThat(result).containsExactly(Either.right(0), Either.right(1), Either.right(2), Either.left("invalid 3"));
+        assertThat(pulled).hasValue(4);
+    }
+
+    @Test
+    void should_keepRightsOrLefts() {
+        List<Either<String, Integer>> eithers = Stream.of(1, 2, 3, 7).map(EitherGatherersTest::validate).toList();
+
+        assertThat(eithers.stream().gather(EitherGatherers.rights()).toList()).containsExactly(1, 2);
+        assertThat(eithers.stream().gather(EitherGatherers.lefts()).toList()).containsExactly("invalid 3", "invalid 7");
+    }
+
+    @Test
+    void should_accumulateUpToBound() {
+        AtomicInteger pulled = new AtomicInteger();
+
+        // @formatter:off
+        List<Either<List<String>, List<Integer>>> result = Stream.iterate(0, i -> i + 1)
+            .peek(i -> pulled.incrementAndGet())
+            .map(EitherGatherersTest::validate)
+            .gather(EitherGatherers.accumulate(2))
+            .toList();
+        // @formatter:on
+
+        assertThat(result).containsExactly(Either.left(List.of("invalid 3", "invalid 7")));
+        assertThat(pulled).hasValue(8);
+    }
+
+    @Test
+    void should_accumulateRights() {
+        var result = Stream.of(0, 1, 2).map(EitherGatherersTest::validate).gather(EitherGatherers.accumulate(5)).toList();
+
+        assertThat(result).containsExactly(Either.right(List.of(0, 1, 2)));
+    }
+
+    @Test
+    void should_validateWindows() {
+        // @formatter:off
+        List<Either<String, List<Integer>>> result = Stream.of(0, 1, 2, 3, 4, 5, 6, 7, 8)
+            .map(EitherGatherersTest::validate)
+            .gather(EitherGatherers.windows(4))
+            .toList();
+        // @formatter:on
+
+        assertThat(result).containsExactly(Either.left("invalid 3"), Either.left("invalid 7"), Either.right(List.of(8)));
+        assertThatThrownBy(() -> EitherGatherers.windows(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void should_mapConcurrentWithTypedFailures() {
+        // @formatter:off
+        List<Either<String, Integer>> result = Stream.of(1, 0, 4)
+            .gather(EitherGatherers.<Integer, String, Integer>mapConcurrent(2, i -> Either.right(8 / i), Throwable::getMessage))
+            .toList();
+        // @formatter:on
+
+        assertThat(result).containsExactly(Either.right(8), Either.left("/ by zero"), Either.right(2));
+    }
+}
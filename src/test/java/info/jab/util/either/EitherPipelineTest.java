@@ -0,0 +1,65 @@
+package info.jab.util.either;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class EitherPipelineTest {
+
+    // @formatter:off
+    private static final EitherPipeline<String, String, Integer> PARSE_PORT = EitherPipeline.<String, String>of()
+        .map(String::trim)
+        .filterOrElse(s -> !s.isEmpty(), s -> "empty")
+        .flatMap(EitherPipelineTest::parse)
+        .filterOrElse(port -> port > 0 && port < 65_536, port -> "out of range: " + port);
+    // @formatter:on
+
+    private static Either<String, Integer> parse(String value) {
+        try {
+            return Either.right(Integer.parseInt(value));
+        } catch (NumberFormatException e) {
+            return Either.left("not a number: " + value);
+        }
+    }
+
+    @Test
+    void should_runStagesInOrder() {
+        assertThat(PARSE_PORT.size()).isEqualTo(4);
+        assertThat(PARSE_PORT.apply(" 8080 ")).isEqualTo(Either.right(8080));
+        assertThat(PARSE_PORT.apply("  ")).isEqualTo(Either.left("empty"));
+        assertThat(PARSE_PORT.apply("http")).isEqualTo(Either.left("not a number: http"));
+        assertThat(PARSE_PORT.apply("70000")).isEqualTo(Either.left("out of range: 70000"));
+    }
+
+    @Test
+    void should_returnLeftFromFlatMapAsIs() {
+        Either<String, Integer> left = Either.left("rejected");
+        EitherPipeline<String, Integer, Integer> pipeline = EitherPipeline.<String, Integer>of().flatMap(i -> left).map(i -> i + 1);
+
+        assertThat(pipeline.apply(1)).isSameAs(left);
+    }
+
+    @Test
+    void should_composePipelines() {
+        EitherPipeline<String, Integer, String> format = EitherPipeline.<String, Integer>of().map(port -> "localhost:" + port);
+
+        EitherPipeline<String, String, String> address = PARSE_PORT.andThen(format);
+
+        assertThat(address.apply("80")).isEqualTo(Either.right("localhost:80"));
+        assertThat(address.toFunction().apply("")).isEqualTo(Either.left("empty"));
+    }
+
+    @Test
+    void should_applyAllIntoBatch() {
+        EitherBatch<String, Integer> batch = PARSE_PORT.applyAll(List.of("80", "x", "443", "0"));
+
+        assertThat(batch.rights()).containsExactly(80, 443);
+        assertThat(batch.lefts()).containsExactly("not a number: x", "out of range: 0");
+    }
+
+    @Test
+    void should_returnInputWithoutStages() {
+        assertThat(EitherPipeline.<String, String>of().apply("value")).isEqualTo(Either.right("value"));
+    }
+}
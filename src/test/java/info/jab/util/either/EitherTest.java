@@ -7,9 +7,14 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 
 class EitherTest {
@@ -136,6 +141,13 @@ class EitherTest {
         assertEquals(left, mappedLeft);
     }
 
+    @Test
+    void shouldPropagateSameLeftInstance() {
+        Either<String, Integer> either = Either.left("error");
+        Either<String, String> chained = either.map(i -> i + 1).flatMap(i -> Either.right(i * 2)).map(String::valueOf);
+        assertThat(chained).isSameAs(either);
+    }
+
     @Test
     void testFlatMap() {
         Either<String, Integer> right = Either.right(42);
@@ -314,4 +326,133 @@ class EitherTest {
         assertThat(Either.left("Test").toString()).hasToString("Left[value=Test]");
         assertThat(Either.right(42).toString()).hasToString("Right[value=42]");
     }
+
+    @Test
+    void shouldSequenceRights() {
+        List<Either<String, Integer>> eithers = List.of(Either.right(1), Either.right(2), Either.right(3));
+
+        assertThat(Either.sequence(eithers)).isEqualTo(Either.right(List.of(1, 2, 3)));
+        assertThat(Either.sequence(eithers.stream())).isEqualTo(Either.right(List.of(1, 2, 3)));
+    }
+
+    @Test
+    void shouldStopTraverseAtFirstLeft() {
+        AtomicInteger pulled = new AtomicInteger();
+        Stream<Integer> infinite = Stream.iterate(0, i -> i + 1).peek(i -> pulled.incrementAndGet());
+
+        Either<String, List<Integer>> result = Either.traverse(infinite, i -> i < 5 ? Either.right(i) : Either.left("too big: " + i));
+
+        assertThat(result).isEqualTo(Either.left("too big: 5"));
+        assertThat(pulled).hasValue(6);
+    }
+
+    @Test
+    void shouldReturnSameLeftFromTraverse() {
+        Either<String, Integer> left = Either.left("boom");
+        List<Either<String, Integer>> eithers = List.of(Either.right(1), left, Either.right(3));
+
+        assertThat(Either.sequence(eithers)).isSameAs(left);
+    }
+
+    @Test
+    void shouldPartitionInOrderWithParallelStream() {
+        // @formatter:off
+        Partition<String, Integer> partition = IntStream.range(0, 10_000).parallel().boxed()
+            .map(i -> i % 2 == 0 ? Either.<String, Integer>right(i) : Either.<String, Integer>left("odd" + i))
+            .collect(Either.partitioning());
+        // @formatter:on
+
+        assertThat(partition.rights()).hasSize(5_000).startsWith(0, 2, 4).endsWith(9_998);
+        assertThat(partition.lefts()).hasSize(5_000).startsWith("odd1", "odd3");
+    }
+
+    @Test
+    void shouldParTraverseInOrder() {
+        List<Integer> values = IntStream.range(0, 10_000).boxed().toList();
+
+        Either<String, List<Integer>> result = Either.parTraverse(values, i -> Either.right(i * 2));
+
+        assertThat(result.get()).hasSize(10_000).startsWith(0, 2, 4).endsWith(19_998);
+        assertThat(Either.parSequence(List.of(Either.right(1), Either.right(2)))).isEqualTo(Either.right(List.of(1, 2)));
+    }
+
+    @Test
+    void shouldParTraverseReturnLeftmostLeftAndStopMapping() {
+        List<Integer> values = IntStream.range(0, 100_000).boxed().toList();
+        AtomicInteger mapped = new AtomicInteger();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Either<String, List<Integer>> result = Either.parTraverse(values, i -> {
+                mapped.incrementAndGet();
+                return i == 10 || i == 90_000 ? Either.left("invalid " + i) : Either.right(i);
+            }, pool);
+
+            assertThat(result).isEqualTo(Either.left("invalid 10"));
+            assertThat(mapped.get()).isLessThan(values.size());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void shouldParCombineAllLikeSequentialCombine() {
+        // @formatter:off
+        List<Either<String, Long>> eithers = IntStream.range(0, 10_000)
+            .mapToObj(i -> i % 7 == 0 ? Either.<String, Long>left("e" + i) : Either.<String, Long>right((long) i))
+            .toList();
+        // @formatter:on
+        Either<String, Long> sequential = eithers.stream().reduce((first, second) -> first.combine(second, Long::sum)).orElseThrow();
+
+        assertThat(Either.parCombineAll(eithers, Long::sum)).contains(sequential);
+        assertThat(eithers.parallelStream().collect(Either.combining(Long::sum))).contains(sequential);
+    }
+
+    @Test
+    void shouldParCombineAllLefts() {
+        List<Either<String, Integer>> lefts = List.of(Either.left("a"), Either.left("b"), Either.left("c"));
+
+        assertThat(Either.parCombineAll(lefts, Integer::sum)).contains(Either.left("c"));
+        assertThat(Either.parCombineAll(List.<Either<String, Integer>>of(), Integer::sum)).isEmpty();
+    }
+
+    @Test
+    void shouldRunTailRecMInConstantStack() {
+        Either<String, Integer> result = Either.tailRecM(0, i -> Either.right(i < 1_000_000 ? Either.left(i + 1) : Either.right(i)));
+
+        assertThat(result).isEqualTo(Either.right(1_000_000));
+    }
+
+    @Test
+    void shouldStopTailRecMAtFirstLeft() {
+        Either<String, Integer> result = Either.tailRecM(0, i -> i == 10 ? Either.left("stopped at " + i) : Either.right(Either.left(i + 1)));
+
+        assertThat(result).isEqualTo(Either.left("stopped at 10"));
+    }
+
+    enum Problem {
+        INVALID,
+        MISSING {
+            @Override
+            public String toString() {
+                return "missing";
+            }
+        }
+    }
+
+    @Test
+    void shouldShareLeftsOfEnumConstants() {
+        assertThat(Either.left(Problem.INVALID)).isSameAs(Either.left(Problem.INVALID));
+        assertThat(Either.left(Problem.MISSING)).isSameAs(Either.left(Problem.MISSING)).isEqualTo(new Left<>(Problem.MISSING));
+        assertThat(Either.left(Problem.INVALID)).isNotSameAs(Either.left(Problem.MISSING));
+        assertThat(Either.left("message")).isNotSameAs(Either.left("message")).isEqualTo(Either.left("message"));
+    }
+
+    @Test
+    void shouldShareRightsOfConstants() {
+        assertThat(Either.unit()).isSameAs(Either.right(Unit.INSTANCE)).isEqualTo(new Right<>(Unit.INSTANCE));
+        assertThat(Either.right(true)).isSameAs(Either.right(true));
+        assertThat(Either.right(-128)).isSameAs(Either.right(-128));
+        assertThat(Either.right(127)).isSameAs(Either.<String, Integer>right(100).map(i -> i + 27));
+        assertThat(Either.right(128)).isNotSameAs(Either.right(128)).isEqualTo(Either.right(128));
+    }
 }
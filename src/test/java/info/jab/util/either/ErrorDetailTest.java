@@ -0,0 +1,91 @@
+package info.jab.util.either;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class ErrorDetailTest {
+
+    @Test
+    void should_notFormatTheMessageOfADiscardedLeft() {
+        AtomicInteger formatted = new AtomicInteger();
+        Object expensive = new Object() {
+            @Override
+            public String toString() {
+                formatted.incrementAndGet();
+                return "expensive";
+            }
+        };
+
+        Either<ErrorDetail, String> result = Either.left(ErrorDetail.format("Cannot fetch {}", expensive));
+        String value = result.getOrElse(() -> "fallback");
+
+        assertThat(value).isEqualTo("fallback");
+        assertThat(formatted).hasValue(0);
+        assertThat(result.fold(ErrorDetail::message, r -> r)).isEqualTo("Cannot fetch expensive");
+        assertThat(result.fold(ErrorDetail::message, r -> r)).isEqualTo("Cannot fetch expensive");
+        assertThat(formatted).hasValue(1);
+    }
+
+    @Test
+    void should_keepEagerAndLazyParts() {
+        AtomicInteger calls = new AtomicInteger();
+        ErrorDetail base = ErrorDetail.of("Payment refused");
+        ErrorDetail detail = base
+            .with("orderId", 42)
+            .withLazy("balance", () -> calls.incrementAndGet() * 100)
+            .with("orderId", 43)
+            .causedBy(() -> new IllegalStateException("insufficient funds"));
+
+        assertThat(calls).hasValue(0);
+        assertThat(detail.message()).isEqualTo("Payment refused");
+        assertThat(detail.context()).containsExactly(Map.entry("balance", 100), Map.entry("orderId", 43));
+        assertThat(detail.context()).isSameAs(detail.context());
+        assertThat(detail.cause()).get().isInstanceOf(IllegalStateException.class).isSameAs(detail.cause().orElseThrow());
+        assertThat(detail.toString()).isEqualTo("Payment refused {balance=100, orderId=43}");
+        assertThat(calls).hasValue(1);
+        assertThat(base.context()).isEmpty();
+        assertThat(base.cause()).isEmpty();
+        assertThat(base.toString()).isEqualTo("Payment refused");
+    }
+
+    @Test
+    void should_computeTheMessageOnceAcrossThreads() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        ErrorDetail detail = ErrorDetail.lazy(() -> "computed " + calls.incrementAndGet());
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<String>> messages = new ArrayList<>();
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 16; i++) {
+                messages.add(executor.submit(() -> {
+                    start.await();
+                    return detail.message();
+                }));
+            }
+            start.countDown();
+        }
+
+        for (Future<String> message : messages) {
+            assertThat(message.get()).isEqualTo("computed 1");
+        }
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void should_rejectNulls() {
+        ErrorDetail detail = ErrorDetail.lazy(() -> null);
+
+        assertThatThrownBy(detail::message).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> ErrorDetail.of(null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> detail.with("key", null)).isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,69 @@
+package info.jab.util.either;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.NoSuchElementException;
+import java.util.OptionalInt;
+import org.junit.jupiter.api.Test;
+
+class IntEitherTest {
+
+    private final IntEither<String> right = IntEither.right(21);
+    private final IntEither<String> left = IntEither.left("error");
+
+    @Test
+    void should_create_left_and_right() {
+        assertThat(right.isRight()).isTrue();
+        assertThat(right.isLeft()).isFalse();
+        assertThat(left.isLeft()).isTrue();
+        assertThat(left.isRight()).isFalse();
+    }
+
+    @Test
+    void should_not_accept_null_left() {
+        assertThatThrownBy(() -> IntEither.left(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_map_right_and_keep_left() {
+        assertThat(right.map(value -> value * 2)).isEqualTo(IntEither.right(42));
+        assertThat(left.map(value -> value * 2)).isSameAs(left);
+    }
+
+    @Test
+    void should_flatMap_right_and_keep_left() {
+        assertThat(right.flatMap(value -> IntEither.left("too big"))).isEqualTo(IntEither.left("too big"));
+        assertThat(left.flatMap(value -> IntEither.right(value))).isSameAs(left);
+    }
+
+    @Test
+    void should_mapToObj() {
+        assertThat(right.mapToObj(String::valueOf)).isEqualTo(Either.right(String.valueOf(21)));
+        assertThat(left.mapToObj(String::valueOf)).isEqualTo(Either.left("error"));
+    }
+
+    @Test
+    void should_fold() {
+        String foldedRight = right.fold(error -> "left", value -> "right");
+        String foldedLeft = left.fold(error -> error, value -> "right");
+        assertThat(foldedRight).isEqualTo("right");
+        assertThat(foldedLeft).isEqualTo("error");
+    }
+
+    @Test
+    void should_get_or_else() {
+        assertThat(right.getOrElse(() -> 0)).isEqualTo(21);
+        assertThat(left.getOrElse(() -> 0)).isEqualTo(0);
+        assertThat(right.get()).isEqualTo(21);
+        assertThatThrownBy(left::get).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void should_convert() {
+        assertThat(right.toOptional()).isEqualTo(OptionalInt.of(21));
+        assertThat(left.toOptional()).isEqualTo(OptionalInt.empty());
+        assertThat(right.boxed()).isEqualTo(Either.right(21));
+        assertThat(left.boxed()).isEqualTo(Either.left("error"));
+    }
+}
@@ -0,0 +1,101 @@
+package info.jab.util.either;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LongEitherColumnTest {
+
+    private static final int NEGATIVE = 1;
+    private static final int ODD = 2;
+
+    @Test
+    void should_startAsLeftRows() {
+        try (Arena arena = Arena.ofConfined()) {
+            LongEitherColumn column = LongEitherColumn.allocate(arena, 3);
+
+            assertThat(column.size()).isEqualTo(3);
+            assertThat(column.leftCount()).isEqualTo(3);
+            assertThat(column.get(1)).isEqualTo(LongEither.left(0));
+        }
+    }
+
+    @Test
+    void should_mapFilterAndReduceOffHeap() {
+        try (Arena arena = Arena.ofConfined()) {
+            LongEitherColumn column = LongEitherColumn.allocate(arena, 10);
+            for (long row = 0; row < 10; row++) {
+                if (row % 5 == 0) {
+                    column.setLeft(row, NEGATIVE);
+                } else {
+                    column.setRight(row, row);
+                }
+            }
+
+            column.map(value -> value * 10).filter(value -> value % 20 == 0, ODD);
+
+            assertThat(column.rightCount()).isEqualTo(4);
+            assertThat(column.count(NEGATIVE)).isEqualTo(2);
+            assertThat(column.count(ODD)).isEqualTo(4);
+            assertThat(column.reduce(0, Long::sum)).isEqualTo(20 + 40 + 60 + 80);
+            assertThat(column.value(2)).isEqualTo(20);
+            assertThat(column.errorCode(3)).isEqualTo(ODD);
+            assertThatThrownBy(() -> column.value(3)).isInstanceOf(NoSuchElementException.class);
+            assertThatThrownBy(() -> column.errorCode(2)).isInstanceOf(NoSuchElementException.class);
+            assertThatThrownBy(() -> column.isRight(10)).isInstanceOf(IndexOutOfBoundsException.class);
+        }
+    }
+
+    @Test
+    void should_reopenMappedFile(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("column.bin");
+        try (Arena arena = Arena.ofConfined()) {
+            LongEitherColumn column = LongEitherColumn.create(file, 4, arena);
+            column.setRight(0, 7).setLeft(1, ODD).setRight(2, -3).setRight(3, 11);
+        }
+
+        try (Arena arena = Arena.ofConfined()) {
+            LongEitherColumn column = LongEitherColumn.open(file, arena);
+
+            assertThat(column.size()).isEqualTo(4);
+            assertThat(column.get(0)).isEqualTo(LongEither.right(7));
+            assertThat(column.get(1)).isEqualTo(LongEither.left(ODD));
+            assertThat(column.reduce(0, Long::sum)).isEqualTo(15);
+        }
+    }
+
+    @Test
+    void should_reopenReadOnlyFile(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("column.bin");
+        try (Arena arena = Arena.ofConfined()) {
+            LongEitherColumn.create(file, 2, arena).setRight(0, 5).setLeft(1, ODD);
+        }
+        assertThat(file.toFile().setReadOnly()).isTrue();
+
+        try (Arena arena = Arena.ofConfined()) {
+            LongEitherColumn column = LongEitherColumn.open(file, FileChannel.MapMode.READ_ONLY, arena);
+
+            assertThat(column.segment().isReadOnly()).isTrue();
+            assertThat(column.get(0)).isEqualTo(LongEither.right(5));
+            assertThat(column.rightCount()).isEqualTo(1);
+            assertThatThrownBy(() -> column.setRight(1, 3)).isInstanceOf(UnsupportedOperationException.class);
+        }
+    }
+
+    @Test
+    void should_rejectUnknownFile(@TempDir Path directory) throws IOException {
+        Path file = Files.write(directory.resolve("other.bin"), new byte[32]);
+
+        try (Arena arena = Arena.ofConfined()) {
+            assertThatThrownBy(() -> LongEitherColumn.open(file, arena)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
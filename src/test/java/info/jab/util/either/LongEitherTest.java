@@ -0,0 +1,69 @@
+package info.jab.util.either;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.NoSuchElementException;
+import java.util.OptionalLong;
+import org.junit.jupiter.api.Test;
+
+class LongEitherTest {
+
+    private final LongEither<String> right = LongEither.right(21L);
+    private final LongEither<String> left = LongEither.left("error");
+
+    @Test
+    void should_create_left_and_right() {
+        assertThat(right.isRight()).isTrue();
+        assertThat(right.isLeft()).isFalse();
+        assertThat(left.isLeft()).isTrue();
+        assertThat(left.isRight()).isFalse();
+    }
+
+    @Test
+    void should_not_accept_null_left() {
+        assertThatThrownBy(() -> LongEither.left(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_map_right_and_keep_left() {
+        assertThat(right.map(value -> value * 2)).isEqualTo(LongEither.right(42L));
+        assertThat(left.map(value -> value * 2)).isSameAs(left);
+    }
+
+    @Test
+    void should_flatMap_right_and_keep_left() {
+        assertThat(right.flatMap(value -> LongEither.left("too big"))).isEqualTo(LongEither.left("too big"));
+        assertThat(left.flatMap(value -> LongEither.right(value))).isSameAs(left);
+    }
+
+    @Test
+    void should_mapToObj() {
+        assertThat(right.mapToObj(String::valueOf)).isEqualTo(Either.right(String.valueOf(21L)));
+        assertThat(left.mapToObj(String::valueOf)).isEqualTo(Either.left("error"));
+    }
+
+    @Test
+    void should_fold() {
+        String foldedRight = right.fold(error -> "left", value -> "right");
+        String foldedLeft = left.fold(error -> error, value -> "right");
+        assertThat(foldedRight).isEqualTo("right");
+        assertThat(foldedLeft).isEqualTo("error");
+    }
+
+    @Test
+    void should_get_or_else() {
+        assertThat(right.getOrElse(() -> 0L)).isEqualTo(21L);
+        assertThat(left.getOrElse(() -> 0L)).isEqualTo(0L);
+        assertThat(right.get()).isEqualTo(21L);
+        assertThatThrownBy(left::get).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void should_convert() {
+        assertThat(right.toOptional()).isEqualTo(OptionalLong.of(21L));
+        assertThat(left.toOptional()).isEqualTo(OptionalLong.empty());
+        assertThat(right.boxed()).isEqualTo(Either.right(21L));
+        assertThat(left.boxed()).isEqualTo(Either.left("error"));
+    }
+}
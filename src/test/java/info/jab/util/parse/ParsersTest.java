@@ -0,0 +1,160 @@
+package info.jab.util.parse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import info.jab.util.either.Either;
+import info.jab.util.either.IntEither;
+import info.jab.util.either.LongEither;
+import info.jab.util.parse.ParseError.Code;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.time.LocalDate;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ParsersTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = { "0", "-0", "+7", "42", "-100", "2147483647", "-2147483648", "0002147483647" })
+    void should_parseIntLikeIntegerParseInt(String input) {
+        assertThat(Parsers.parseInt(input)).isEqualTo(Either.right(Integer.parseInt(input)));
+        assertThat(Parsers.parseIntEither(input)).isEqualTo(IntEither.right(Integer.parseInt(input)));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "'', EMPTY, 0",
+        "-, MISSING_DIGITS, 1",
+        "+, MISSING_DIGITS, 1",
+        "12a4, UNEXPECTED_CHAR, 2",
+        "' 1', UNEXPECTED_CHAR, 0",
+        "1.0, UNEXPECTED_CHAR, 1",
+        "--1, UNEXPECTED_CHAR, 1",
+        "2147483648, OUT_OF_RANGE, 9",
+        "-2147483649, OUT_OF_RANGE, 10",
+        "99999999999, OUT_OF_RANGE, 9"
+    })
+    void should_rejectInvalidInts(String input, Code code, int offset) {
+        assertThat(Parsers.parseInt(input)).isEqualTo(Either.left(new ParseError(code, offset)));
+    }
+
+    @Test
+    void should_parseLongs() {
+        assertThat(Parsers.parseLong("9223372036854775807")).isEqualTo(Either.right(Long.MAX_VALUE));
+        assertThat(Parsers.parseLongEither("-9223372036854775808")).isEqualTo(LongEither.right(Long.MIN_VALUE));
+        assertThat(Parsers.parseLong("9223372036854775808")).isEqualTo(Either.left(new ParseError(Code.OUT_OF_RANGE, 18)));
+        assertThat(Parsers.parseLong("12x")).isEqualTo(Either.left(new ParseError(Code.UNEXPECTED_CHAR, 2)));
+    }
+
+    @Test
+    void should_parseARangeWithOffsetsInTheInput() {
+        String line = "x=123;y=-45;z=6b";
+
+        assertThat(Parsers.parseInt(line, 2, 5)).isEqualTo(Either.right(123));
+        assertThat(Parsers.parseLong(line, 8, 11)).isEqualTo(Either.right(-45L));
+        assertThat(Parsers.parseIntEither(line, 14, 16)).isEqualTo(IntEither.left(new ParseError(Code.UNEXPECTED_CHAR, 15)));
+        assertThat(Parsers.parseLongEither(line, 5, 5)).isEqualTo(LongEither.left(new ParseError(Code.EMPTY, 5)));
+        assertThatThrownBy(() -> Parsers.parseInt(line, 10, 20)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "0", "-1.5", "+.5", "1.", "6.02e23", "1E-7", "-0.0", "123456789.123456789" })
+    void should_parseDecimalsLikeTheJdk(String input) {
+        assertThat(Parsers.parseDouble(input)).isEqualTo(Either.right(Double.parseDouble(input)));
+        assertThat(Parsers.parseBigDecimal(input)).isEqualTo(Either.right(new BigDecimal(input)));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "'', EMPTY, 0",
+        "., MISSING_DIGITS, 1",
+        "-e5, UNEXPECTED_CHAR, 1",
+        "1e, MISSING_DIGITS, 2",
+        "1e+, MISSING_DIGITS, 3",
+        "1.2.3, UNEXPECTED_CHAR, 3",
+        "1e5x, UNEXPECTED_CHAR, 3",
+        "NaN, UNEXPECTED_CHAR, 0",
+        "Infinity, UNEXPECTED_CHAR, 0",
+        "1.5d, UNEXPECTED_CHAR, 3"
+    })
+    void should_rejectInvalidDecimals(String input, Code code, int offset) {
+        assertThat(Parsers.parseDouble(input)).isEqualTo(Either.left(new ParseError(code, offset)));
+        assertThat(Parsers.parseBigDecimal(input)).isEqualTo(Either.left(new ParseError(code, offset)));
+    }
+
+    @Test
+    void should_reportDecimalsOutOfRange() {
+        assertThat(Parsers.parseDouble("1e400")).isEqualTo(Either.left(new ParseError(Code.OUT_OF_RANGE, 0)));
+        assertThat(Parsers.parseBigDecimal("1e400")).isEqualTo(Either.right(new BigDecimal("1e400")));
+        assertThat(Parsers.parseBigDecimal("1e0000999999999")).isEqualTo(Either.right(new BigDecimal("1e999999999")));
+        assertThat(Parsers.parseBigDecimal("1e9999999999")).isEqualTo(Either.left(new ParseError(Code.OUT_OF_RANGE, 2)));
+    }
+
+    @Test
+    void should_parseUuids() {
+        String uuid = "123e4567-E89B-12d3-a456-426614174000";
+
+        assertThat(Parsers.parseUuid(uuid)).isEqualTo(Either.right(UUID.fromString(uuid)));
+        assertThat(Parsers.parseUuid(uuid.substring(1))).isEqualTo(Either.left(new ParseError(Code.WRONG_LENGTH, 0)));
+        assertThat(Parsers.parseUuid(uuid.replace('-', '_'))).isEqualTo(Either.left(new ParseError(Code.UNEXPECTED_CHAR, 8)));
+        assertThat(Parsers.parseUuid(uuid.replace('a', 'g'))).isEqualTo(Either.left(new ParseError(Code.UNEXPECTED_CHAR, 19)));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "2024-02-29, , 0",
+        "0000-01-01, , 0",
+        "2023-02-29, INVALID_DATE, 8",
+        "2024-04-31, INVALID_DATE, 8",
+        "2024-00-10, INVALID_DATE, 5",
+        "2024-13-10, INVALID_DATE, 5",
+        "2024-01-00, INVALID_DATE, 8",
+        "2024/01/01, UNEXPECTED_CHAR, 4",
+        "2024-1-01, WRONG_LENGTH, 0",
+        "20x4-01-01, UNEXPECTED_CHAR, 2"
+    })
+    void should_parseIsoDates(String input, Code code, int offset) {
+        Either<ParseError, LocalDate> result = Parsers.parseLocalDate(input);
+
+        assertThat(result).isEqualTo(code == null ? Either.right(LocalDate.parse(input)) : Either.left(new ParseError(code, offset)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "https://www.example.com/path?query=1#top",
+        "mailto:john.doe@example.com",
+        "relative/path%20with%20spaces",
+        "http://[::1]:8080/",
+        "urn:isbn:0451450523",
+        "https://example.com/café"
+    })
+    void should_parseUrisLikeJavaNetUri(String input) {
+        assertThat(Parsers.parseUri(input)).isEqualTo(Either.right(URI.create(input)));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "'', EMPTY, 0",
+        "not a url, UNEXPECTED_CHAR, 3",
+        "1http://example.com, UNEXPECTED_CHAR, 0",
+        ":path, UNEXPECTED_CHAR, 0",
+        "http://example.com/a%2, MALFORMED_ESCAPE, 20",
+        "http://example.com/a%zz, MALFORMED_ESCAPE, 20",
+        "http://example.com/#a#b, UNEXPECTED_CHAR, 21",
+        "http://example.com/<tag>, UNEXPECTED_CHAR, 19",
+        "'http://[::1/', UNEXPECTED_CHAR, 11"
+    })
+    void should_rejectInvalidUris(String input, Code code, int offset) {
+        assertThat(Parsers.parseUri(input)).isEqualTo(Either.left(new ParseError(code, offset)));
+    }
+
+    @Test
+    void should_validateParseErrors() {
+        assertThatThrownBy(() -> new ParseError(null, 0)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> new ParseError(Code.EMPTY, -1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
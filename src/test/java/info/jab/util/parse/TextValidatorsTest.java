@@ -0,0 +1,156 @@
+package info.jab.util.parse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import info.jab.util.either.Either;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class TextValidatorsTest {
+
+    @ParameterizedTest
+    @CsvSource({
+        "john.doe@example.com",
+        "a@b.co",
+        "first.last+tag@sub.example.org",
+        "o'hara_!#$%&*/=?^`{|}~@x-y.io"
+    })
+    void should_acceptValidEmails(String email) {
+        assertThat(TextValidators.email(email)).isEqualTo(Either.right(email));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "'', EMPTY",
+        "john.doe.example.com, MISSING_AT",
+        "john@doe@example.com, MULTIPLE_AT",
+        "@example.com, EMPTY_LOCAL_PART",
+        "john doe@example.com, INVALID_LOCAL_PART_CHAR",
+        ".john@example.com, INVALID_LOCAL_PART_DOT",
+        "john.@example.com, INVALID_LOCAL_PART_DOT",
+        "john..doe@example.com, INVALID_LOCAL_PART_DOT",
+        "john@, EMPTY_DOMAIN",
+        "john@-example.com, INVALID_DOMAIN",
+        "john@example..com, INVALID_DOMAIN",
+        "john@localhost, DOMAIN_WITHOUT_DOT"
+    })
+    void should_rejectInvalidEmails(String email, EmailError expected) {
+        assertThat(TextValidators.email(email)).isEqualTo(Either.left(expected));
+    }
+
+    @Test
+    void should_rejectEmailsOverTheLengthLimits() {
+        String local = "a".repeat(65);
+        String domain = ("b".repeat(60) + ".").repeat(5) + "com";
+
+        assertThat(TextValidators.email(local + "@example.com")).isEqualTo(Either.left(EmailError.LOCAL_PART_TOO_LONG));
+        assertThat(TextValidators.email("a@" + domain)).isEqualTo(Either.left(EmailError.TOO_LONG));
+    }
+
+    @Test
+    void should_shareTheLeftOfAnError() {
+        assertThat(TextValidators.email("no-at")).isSameAs(TextValidators.email("still-no-at"));
+        assertThat(TextValidators.uuid("")).isSameAs(TextValidators.uuid("x"));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "example.com, ",
+        "localhost, ",
+        "a-b.c1.io, ",
+        "'', EMPTY",
+        ".example.com, EMPTY_LABEL",
+        "example.com., EMPTY_LABEL",
+        "exa_mple.com, INVALID_CHAR",
+        "exámple.com, INVALID_CHAR",
+        "-example.com, HYPHEN_AT_LABEL_EDGE",
+        "example-.com, HYPHEN_AT_LABEL_EDGE"
+    })
+    void should_validateHostnames(String hostname, HostnameError expected) {
+        Either<HostnameError, CharSequence> result = TextValidators.hostname(hostname);
+
+        assertThat(result).isEqualTo(expected == null ? Either.right(hostname) : Either.left(expected));
+    }
+
+    @Test
+    void should_rejectHostnamesOverTheLengthLimits() {
+        assertThat(TextValidators.hostname("a".repeat(64) + ".com")).isEqualTo(Either.left(HostnameError.LABEL_TOO_LONG));
+        assertThat(TextValidators.hostname("a.".repeat(127))).isEqualTo(Either.left(HostnameError.TOO_LONG));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "0, , ",
+        "-42, , ",
+        "+123456789012345678901234567890, , ",
+        "1.5, INVALID_CHAR, ",
+        "'', EMPTY, EMPTY",
+        "-, MISSING_DIGITS, MISSING_DIGITS",
+        "12a, INVALID_CHAR, INVALID_CHAR",
+        "1-2, INVALID_CHAR, INVALID_CHAR",
+        "'.5', INVALID_CHAR, ",
+        "'-1.', INVALID_CHAR, ",
+        "'.', INVALID_CHAR, MISSING_DIGITS",
+        "1.2.3, INVALID_CHAR, MULTIPLE_DECIMAL_POINTS"
+    })
+    void should_validateNumbers(String number, NumericError integerError, NumericError decimalError) {
+        Either<NumericError, CharSequence> integer = TextValidators.integer(number);
+        Either<NumericError, CharSequence> decimal = TextValidators.decimal(number);
+
+        assertThat(integer).isEqualTo(integerError == null ? Either.right(number) : Either.left(integerError));
+        assertThat(decimal).isEqualTo(decimalError == null ? Either.right(number) : Either.left(decimalError));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "123e4567-e89b-12d3-a456-426614174000, ",
+        "123E4567-E89B-12D3-A456-426614174000, ",
+        "123e4567-e89b-12d3-a456-42661417400, WRONG_LENGTH",
+        "123e4567ae89b-12d3-a456-426614174000, MISSING_HYPHEN",
+        "123e4567-e89b-12d3-a456-42661417400g, INVALID_HEX_DIGIT"
+    })
+    void should_validateUuids(String uuid, UuidError expected) {
+        Either<UuidError, CharSequence> result = TextValidators.uuid(uuid);
+
+        assertThat(result).isEqualTo(expected == null ? Either.right(uuid) : Either.left(expected));
+    }
+
+    @Test
+    void should_validateARangeOfACharSequence() {
+        String line = "id=42;mail=john.doe@example.com;host=example.com";
+
+        Either<NumericError, CharSequence> id = TextValidators.integer(line, 3, 5);
+        Either<EmailError, CharSequence> mail = TextValidators.email(line, 11, 31);
+        Either<HostnameError, CharSequence> host = TextValidators.hostname(line, 37, line.length());
+
+        assertThat(id.get().toString()).isEqualTo("42");
+        assertThat(mail.get().toString()).isEqualTo("john.doe@example.com");
+        assertThat(host.get().toString()).isEqualTo("example.com");
+        assertThat(TextValidators.email(line, 0, 31)).isEqualTo(Either.left(EmailError.INVALID_LOCAL_PART_CHAR));
+    }
+
+    @Test
+    void should_validateARangeOfBytes() {
+        byte[] bytes = "[123e4567-e89b-12d3-a456-426614174000|john.doe@example.com]".getBytes(StandardCharsets.US_ASCII);
+
+        Either<UuidError, ByteBuffer> uuid = TextValidators.uuid(bytes, 1, 36);
+        Either<EmailError, ByteBuffer> email = TextValidators.email(bytes, 38, 20);
+
+        assertThat(StandardCharsets.US_ASCII.decode(uuid.get()).toString()).isEqualTo("123e4567-e89b-12d3-a456-426614174000");
+        assertThat(StandardCharsets.US_ASCII.decode(email.get()).toString()).isEqualTo("john.doe@example.com");
+        assertThat(TextValidators.integer(bytes, 1, 4)).isEqualTo(Either.left(NumericError.INVALID_CHAR));
+        assertThat(TextValidators.decimal(bytes, 2, 2)).isEqualTo(Either.right(ByteBuffer.wrap(bytes, 2, 2).slice()));
+        assertThat(TextValidators.hostname(new byte[] {'a', (byte) 0xE9}, 0, 2)).isEqualTo(Either.left(HostnameError.INVALID_CHAR));
+    }
+
+    @Test
+    void should_checkTheRange() {
+        assertThatThrownBy(() -> TextValidators.email("abc", 2, 4)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> TextValidators.uuid(new byte[4], 1, 4)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> TextValidators.integer((CharSequence) null)).isInstanceOf(NullPointerException.class);
+    }
+}
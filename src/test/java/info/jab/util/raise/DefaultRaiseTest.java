@@ -1,6 +1,8 @@
 package info.jab.util.raise;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -51,4 +53,19 @@ class DefaultRaiseTest {
         assertThrows(RaiseLeakedException.class, () -> raiseWithTrace.raise(ERROR_MESSAGE));
         assertThrows(RaiseLeakedException.class, () -> raiseWithoutTrace.raise(ERROR_MESSAGE));
     }
+
+    @Test
+    void testNoTraceHasNoStackTrace() {
+        NoTrace noTrace = assertThrows(NoTrace.class, () -> raiseWithoutTrace.raise(ERROR_MESSAGE));
+        assertEquals(0, noTrace.getStackTrace().length);
+    }
+
+    @Test
+    void testNoTraceKeepsItsRaisedError() {
+        NoTrace first = assertThrows(NoTrace.class, () -> raiseWithoutTrace.raise(ERROR_MESSAGE));
+        NoTrace second = assertThrows(NoTrace.class, () -> raiseWithoutTrace.raise("Other error"));
+        assertNotSame(first, second);
+        assertEquals(ERROR_MESSAGE, first.getRaised());
+        assertEquals("Other error", second.getRaised());
+    }
 }
@@ -8,6 +8,7 @@ import info.jab.util.either.Either;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
@@ -174,4 +175,20 @@ class RaiseTest {
 
         assertEquals("Caught Exception: Some Exception", result);
     }
+
+    @Test
+    void should_reject_an_escaped_raise_inside_a_later_fold() {
+        //Given
+        var escaped = new AtomicReference<Raise<? super String>>();
+        Either.<String, Integer>either(raise -> {
+            escaped.set(raise);
+            return 42;
+        });
+
+        //When
+        //Then
+        assertThatThrownBy(() -> Either.<String, Integer>either(raise -> escaped.get().raise("error")))
+            .isInstanceOf(RuntimeException.class)
+            .hasCauseInstanceOf(RaiseLeakedException.class);
+    }
 }
@@ -0,0 +1,82 @@
+package info.jab.util.raise;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import info.jab.util.either.Either;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class RaiseTracingTest {
+
+    @AfterEach
+    void tearDown() {
+        RaiseTracing.disable();
+    }
+
+    private static Either<String, Integer> failing(String error) {
+        return Either.either(raise -> raise.raise(error));
+    }
+
+    @Test
+    void should_not_record_traces_when_disabled() {
+        failing("error");
+
+        assertThat(RaiseTracing.isEnabled()).isFalse();
+        assertThat(RaiseTracing.dump()).isEmpty();
+    }
+
+    @Test
+    void should_record_every_raise_with_sample_rate_one() {
+        RaiseTracing.enable(1, 8, 16);
+
+        var result = failing("error");
+
+        assertThat(result).isEqualTo(Either.left("error"));
+        assertThat(RaiseTracing.dump()).hasSize(1);
+        var trace = RaiseTracing.dump().get(0);
+        assertThat(trace.raised()).isEqualTo("error");
+        assertThat(trace.frames()).hasSizeLessThanOrEqualTo(8);
+        assertThat(trace.frames().get(0).getClassName()).isEqualTo(RaiseTracingTest.class.getName());
+    }
+
+    @Test
+    void should_sample_one_in_n_raises_per_error_type() {
+        RaiseTracing.enable(4, 8, 64);
+
+        IntStream.range(0, 8).forEach(i -> failing("error"));
+        IntStream.range(0, 8).forEach(i -> Either.either(raise -> raise.raise(i)));
+
+        var traces = RaiseTracing.dump();
+        assertThat(traces).hasSize(4);
+        assertThat(traces).filteredOn(trace -> trace.raised() instanceof String).hasSize(2);
+        assertThat(traces).filteredOn(trace -> trace.raised() instanceof Integer).hasSize(2);
+    }
+
+    @Test
+    void should_keep_latest_traces_in_ring_buffer() {
+        RaiseTracing.enable(1, 4, 3);
+
+        IntStream.range(0, 10).forEach(i -> failing("error-" + i));
+
+        // @formatter:off
+        assertThat(RaiseTracing.dump())
+            .extracting(RaiseTrace::raised)
+            .containsExactly("error-7", "error-8", "error-9");
+        // @formatter:on
+    }
+
+    @Test
+    void should_throw_traced_with_limited_stack_when_sampled() {
+        RaiseTracing.enable(1, 2, 4);
+        var raise = new DefaultRaise<String>(false);
+
+        assertThatThrownBy(() -> raise.raise("error")).isInstanceOf(Traced.class).satisfies(ex -> assertThat(ex.getStackTrace()).hasSize(2));
+    }
+
+    @Test
+    void should_reject_invalid_configuration() {
+        assertThatThrownBy(() -> RaiseTracing.enable(0, 1, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
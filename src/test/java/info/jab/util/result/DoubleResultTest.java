@@ -0,0 +1,66 @@
+package info.jab.util.result;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Optional;
+import java.util.OptionalDouble;
+import org.junit.jupiter.api.Test;
+
+class DoubleResultTest {
+
+    private final IllegalStateException exception = new IllegalStateException("error");
+    private final DoubleResult success = DoubleResult.success(21.5);
+    private final DoubleResult failure = DoubleResult.failure(exception);
+
+    @Test
+    void should_create_success_and_failure() {
+        assertThat(success.isSuccess()).isTrue();
+        assertThat(success.isFailure()).isFalse();
+        assertThat(failure.isFailure()).isTrue();
+        assertThat(failure.isSuccess()).isFalse();
+        assertThatThrownBy(() -> DoubleResult.failure(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_run_catching() {
+        assertThat(DoubleResult.runCatching(() -> 21.5)).isEqualTo(success);
+        assertThat(DoubleResult.runCatching(() -> {
+            throw exception;
+        })).isEqualTo(failure);
+    }
+
+    @Test
+    void should_map_success_and_keep_failure() {
+        assertThat(success.map(value -> value * 2)).isEqualTo(DoubleResult.success(43.0));
+        assertThat(failure.map(value -> value * 2)).isSameAs(failure);
+        assertThat(success.mapToObj(String::valueOf)).isEqualTo(Result.success(String.valueOf(21.5)));
+        assertThat(failure.mapToObj(String::valueOf).isFailure()).isTrue();
+    }
+
+    @Test
+    void should_flatMap_success_and_keep_failure() {
+        assertThat(success.flatMap(value -> DoubleResult.success(value * 2))).isEqualTo(DoubleResult.success(43.0));
+        assertThat(failure.flatMap(value -> DoubleResult.success(value * 2))).isSameAs(failure);
+    }
+
+    @Test
+    void should_recover_and_fold() {
+        assertThat(failure.recover(ex -> 0.0)).isEqualTo(DoubleResult.success(0.0));
+        assertThat(success.recover(ex -> 0.0)).isSameAs(success);
+        assertThat(success.fold("none", String::valueOf)).isEqualTo(String.valueOf(21.5));
+        assertThat(failure.fold("none", String::valueOf)).isEqualTo("none");
+    }
+
+    @Test
+    void should_get_values() {
+        assertThat(success.getValue()).isEqualTo(OptionalDouble.of(21.5));
+        assertThat(failure.getValue()).isEqualTo(OptionalDouble.empty());
+        assertThat(success.getException()).isEmpty();
+        assertThat(failure.getException()).isEqualTo(Optional.of(exception));
+        assertThat(success.getOrElse(() -> 0.0)).isEqualTo(21.5);
+        assertThat(failure.getOrElse(() -> 0.0)).isEqualTo(0.0);
+        assertThat(success.boxed()).isEqualTo(Result.success(21.5));
+        assertThat(failure.boxed()).isEqualTo(Result.failure(exception));
+    }
+}
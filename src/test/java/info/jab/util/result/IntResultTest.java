@@ -0,0 +1,66 @@
+package info.jab.util.result;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Optional;
+import java.util.OptionalInt;
+import org.junit.jupiter.api.Test;
+
+class IntResultTest {
+
+    private final IllegalStateException exception = new IllegalStateException("error");
+    private final IntResult success = IntResult.success(21);
+    private final IntResult failure = IntResult.failure(exception);
+
+    @Test
+    void should_create_success_and_failure() {
+        assertThat(success.isSuccess()).isTrue();
+        assertThat(success.isFailure()).isFalse();
+        assertThat(failure.isFailure()).isTrue();
+        assertThat(failure.isSuccess()).isFalse();
+        assertThatThrownBy(() -> IntResult.failure(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_run_catching() {
+        assertThat(IntResult.runCatching(() -> 21)).isEqualTo(success);
+        assertThat(IntResult.runCatching(() -> {
+            throw exception;
+        })).isEqualTo(failure);
+    }
+
+    @Test
+    void should_map_success_and_keep_failure() {
+        assertThat(success.map(value -> value * 2)).isEqualTo(IntResult.success(42));
+        assertThat(failure.map(value -> value * 2)).isSameAs(failure);
+        assertThat(success.mapToObj(String::valueOf)).isEqualTo(Result.success(String.valueOf(21)));
+        assertThat(failure.mapToObj(String::valueOf).isFailure()).isTrue();
+    }
+
+    @Test
+    void should_flatMap_success_and_keep_failure() {
+        assertThat(success.flatMap(value -> IntResult.success(value * 2))).isEqualTo(IntResult.success(42));
+        assertThat(failure.flatMap(value -> IntResult.success(value * 2))).isSameAs(failure);
+    }
+
+    @Test
+    void should_recover_and_fold() {
+        assertThat(failure.recover(ex -> 0)).isEqualTo(IntResult.success(0));
+        assertThat(success.recover(ex -> 0)).isSameAs(success);
+        assertThat(success.fold("none", String::valueOf)).isEqualTo(String.valueOf(21));
+        assertThat(failure.fold("none", String::valueOf)).isEqualTo("none");
+    }
+
+    @Test
+    void should_get_values() {
+        assertThat(success.getValue()).isEqualTo(OptionalInt.of(21));
+        assertThat(failure.getValue()).isEqualTo(OptionalInt.empty());
+        assertThat(success.getException()).isEmpty();
+        assertThat(failure.getException()).isEqualTo(Optional.of(exception));
+        assertThat(success.getOrElse(() -> 0)).isEqualTo(21);
+        assertThat(failure.getOrElse(() -> 0)).isEqualTo(0);
+        assertThat(success.boxed()).isEqualTo(Result.success(21));
+        assertThat(failure.boxed()).isEqualTo(Result.failure(exception));
+    }
+}
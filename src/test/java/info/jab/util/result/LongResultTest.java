@@ -0,0 +1,66 @@
+package info.jab.util.result;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Optional;
+import java.util.OptionalLong;
+import org.junit.jupiter.api.Test;
+
+class LongResultTest {
+
+    private final IllegalStateException exception = new IllegalStateException("error");
+    private final LongResult success = LongResult.success(21L);
+    private final LongResult failure = LongResult.failure(exception);
+
+    @Test
+    void should_create_success_and_failure() {
+        assertThat(success.isSuccess()).isTrue();
+        assertThat(success.isFailure()).isFalse();
+        assertThat(failure.isFailure()).isTrue();
+        assertThat(failure.isSuccess()).isFalse();
+        assertThatThrownBy(() -> LongResult.failure(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_run_catching() {
+        assertThat(LongResult.runCatching(() -> 21L)).isEqualTo(success);
+        assertThat(LongResult.runCatching(() -> {
+            throw exception;
+        })).isEqualTo(failure);
+    }
+
+    @Test
+    void should_map_success_and_keep_failure() {
+        assertThat(success.map(value -> value * 2)).isEqualTo(LongResult.success(42L));
+        assertThat(failure.map(value -> value * 2)).isSameAs(failure);
+        assertThat(success.mapToObj(String::valueOf)).isEqualTo(Result.success(String.valueOf(21L)));
+        assertThat(failure.mapToObj(String::valueOf).isFailure()).isTrue();
+    }
+
+    @Test
+    void should_flatMap_success_and_keep_failure() {
+        assertThat(success.flatMap(value -> LongResult.success(value * 2))).isEqualTo(LongResult.success(42L));
+        assertThat(failure.flatMap(value -> LongResult.success(value * 2))).isSameAs(failure);
+    }
+
+    @Test
+    void should_recover_and_fold() {
+        assertThat(failure.recover(ex -> 0L)).isEqualTo(LongResult.success(0L));
+        assertThat(success.recover(ex -> 0L)).isSameAs(success);
+        assertThat(success.fold("none", String::valueOf)).isEqualTo(String.valueOf(21L));
+        assertThat(failure.fold("none", String::valueOf)).isEqualTo("none");
+    }
+
+    @Test
+    void should_get_values() {
+        assertThat(success.getValue()).isEqualTo(OptionalLong.of(21L));
+        assertThat(failure.getValue()).isEqualTo(OptionalLong.empty());
+        assertThat(success.getException()).isEmpty();
+        assertThat(failure.getException()).isEqualTo(Optional.of(exception));
+        assertThat(success.getOrElse(() -> 0L)).isEqualTo(21L);
+        assertThat(failure.getOrElse(() -> 0L)).isEqualTo(0L);
+        assertThat(success.boxed()).isEqualTo(Result.success(21L));
+        assertThat(failure.boxed()).isEqualTo(Result.failure(exception));
+    }
+}
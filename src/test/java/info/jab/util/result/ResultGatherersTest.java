@@ -0,0 +1,78 @@
+package info.jab.util.result;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class ResultGatherersTest {
+
+    private static final IllegalArgumentException INVALID = new IllegalArgumentException("invalid");
+
+    private static Result<Integer> validate(int value) {
+        return value % 4 == 3 ? Result.failure(INVALID) : Result.success(value);
+    }
+
+    @Test
+    void should_failFast() {
+        AtomicInteger pulled = new AtomicInteger();
+
+        // @formatter:off
+        List<Result<Integer>> result = Stream.iterate(0, i -> i + 1)
+            .peek(i -> pulled.incrementAndGet())
+            .map(ResultGatherersTest::validate)
+            .gather(ResultGatherers.failFast())
+            .toList();
+        // @formatter:on
+
+        assertThat(result).hasSize(4).last().matches(Result::isFailure);
+        assertThat(pulled).hasValue(4);
+    }
+
+    @Test
+    void should_keepSuccessesOrFailures() {
+        List<Result<Integer>> results = Stream.of(1, 2, 3).map(ResultGatherersTest::validate).toList();
+
+        assertThat(results.stream().gather(ResultGatherers.successes()).toList()).containsExactly(1, 2);
+        assertThat(results.stream().gather(ResultGatherers.failures()).toList()).containsExactly(INVALID);
+    }
+
+    @Test
+    void should_accumulateUpToBound() {
+        // @formatter:off
+        List<ResultPartition<Integer>> result = Stream.iterate(0, i -> i + 1)
+            .map(ResultGatherersTest::validate)
+            .gather(ResultGatherers.accumulate(2))
+            .toList();
+        // @formatter:on
+
+        assertThat(result).hasSize(1);
+        assertThat(result.getFirst().successes()).containsExactly(0, 1, 2, 4, 5, 6);
+        assertThat(result.getFirst().failures()).containsExactly(INVALID, INVALID);
+    }
+
+    @Test
+    void should_validateWindows() {
+        // @formatter:off
+        List<Result<List<Integer>>> result = Stream.of(0, 1, 2, 3, 4, 5)
+            .map(ResultGatherersTest::validate)
+            .gather(ResultGatherers.windows(4))
+            .toList();
+        // @formatter:on
+
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).getException()).contains(INVALID);
+        assertThat(result.get(1).getValue()).contains(List.of(4, 5));
+    }
+
+    @Test
+    void should_mapConcurrentCatchingExceptions() {
+        List<Result<Integer>> result = Stream.of(1, 0, 4).gather(ResultGatherers.<Integer, Integer>mapConcurrent(2, i -> 8 / i)).toList();
+
+        assertThat(result.get(0).getValue()).contains(8);
+        assertThat(result.get(1).getException()).containsInstanceOf(ArithmeticException.class);
+        assertThat(result.get(2).getValue()).contains(2);
+    }
+}
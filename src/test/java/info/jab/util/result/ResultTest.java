@@ -1,11 +1,20 @@
 package info.jab.util.result;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import info.jab.util.either.Either;
+import info.jab.util.either.ErrorDetail;
+import info.jab.util.either.Unit;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 
 class ResultTest {
@@ -85,6 +94,14 @@ class ResultTest {
         assertEquals(Optional.empty(), flatMappedFailureResult.getValue());
     }
 
+    @Test
+    void testFailurePropagatesSameInstance() {
+        Result<Integer> failureResult = Result.failure(new Exception("Failure"));
+        Result<String> chained = failureResult.map(value -> value * 2).flatMap(value -> Result.success(value + 1)).map(String::valueOf);
+
+        assertSame(failureResult, chained);
+    }
+
     @Test
     void testRecover() {
         Result<Integer> successResult = Result.success(5);
@@ -160,4 +177,99 @@ class ResultTest {
         String foldedValue = successResult.fold("", value -> String.valueOf(doubler.doubleValue(value)));
         assertEquals("6.28", foldedValue);
     }
+
+    @Test
+    void testSequenceSuccesses() {
+        List<Result<Integer>> results = List.of(Result.success(1), Result.success(2));
+
+        assertEquals(Result.success(List.of(1, 2)), Result.sequence(results));
+        assertEquals(Result.success(List.of(1, 2)), Result.sequence(results.stream()));
+    }
+
+    @Test
+    void testTraverseStopsAtFirstFailure() {
+        AtomicInteger pulled = new AtomicInteger();
+        IllegalStateException exception = new IllegalStateException("too big");
+        Stream<Integer> infinite = Stream.iterate(0, i -> i + 1).peek(i -> pulled.incrementAndGet());
+
+        Result<List<Integer>> result = Result.traverse(infinite, i -> i < 3 ? Result.success(i) : Result.failure(exception));
+
+        assertSame(exception, result.getException().orElseThrow());
+        assertEquals(4, pulled.get());
+    }
+
+    @Test
+    void testPartitioningWithParallelStream() {
+        IllegalArgumentException exception = new IllegalArgumentException("odd");
+        // @formatter:off
+        ResultPartition<Integer> partition = IntStream.range(0, 1_000).parallel().boxed()
+            .map(i -> i % 2 == 0 ? Result.success(i) : Result.<Integer>failure(exception))
+            .collect(Result.partitioning());
+        // @formatter:on
+
+        assertThat(partition.successes()).hasSize(500).startsWith(0, 2, 4);
+        assertThat(partition.failures()).hasSize(500).containsOnly(exception);
+    }
+
+    @Test
+    void testParTraverse() {
+        List<Integer> values = IntStream.range(0, 10_000).boxed().toList();
+        IllegalStateException exception = new IllegalStateException("invalid");
+
+        Result<List<Integer>> success = Result.parTraverse(values, Result::success);
+        Result<List<Integer>> failure = Result.parTraverse(values, i -> i >= 5_000 ? Result.failure(exception) : Result.success(i));
+
+        assertEquals(values, success.getValue().orElseThrow());
+        assertSame(exception, failure.getException().orElseThrow());
+        assertEquals(Result.success(List.of(1, 2)), Result.parSequence(List.of(Result.success(1), Result.success(2))));
+    }
+
+    @Test
+    void testLoop() {
+        IllegalStateException exception = new IllegalStateException("stopped");
+
+        Result<Integer> result = Result.loop(0, i -> Result.success(i < 1_000_000 ? Either.left(i + 1) : Either.right(i)));
+        Result<Integer> failure = Result.loop(0, i -> i == 10 ? Result.failure(exception) : Result.success(Either.<Integer, Integer>left(i + 1)));
+
+        assertEquals(Result.success(1_000_000), result);
+        assertSame(exception, failure.getException().orElseThrow());
+    }
+
+    @Test
+    void testSharedSuccesses() {
+        assertSame(Result.unit(), Result.success(Unit.INSTANCE));
+        assertSame(Result.success(false), Result.runCatching(() -> false));
+        assertSame(Result.success(7), Result.success(3).map(i -> i + 4));
+        assertThat(Result.success(1000)).isNotSameAs(Result.success(1000)).isEqualTo(Result.success(1000));
+        assertThat(Result.success(null)).isEqualTo(Result.success(null));
+    }
+
+    @Test
+    void testLazyFailure() {
+        AtomicInteger formatted = new AtomicInteger();
+        Result<Integer> failure = Result.failure(() -> "attempt " + formatted.incrementAndGet() + " failed");
+
+        assertEquals(7, failure.getOrElse(() -> 7));
+        assertEquals(0, formatted.get());
+
+        Throwable exception = failure.getException().orElseThrow();
+        assertTrue(exception instanceof DeferredException);
+        assertEquals(0, exception.getStackTrace().length);
+        assertEquals("attempt 1 failed", exception.getMessage());
+        assertEquals("attempt 1 failed", exception.getMessage());
+        assertEquals(1, formatted.get());
+    }
+
+    @Test
+    void testFailureWithTemplateAndDetail() {
+        Result<String> templated = Result.failure("User {} not found in {}", 42, "db");
+        IllegalStateException cause = new IllegalStateException("closed");
+        Result<String> detailed = Result.failure(ErrorDetail.of("Lookup failed").with("user", 42).causedBy(cause));
+
+        assertEquals("User 42 not found in db", templated.getException().orElseThrow().getMessage());
+        DeferredException exception = (DeferredException) detailed.getException().orElseThrow();
+        assertSame(cause, exception.getCause());
+        assertEquals(42, exception.detail().context().get("user"));
+        assertEquals("Lookup failed", detailed.recover(Throwable::getMessage).getOrElse(() -> ""));
+    }
 }
@@ -0,0 +1,148 @@
+package info.jab.util.scope;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import info.jab.util.either.Either;
+import info.jab.util.result.Result;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.StructuredTaskScope.Subtask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class BoundedScopeTest {
+
+    @Test
+    void should_neverRunMoreTasksThanTheLimit() throws InterruptedException {
+        var running = new AtomicInteger();
+        var peak = new AtomicInteger();
+        try (var scope = new BoundedScope<Integer>(8)) {
+            for (int i = 0; i < 2_000; i++) {
+                int value = i;
+                scope.fork(() -> {
+                    peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    Thread.sleep(1);
+                    running.decrementAndGet();
+                    return value;
+                });
+            }
+            scope.join();
+
+            assertThat(peak.get()).isLessThanOrEqualTo(8);
+            assertThat(scope.peakInFlight()).isBetween(1, 8).isGreaterThanOrEqualTo(peak.get());
+            assertThat(scope.inFlight()).isZero();
+            assertThat(scope.results()).hasSize(2_000).allMatch(Result::isSuccess);
+        }
+    }
+
+    @Test
+    void should_reportTheTasksInFlight() throws InterruptedException {
+        var started = new CountDownLatch(2);
+        var release = new CountDownLatch(1);
+        try (var scope = new BoundedScope<String>(2)) {
+            for (int i = 0; i < 5; i++) {
+                scope.fork(() -> {
+                    started.countDown();
+                    release.await();
+                    return "done";
+                });
+            }
+
+            started.await();
+            assertThat(scope.inFlight()).isEqualTo(2);
+            release.countDown();
+            scope.join();
+
+            assertThat(scope.inFlight()).isZero();
+            assertThat(scope.peakInFlight()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void should_returnAResultPerTaskInForkOrder() throws InterruptedException {
+        try (var scope = new BoundedScope<Integer>(2)) {
+            IntStream.range(0, 4).forEach(i -> scope.fork(() -> {
+                if (i == 2) {
+                    throw new IllegalStateException("boom");
+                }
+                return i;
+            }));
+            scope.join();
+
+            List<Result<Integer>> results = scope.results();
+
+            assertThat(results).hasSize(4);
+            assertThat(results.get(0)).isEqualTo(Result.success(0));
+            assertThat(results.get(1)).isEqualTo(Result.success(1));
+            assertThat(results.get(2).isFailure()).isTrue();
+            assertThat(results.get(3)).isEqualTo(Result.success(3));
+        }
+    }
+
+    @Test
+    void should_keepEitherTasksTyped() throws InterruptedException {
+        try (var scope = new BoundedScope<Either<String, Integer>>(4)) {
+            Subtask<Either<String, Integer>> ok = scope.fork(() -> Either.right(1));
+            Subtask<Either<String, Integer>> ko = scope.fork(() -> Either.left("not found"));
+            scope.join();
+
+            assertThat(ok.get()).isEqualTo(Either.right(1));
+            assertThat(ko.get()).isEqualTo(Either.left("not found"));
+            assertThat(BoundedScope.result(ko)).isEqualTo(Result.success(Either.left("not found")));
+        }
+    }
+
+    @Test
+    void should_failTheTasksStillWaitingOnShutdown() throws InterruptedException {
+        var started = new CountDownLatch(1);
+        var never = new CountDownLatch(1);
+        try (var scope = new BoundedScope<String>(1)) {
+            scope.fork(() -> {
+                started.countDown();
+                never.await();
+                return "never";
+            });
+            started.await();
+            Subtask<String> waiting = scope.fork(() -> "waiting");
+            scope.shutdown();
+            scope.join();
+
+            assertThat(waiting.state()).isNotEqualTo(Subtask.State.SUCCESS);
+            assertThatThrownBy(scope::results).isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Test
+    void should_rejectInvalidLimit() {
+        assertThatThrownBy(() -> new BoundedScope<String>(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void should_joinUntilTheCurrentDeadline() {
+        var interrupted = new CountDownLatch(1);
+
+        Either<Timeout, BoundedScope<String>> joined = Deadline.after(Duration.ofMillis(100)).run(() -> {
+            try (var scope = new BoundedScope<String>(1)) {
+                scope.fork(() -> {
+                    try {
+                        Thread.sleep(10_000);
+                        return "late";
+                    } catch (InterruptedException ex) {
+                        interrupted.countDown();
+                        throw ex;
+                    }
+                });
+                return Deadline.join(scope);
+            } catch (InterruptedException ex) {
+                throw new CompletionException(ex);
+            }
+        });
+
+        assertThat(joined.isLeft()).isTrue();
+        assertThat(interrupted.getCount()).isZero();
+    }
+}
@@ -0,0 +1,218 @@
+package info.jab.util.scope;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import info.jab.util.either.Either;
+import info.jab.util.result.Failure;
+import info.jab.util.result.Result;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.StructuredTaskScope;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class DeadlineTest {
+
+    enum Problem {
+        NOT_FOUND,
+        TIMEOUT
+    }
+
+    @Test
+    void should_haveNoCurrentDeadlineOutsideOfABlock() {
+        assertThat(Deadline.current()).isEmpty();
+    }
+
+    @Test
+    void should_bindTheDeadlineForABlock() {
+        Deadline deadline = Deadline.after(Duration.ofMinutes(1));
+
+        Optional<Deadline> current = deadline.run(Deadline::current);
+
+        assertThat(current).contains(deadline);
+        assertThat(Deadline.current()).isEmpty();
+    }
+
+    @Test
+    void should_onlyShrinkTheDeadlineOfNestedBlocks() {
+        Deadline outer = Deadline.after(Duration.ofSeconds(10));
+        Deadline longer = Deadline.after(Duration.ofMinutes(10));
+        Deadline shorter = Deadline.after(Duration.ofSeconds(1));
+
+        List<Deadline> nested = outer.run(() -> List.of(
+            longer.run(() -> Deadline.current().orElseThrow()),
+            shorter.run(() -> Deadline.current().orElseThrow())));
+
+        assertThat(nested).containsExactly(outer, shorter);
+    }
+
+    @Test
+    void should_inheritTheDeadlineInScopeSubtasks() throws InterruptedException {
+        Deadline deadline = Deadline.after(Duration.ofMinutes(1));
+
+        Optional<Deadline> inherited = deadline.run(() -> {
+            try (var scope = new StructuredTaskScope<Optional<Deadline>>()) {
+                var subtask = scope.fork(Deadline::current);
+                scope.join();
+                return subtask.get();
+            } catch (InterruptedException ex) {
+                throw new CompletionException(ex);
+            }
+        });
+
+        assertThat(inherited).contains(deadline);
+    }
+
+    @Test
+    void should_returnASuccessBeforeTheDeadline() {
+        Result<String> result = Deadline.after(Duration.ofSeconds(5)).result(() -> "done");
+
+        assertThat(result).isEqualTo(Result.success("done"));
+    }
+
+    @Test
+    void should_returnATypedFailureOnExpiry() {
+        var interrupted = new CountDownLatch(1);
+        Deadline deadline = Deadline.after(Duration.ofMillis(100));
+
+        Result<String> result = deadline.result(() -> {
+            try {
+                Thread.sleep(10_000);
+                return "late";
+            } catch (InterruptedException ex) {
+                interrupted.countDown();
+                throw ex;
+            }
+        });
+
+        assertThat(result).isInstanceOfSatisfying(Failure.class, failure ->
+            assertThat(failure.exception()).isInstanceOfSatisfying(DeadlineExceededException.class, ex ->
+                assertThat(ex.timeout()).isEqualTo(new Timeout(deadline))));
+        assertThat(interrupted.getCount()).isZero();
+    }
+
+    @Test
+    void should_keepTheExceptionOfTheTask() {
+        Result<String> result = Deadline.after(Duration.ofSeconds(5)).result(() -> {
+            throw new IllegalStateException("boom");
+        });
+
+        assertThat(result.isFailure()).isTrue();
+        assertThat(result).isInstanceOfSatisfying(Failure.class, failure ->
+            assertThat(failure.exception()).isInstanceOf(IllegalStateException.class));
+    }
+
+    @Test
+    void should_turnAnExpiryIntoALeft() {
+        Either<Problem, String> result = Deadline.after(Duration.ofMillis(50)).either(() -> {
+            Thread.sleep(10_000);
+            return Either.right("late");
+        }, timeout -> Problem.TIMEOUT);
+
+        assertThat(result).isEqualTo(Either.left(Problem.TIMEOUT));
+    }
+
+    @Test
+    void should_returnTheEitherOfTheTask() {
+        Deadline deadline = Deadline.after(Duration.ofSeconds(5));
+
+        Either<Problem, String> right = deadline.either(() -> Either.right("done"), timeout -> Problem.TIMEOUT);
+        Either<Problem, String> left = deadline.either(() -> Either.left(Problem.NOT_FOUND), timeout -> Problem.TIMEOUT);
+
+        assertThat(right).isEqualTo(Either.right("done"));
+        assertThat(left).isEqualTo(Either.left(Problem.NOT_FOUND));
+        assertThatThrownBy(() -> deadline.either(() -> {
+            throw new IllegalStateException("boom");
+        }, timeout -> Problem.TIMEOUT)).isInstanceOf(CompletionException.class).hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void should_notRunATaskOnceTheInheritedDeadlineExpired() {
+        Deadline expired = Deadline.at(Instant.now().minusSeconds(1));
+
+        Result<String> result = expired.run(() -> Deadline.after(Duration.ofMinutes(1)).result(() -> "never"));
+
+        assertThat(result.isFailure()).isTrue();
+    }
+
+    @Test
+    void should_joinScopesUntilTheCurrentDeadline() {
+        Either<Timeout, ?> result = Deadline.after(Duration.ofMillis(100)).run(() -> {
+            try (var scope = new StructuredTaskScope<String>()) {
+                scope.fork(() -> {
+                    Thread.sleep(10_000);
+                    return "late";
+                });
+                Either<Timeout, StructuredTaskScope<String>> joined = Deadline.join(scope);
+                assertThat(scope.isShutdown()).isTrue();
+                return joined;
+            } catch (InterruptedException ex) {
+                throw new CompletionException(ex);
+            }
+        });
+
+        assertThat(result.isLeft()).isTrue();
+    }
+
+    @Test
+    void should_joinScopesWithoutLimitWithoutADeadline() throws InterruptedException {
+        try (var scope = new StructuredTaskScope<String>()) {
+            scope.fork(() -> "done");
+
+            assertThat(Deadline.join(scope).isRight()).isTrue();
+        }
+    }
+
+    @Test
+    void should_raiseATimeoutInRaiseBlocks() {
+        Deadline deadline = Deadline.after(Duration.ofMillis(20));
+
+        Either<Timeout, Integer> result = deadline.run(() -> Either.either(raise -> {
+            Deadline.ensure(raise);
+            sleep(50);
+            Deadline.ensure(raise);
+            return 42;
+        }));
+
+        assertThat(result).isEqualTo(Either.left(new Timeout(deadline)));
+        assertThat(Either.<Timeout, Integer>either(raise -> {
+            Deadline.ensure(raise);
+            return 42;
+        })).isEqualTo(Either.right(42));
+    }
+
+    @Test
+    void should_notChangeCodeWhichDoesNotOptIn() {
+        Deadline expired = Deadline.at(Instant.now().minusSeconds(1));
+
+        Either<Problem, Integer> either = expired.run(() -> Either.either(raise -> 42));
+        Result<String> result = expired.run(() -> Result.runCatching(() -> "done"));
+
+        assertThat(either).isEqualTo(Either.right(42));
+        assertThat(result).isEqualTo(Result.success("done"));
+    }
+
+    @Test
+    void should_computeTheTimeLeft() {
+        Deadline deadline = Deadline.after(Duration.ofMinutes(1));
+
+        assertThat(deadline.isExpired()).isFalse();
+        assertThat(deadline.remaining()).isPositive().isLessThanOrEqualTo(Duration.ofMinutes(1));
+        assertThat(deadline.shrink(Duration.ofSeconds(10)).instant()).isEqualTo(deadline.instant().minusSeconds(10));
+        assertThat(Deadline.at(Instant.now().minusSeconds(1)).remaining()).isEqualTo(Duration.ZERO);
+        assertThatThrownBy(() -> Deadline.at(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package info.jab.util.scope;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import info.jab.util.either.Either;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.StructuredTaskScope.Subtask;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class EitherScopeTest {
+
+    enum Problem {
+        NOT_FOUND,
+        UNAVAILABLE,
+        UNEXPECTED
+    }
+
+    @Test
+    void should_returnTheValuesInForkOrder() throws InterruptedException {
+        try (var scope = new EitherScope<Problem, Integer>()) {
+            scope.fork(() -> {
+                Thread.sleep(50);
+                return Either.right(1);
+            });
+            scope.fork(() -> Either.right(2));
+            scope.fork(() -> Either.right(3));
+
+            Either<ForkError<Problem>, List<Integer>> result = scope.joinEither();
+
+            assertThat(result).isEqualTo(Either.right(List.of(1, 2, 3)));
+        }
+    }
+
+    @Test
+    void should_interruptTheSiblingsOnTheFirstLeft() throws InterruptedException {
+        var interrupted = new CountDownLatch(1);
+        try (var scope = new EitherScope<Problem, String>()) {
+            Subtask<Either<Problem, String>> slow = scope.fork(() -> {
+                try {
+                    Thread.sleep(10_000);
+                    return Either.right("slow");
+                } catch (InterruptedException ex) {
+                    interrupted.countDown();
+                    throw ex;
+                }
+            });
+            scope.fork(() -> Either.left(Problem.NOT_FOUND));
+
+            long start = System.nanoTime();
+            Either<ForkError<Problem>, List<String>> result = scope.joinEither();
+
+            assertThat(result).isEqualTo(Either.left(new ForkError<>(1, Problem.NOT_FOUND)));
+            assertThat(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start)).isLessThan(5);
+            assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(slow.state()).isNotEqualTo(Subtask.State.SUCCESS);
+        }
+    }
+
+    @Test
+    void should_keepOnlyTheFirstLeft() throws InterruptedException {
+        var never = new CountDownLatch(1);
+        try (var scope = new EitherScope<Problem, String>()) {
+            scope.fork(() -> {
+                never.await();
+                return Either.left(Problem.UNAVAILABLE);
+            });
+            scope.fork(() -> Either.left(Problem.NOT_FOUND));
+
+            Either<ForkError<Problem>, List<String>> result = scope.joinEither();
+
+            assertThat(result).isEqualTo(Either.left(new ForkError<>(1, Problem.NOT_FOUND)));
+        }
+    }
+
+    @Test
+    void should_combineHeterogeneousSubtasks() throws InterruptedException {
+        record Dashboard(String user, Integer orders) {}
+
+        try (var scope = new EitherScope<Problem, Object>()) {
+            Subtask<Either<Problem, String>> user = scope.fork(() -> Either.right("John"));
+            Subtask<Either<Problem, Integer>> orders = scope.fork(() -> Either.right(3));
+
+            Either<ForkError<Problem>, Dashboard> result = scope.joinEither(user, orders, Dashboard::new);
+
+            assertThat(result).isEqualTo(Either.right(new Dashboard("John", 3)));
+        }
+    }
+
+    @Test
+    void should_mapExceptionsToErrors() throws InterruptedException {
+        try (var scope = new EitherScope<Problem, String>(ex -> Problem.UNEXPECTED)) {
+            scope.fork(() -> Either.right("ok"));
+            scope.fork(() -> {
+                throw new IllegalStateException("boom");
+            });
+
+            Either<ForkError<Problem>, List<String>> result = scope.joinEither();
+
+            assertThat(result).isEqualTo(Either.left(new ForkError<>(1, Problem.UNEXPECTED)));
+        }
+    }
+
+    @Test
+    void should_rethrowExceptionsWithoutAMapper() {
+        assertThatThrownBy(() -> {
+            try (var scope = new EitherScope<Problem, String>()) {
+                scope.fork(() -> {
+                    throw new IllegalStateException("boom");
+                });
+                scope.joinEither();
+            }
+        }).isInstanceOf(CompletionException.class).hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void should_failFastAndRethrowErrorsEvenWithAMapper() {
+        var interrupted = new CountDownLatch(1);
+        assertThatThrownBy(() -> {
+            try (var scope = new EitherScope<Problem, String>(ex -> Problem.UNEXPECTED)) {
+                scope.fork(() -> {
+                    try {
+                        Thread.sleep(10_000);
+                        return Either.right("slow");
+                    } catch (InterruptedException ex) {
+                        interrupted.countDown();
+                        throw ex;
+                    }
+                });
+                scope.fork(() -> {
+                    throw new AssertionError("boom");
+                });
+                scope.joinEither();
+            }
+        }).isInstanceOf(CompletionException.class).hasCauseInstanceOf(AssertionError.class);
+        assertThat(interrupted.getCount()).isZero();
+    }
+
+    @Test
+    void should_validateForkErrors() {
+        assertThatThrownBy(() -> new ForkError<>(-1, Problem.NOT_FOUND)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ForkError<>(0, null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_joinUntilTheCurrentDeadline() {
+        var interrupted = new CountDownLatch(1);
+
+        Either<Timeout, EitherScope<Problem, String>> joined = Deadline.after(Duration.ofMillis(100)).run(() -> {
+            try (var scope = new EitherScope<Problem, String>()) {
+                scope.fork(() -> {
+                    try {
+                        Thread.sleep(10_000);
+                        return Either.right("late");
+                    } catch (InterruptedException ex) {
+                        interrupted.countDown();
+                        throw ex;
+                    }
+                });
+                return Deadline.join(scope);
+            } catch (InterruptedException ex) {
+                throw new CompletionException(ex);
+            }
+        });
+
+        assertThat(joined.isLeft()).isTrue();
+        assertThat(interrupted.getCount()).isZero();
+    }
+}
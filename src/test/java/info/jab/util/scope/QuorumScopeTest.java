@@ -0,0 +1,169 @@
+package info.jab.util.scope;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import info.jab.util.either.Either;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.StructuredTaskScope.Subtask;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class QuorumScopeTest {
+
+    enum Problem {
+        TIMEOUT,
+        UNAVAILABLE,
+        UNEXPECTED
+    }
+
+    @Test
+    void should_returnOnceTheQuorumIsReachedAndCancelTheRest() throws InterruptedException {
+        var interrupted = new CountDownLatch(1);
+        try (var scope = new QuorumScope<Problem, String>(2)) {
+            Subtask<Either<Problem, String>> slow = scope.fork(() -> {
+                try {
+                    Thread.sleep(10_000);
+                    return Either.right("slow");
+                } catch (InterruptedException ex) {
+                    interrupted.countDown();
+                    throw ex;
+                }
+            });
+            scope.fork(() -> Either.right("a"));
+            scope.fork(() -> Either.left(Problem.UNAVAILABLE));
+            scope.fork(() -> Either.right("b"));
+
+            Either<List<ForkError<Problem>>, List<String>> result = scope.joinQuorum();
+
+            assertThat(result.isRight()).isTrue();
+            assertThat(result.get()).containsExactlyInAnyOrder("a", "b");
+            assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(slow.state()).isNotEqualTo(Subtask.State.SUCCESS);
+        }
+    }
+
+    @Test
+    void should_returnTheErrorsOnceTheQuorumIsUnreachable() throws InterruptedException {
+        var never = new CountDownLatch(1);
+        try (var scope = new QuorumScope<Problem, String>(2)) {
+            scope.fork(() -> {
+                never.await();
+                return Either.right("never");
+            });
+            scope.fork(() -> Either.left(Problem.TIMEOUT));
+            scope.fork(() -> Either.left(Problem.UNAVAILABLE));
+
+            Either<List<ForkError<Problem>>, List<String>> result = scope.joinQuorum();
+
+            assertThat(result.isLeft()).isTrue();
+            assertThat(result.swap().get()).containsExactlyInAnyOrder(new ForkError<>(1, Problem.TIMEOUT), new ForkError<>(2, Problem.UNAVAILABLE));
+        }
+    }
+
+    @Test
+    void should_notGiveUpBeforeTheOwnerJoins() throws InterruptedException {
+        try (var scope = new QuorumScope<Problem, Integer>(1)) {
+            scope.fork(() -> Either.left(Problem.UNAVAILABLE));
+            Thread.sleep(50);
+            scope.fork(() -> Either.right(42));
+
+            Either<List<ForkError<Problem>>, List<Integer>> result = scope.joinQuorum();
+
+            assertThat(result).isEqualTo(Either.right(List.of(42)));
+        }
+    }
+
+    @Test
+    void should_failWhenFewerSubtasksThanTheQuorumAreForked() throws InterruptedException {
+        try (var scope = new QuorumScope<Problem, Integer>(3)) {
+            scope.fork(() -> Either.right(1));
+            scope.fork(() -> Either.right(2));
+
+            Either<List<ForkError<Problem>>, List<Integer>> result = scope.joinQuorum();
+
+            assertThat(result).isEqualTo(Either.left(List.of()));
+        }
+    }
+
+    @Test
+    void should_countMappedExceptionsAsErrors() throws InterruptedException {
+        try (var scope = new QuorumScope<Problem, Integer>(1, ex -> Problem.UNEXPECTED)) {
+            scope.fork(() -> {
+                throw new IllegalStateException("boom");
+            });
+
+            Either<List<ForkError<Problem>>, List<Integer>> result = scope.joinQuorum();
+
+            assertThat(result).isEqualTo(Either.left(List.of(new ForkError<>(0, Problem.UNEXPECTED))));
+        }
+    }
+
+    @Test
+    void should_rethrowExceptionsWithoutAMapper() {
+        assertThatThrownBy(() -> {
+            try (var scope = new QuorumScope<Problem, Integer>(1)) {
+                scope.fork(() -> {
+                    throw new IllegalStateException("boom");
+                });
+                scope.joinQuorum();
+            }
+        }).isInstanceOf(CompletionException.class).hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void should_failFastAndRethrowErrorsEvenWithAMapper() {
+        var interrupted = new CountDownLatch(1);
+        assertThatThrownBy(() -> {
+            try (var scope = new QuorumScope<Problem, Integer>(1, ex -> Problem.UNEXPECTED)) {
+                scope.fork(() -> {
+                    try {
+                        Thread.sleep(10_000);
+                        return Either.right(1);
+                    } catch (InterruptedException ex) {
+                        interrupted.countDown();
+                        throw ex;
+                    }
+                });
+                scope.fork(() -> {
+                    throw new AssertionError("boom");
+                });
+                scope.joinQuorum();
+            }
+        }).isInstanceOf(CompletionException.class).hasCauseInstanceOf(AssertionError.class);
+        assertThat(interrupted.getCount()).isZero();
+    }
+
+    @Test
+    void should_rejectInvalidQuorum() {
+        assertThatThrownBy(() -> new QuorumScope<Problem, Integer>(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void should_joinUntilTheCurrentDeadline() {
+        var interrupted = new CountDownLatch(1);
+
+        Either<Timeout, QuorumScope<Problem, String>> joined = Deadline.after(Duration.ofMillis(100)).run(() -> {
+            try (var scope = new QuorumScope<Problem, String>(1)) {
+                scope.fork(() -> {
+                    try {
+                        Thread.sleep(10_000);
+                        return Either.right("late");
+                    } catch (InterruptedException ex) {
+                        interrupted.countDown();
+                        throw ex;
+                    }
+                });
+                return Deadline.join(scope);
+            } catch (InterruptedException ex) {
+                throw new CompletionException(ex);
+            }
+        });
+
+        assertThat(joined.isLeft()).isTrue();
+        assertThat(interrupted.getCount()).isZero();
+    }
+}
@@ -0,0 +1,201 @@
+package info.jab.util.scope;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import info.jab.util.either.Either;
+import info.jab.util.result.Result;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.StructuredTaskScope.Subtask;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+class ResultScopeTest {
+
+    @Test
+    void should_streamSuccessesAndFailuresAfterJoin() throws InterruptedException {
+        try (var scope = new ResultScope<Integer>()) {
+            scope.fork(() -> 1);
+            scope.fork(() -> 2);
+            scope.fork(() -> {
+                throw new IllegalStateException("boom");
+            });
+
+            var partition = scope.join().stream().collect(Result.partitioning());
+
+            assertThat(partition.successes()).containsExactlyInAnyOrder(1, 2);
+            assertThat(partition.failures()).singleElement().isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Test
+    void should_streamResultsInCompletionOrderWhileTasksAreRunning() throws Exception {
+        var release = new CountDownLatch(1);
+        try (var scope = new ResultScope<String>(); var consumer = Executors.newVirtualThreadPerTaskExecutor()) {
+            scope.fork(() -> {
+                release.await();
+                return "slow";
+            });
+            scope.fork(() -> "fast");
+
+            Future<String> first = consumer.submit(() -> scope.stream().findFirst().orElseThrow().getOrElse(() -> "none"));
+
+            assertThat(first.get()).isEqualTo("fast");
+            release.countDown();
+            scope.join();
+            assertThat(scope.stream().map(result -> result.getOrElse(() -> "none")).toList()).containsExactly("slow");
+        }
+    }
+
+    @Test
+    void should_blockForkUntilAResultIsConsumed() throws Exception {
+        try (var scope = new ResultScope<Integer>(2); var consumer = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<List<Integer>> consumed = consumer.submit(() -> scope.stream().map(result -> result.getOrElse(() -> -1)).toList());
+
+            for (int i = 0; i < 20; i++) {
+                int value = i;
+                scope.fork(() -> value);
+                assertThat(scope.availableSlots()).isBetween(0, 2);
+            }
+            scope.join();
+
+            assertThat(consumed.get()).hasSize(20).containsExactlyInAnyOrderElementsOf(IntStream.range(0, 20).boxed().toList());
+            assertThat(scope.availableSlots()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void should_forkLazilyFromTheOwnerThread() throws InterruptedException {
+        var inFlight = new AtomicInteger();
+        var peak = new AtomicInteger();
+        try (var scope = new ResultScope<Integer>(4)) {
+            // @formatter:off
+            List<Integer> values = scope.forkAll(IntStream.range(0, 100).mapToObj(i -> (Callable<Integer>) () -> {
+                    peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    inFlight.decrementAndGet();
+                    return i;
+                }))
+                .map(result -> result.getOrElse(() -> -1))
+                .toList();
+            // @formatter:on
+            scope.join();
+
+            assertThat(values).containsExactlyInAnyOrderElementsOf(IntStream.range(0, 100).boxed().toList());
+            assertThat(peak.get()).isLessThanOrEqualTo(4);
+            assertThat(scope.stream().count()).isZero();
+        }
+    }
+
+    @Test
+    void should_endTheStreamWithCompletedResultsOnTimeout() throws InterruptedException {
+        try (var scope = new ResultScope<String>()) {
+            scope.fork(() -> "done");
+            scope.fork(() -> {
+                Thread.sleep(10_000);
+                return "never";
+            });
+
+            assertThatThrownBy(() -> scope.joinUntil(Instant.now().plusMillis(200))).isInstanceOf(TimeoutException.class);
+
+            assertThat(scope.isShutdown()).isTrue();
+            assertThat(scope.stream().count()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @Timeout(5)
+    void should_stopWaitingForASlotOnShutdown() throws InterruptedException {
+        try (var scope = new ResultScope<Integer>(1)) {
+            scope.fork(() -> {
+                Thread.sleep(200);
+                scope.shutdown();
+                return 1;
+            });
+
+            Subtask<Integer> waiting = scope.fork(() -> 2);
+            Subtask<Integer> afterShutdown = scope.fork(() -> 3);
+            scope.join();
+
+            assertThat(waiting.state()).isEqualTo(Subtask.State.UNAVAILABLE);
+            assertThat(afterShutdown.state()).isEqualTo(Subtask.State.UNAVAILABLE);
+            assertThat(scope.stream().count()).isZero();
+        }
+    }
+
+    @Test
+    @Timeout(5)
+    void should_endTheStreamsOfEveryConsumer() throws Exception {
+        var release = new CountDownLatch(1);
+        try (var scope = new ResultScope<Integer>(); var consumers = Executors.newVirtualThreadPerTaskExecutor()) {
+            scope.fork(() -> {
+                release.await();
+                return 1;
+            });
+            List<Future<Long>> counts = IntStream.range(0, 4).mapToObj(i -> consumers.submit(() -> scope.stream().count())).toList();
+
+            release.countDown();
+            scope.join();
+
+            long total = 0;
+            for (Future<Long> count : counts) {
+                total += count.get();
+            }
+            assertThat(total).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void should_rejectInvalidCapacity() {
+        assertThatThrownBy(() -> new ResultScope<>(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> {
+            try (var scope = new ResultScope<>()) {
+                scope.fork(null);
+            }
+        }).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_keepTheSubtaskApi() throws InterruptedException {
+        try (var scope = new ResultScope<Integer>()) {
+            var subtask = scope.fork(() -> 42);
+            scope.join();
+
+            assertThat(subtask.get()).isEqualTo(42);
+        }
+    }
+
+    @Test
+    void should_joinUntilTheCurrentDeadline() {
+        var interrupted = new CountDownLatch(1);
+
+        Either<info.jab.util.scope.Timeout, ResultScope<String>> joined = Deadline.after(Duration.ofMillis(100)).run(() -> {
+            try (var scope = new ResultScope<String>()) {
+                scope.fork(() -> {
+                    try {
+                        Thread.sleep(10_000);
+                        return "late";
+                    } catch (InterruptedException ex) {
+                        interrupted.countDown();
+                        throw ex;
+                    }
+                });
+                return Deadline.join(scope);
+            } catch (InterruptedException ex) {
+                throw new CompletionException(ex);
+            }
+        });
+
+        assertThat(joined.isLeft()).isTrue();
+        assertThat(interrupted.getCount()).isZero();
+    }
+}
@@ -0,0 +1,54 @@
+package info.jab.util.validated;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class ErrorChainTest {
+
+    @Test
+    void should_concatInOrder() {
+        ErrorChain<String> chain = ErrorChain.of("a", "b").concat(ErrorChain.of("c").concat(ErrorChain.of("d")));
+
+        assertThat(chain.toList()).containsExactly("a", "b", "c", "d");
+        assertThat(chain.stream()).containsExactly("a", "b", "c", "d");
+        assertThat(chain.head()).isEqualTo("a");
+        assertThat(chain.size()).isEqualTo(4);
+        assertThat(chain).hasToString("ErrorChain[a, b, c, d]");
+    }
+
+    @Test
+    void should_iterateDeepChainsWithoutRecursion() {
+        ErrorChain<Integer> chain = ErrorChain.of(0);
+        for (int i = 1; i < 200_000; i++) {
+            chain = chain.concat(ErrorChain.of(i));
+        }
+
+        assertThat(chain.size()).isEqualTo(200_000);
+        assertThat(chain.head()).isZero();
+        assertThat(chain.stream().mapToLong(Integer::longValue).sum()).isEqualTo(199_999L * 200_000 / 2);
+    }
+
+    @Test
+    void should_compareByContent() {
+        ErrorChain<String> left = ErrorChain.of("a").concat(ErrorChain.of("b")).concat(ErrorChain.of("c"));
+        ErrorChain<String> right = ErrorChain.of("a").concat(ErrorChain.of("b").concat(ErrorChain.of("c")));
+
+        assertThat(left).isEqualTo(right).hasSameHashCodeAs(right);
+        assertThat(left).isNotEqualTo(ErrorChain.of("a", "b"));
+    }
+
+    @Test
+    void should_limitConcatenation() {
+        ErrorPolicy<String> limit = ErrorPolicy.limit(3);
+
+        ErrorChain<String> chain = limit.concat(ErrorChain.of("a", "b"), ErrorChain.of("c", "d", "e"));
+        ErrorChain<String> full = limit.concat(chain, ErrorChain.of("f"));
+
+        assertThat(chain.toList()).containsExactly("a", "b", "c");
+        assertThat(chain.dropped()).isEqualTo(2);
+        assertThat(full.toList()).containsExactly("a", "b", "c");
+        assertThat(full.dropped()).isEqualTo(3);
+        assertThat(full).hasToString("ErrorChain[a, b, c] (+3 dropped)");
+    }
+}
@@ -0,0 +1,94 @@
+package info.jab.util.validated;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import info.jab.util.either.Either;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class ValidatedTest {
+
+    record User(String name, String email, int age) {}
+
+    private static Validated<String, String> name(String name) {
+        return name.isBlank() ? Validated.invalid("name is blank") : Validated.valid(name);
+    }
+
+    private static Validated<String, String> email(String email) {
+        return email.indexOf('@') < 0 ? Validated.invalid("email has no @") : Validated.valid(email);
+    }
+
+    private static Validated<String, Integer> age(int age) {
+        return age < 0 ? Validated.invalid("age is negative") : Validated.valid(age);
+    }
+
+    @Test
+    void should_combineValidValues() {
+        Validated<String, User> user = Validated.map3(name("Ada"), email("ada@example.com"), age(36), User::new);
+
+        assertThat(user).isEqualTo(Validated.valid(new User("Ada", "ada@example.com", 36)));
+        assertThat(user.toEither()).isEqualTo(Either.right(new User("Ada", "ada@example.com", 36)));
+    }
+
+    @Test
+    void should_accumulateAllErrors() {
+        Validated<String, User> user = Validated.map3(name(" "), email("ada"), age(-1), User::new);
+
+        assertThat(user.isInvalid()).isTrue();
+        List<String> errors = user.fold(ErrorChain::toList, u -> List.of());
+        assertThat(errors).containsExactly("name is blank", "email has no @", "age is negative");
+        assertThatThrownBy(user::get).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void should_map4AndKeepInvalidInstance() {
+        Validated<String, Integer> invalid = Validated.invalid("boom");
+
+        Validated<String, Integer> sum = Validated.map4(age(1), age(2), age(3), age(4), (a, b, c, d) -> a + b + c + d);
+
+        assertThat(sum.get()).isEqualTo(10);
+        assertThat(invalid.map(i -> i + 1)).isSameAs(invalid);
+        assertThat(Validated.map2(age(1), invalid, Integer::sum)).isSameAs(invalid);
+    }
+
+    @Test
+    void should_limitStoredErrors() {
+        List<Validated<String, Integer>> values = IntStream.range(0, 1_000).mapToObj(i -> age(-i - 1)).toList();
+
+        Validated<String, List<Integer>> result = Validated.sequence(values, ErrorPolicy.limit(3));
+
+        ErrorChain<String> errors = ((Invalid<String, List<Integer>>) result).errors();
+        assertThat(errors.size()).isEqualTo(3);
+        assertThat(errors.dropped()).isEqualTo(997);
+        assertThat(errors.total()).isEqualTo(1_000);
+    }
+
+    @Test
+    void should_deduplicateErrorsIntoCounts() {
+        // @formatter:off
+        List<Validated<String, String>> values = List.of(
+            email("a"), name(" "), email("b"), email("c"), Validated.valid("ok"));
+        // @formatter:on
+
+        Validated<String, List<String>> result = Validated.sequence(values, ErrorPolicy.deduplicate(error -> error));
+
+        ErrorChain<String> errors = ((Invalid<String, List<String>>) result).errors();
+        assertThat(errors.toList()).containsExactly("email has no @", "name is blank");
+        assertThat(errors.counts()).containsEntry("email has no @", 3L).containsEntry("name is blank", 1L);
+        assertThat(errors.total()).isEqualTo(4);
+    }
+
+    @Test
+    void should_sequenceValidValues() {
+        assertThat(Validated.sequence(List.of(age(1), age(2)), ErrorPolicy.unbounded())).isEqualTo(Validated.valid(List.of(1, 2)));
+    }
+
+    @Test
+    void should_convertFromEither() {
+        assertThat(Validated.fromEither(Either.left("error"))).isEqualTo(Validated.invalid("error"));
+        assertThat(Validated.fromEither(Either.right(1))).isEqualTo(Validated.valid(1));
+    }
+}
@@ -0,0 +1,86 @@
+package info.jab.util.validated;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import info.jab.util.either.Either;
+import info.jab.util.validated.ValidationPlan.Extractor;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class ValidationPlanTest {
+
+    private final AtomicInteger domainExtractions = new AtomicInteger();
+
+    private ValidationPlan<String, String> emailPlan() {
+        ValidationPlan.Builder<String, String> builder = ValidationPlan.builder();
+        Extractor<String, String> email = builder.input();
+        Extractor<String, Integer> at = builder.extract(email, s -> s.indexOf('@') < 0 ? null : s.indexOf('@'));
+        Extractor<String, String> domain = builder.extract(email, s -> {
+            domainExtractions.incrementAndGet();
+            return s.indexOf('@') < 0 ? null : s.substring(s.indexOf('@') + 1);
+        });
+        Extractor<String, String> tld = builder.extract(domain, d -> d.indexOf('.') < 0 ? null : d.substring(d.lastIndexOf('.') + 1));
+        // @formatter:off
+        return builder
+            .rule(tld, t -> t.length() == 3, "Invalid top-level domain")
+            .rule(domain, d -> d.indexOf('.') > 0, "Invalid domain format")
+            .rule(at, i -> i >= 5, "Username must be at least 5 characters")
+            .rule(email, s -> s.indexOf('@') >= 0, t -> "Missing @", 0)
+            .build();
+        // @formatter:on
+    }
+
+    @Test
+    void should_acceptValidValue() {
+        ValidationPlan<String, String> plan = emailPlan();
+
+        assertThat(plan.size()).isEqualTo(4);
+        assertThat(plan.validate("john.doe@example.com")).isEqualTo(Either.right("john.doe@example.com"));
+        assertThat(plan.validateAll("john.doe@example.com")).isEqualTo(Validated.valid("john.doe@example.com"));
+    }
+
+    @Test
+    void should_runCheapRulesFirst() {
+        ValidationPlan<String, String> plan = emailPlan();
+
+        assertThat(plan.validate("jd@example.c")).isEqualTo(Either.left("Username must be at least 5 characters"));
+        assertThat(plan.validate("john.doe")).isEqualTo(Either.left("Missing @"));
+    }
+
+    @Test
+    void should_accumulateErrorsInPlanOrder() {
+        Validated<String, String> result = emailPlan().validateAll("jd@com");
+
+        List<String> errors = result.fold(ErrorChain::toList, valid -> List.of());
+        assertThat(errors).containsExactly("Invalid domain format", "Username must be at least 5 characters");
+    }
+
+    @Test
+    void should_extractSharedPartsOnce() {
+        ValidationPlan<String, String> plan = emailPlan();
+
+        plan.validateAll("john.doe@example.com");
+
+        assertThat(domainExtractions).hasValue(1);
+    }
+
+    @Test
+    void should_skipRulesOnAbsentParts() {
+        Validated<String, String> result = emailPlan().validateAll("no-at-sign");
+
+        List<String> errors = result.fold(ErrorChain::toList, valid -> List.of());
+        assertThat(errors).containsExactly("Missing @");
+        assertThat(domainExtractions).hasValue(1);
+    }
+
+    @Test
+    void should_rejectForeignExtractors() {
+        ValidationPlan.Builder<String, String> other = ValidationPlan.builder();
+        Extractor<String, String> foreign = other.extract(other.input(), String::trim);
+        ValidationPlan.Builder<String, String> builder = ValidationPlan.builder();
+
+        assertThatThrownBy(() -> builder.rule(foreign, s -> true, "never")).isInstanceOf(IllegalArgumentException.class);
+    }
+}